@@ -0,0 +1,202 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.OrderItem;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.valueobjects.*;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.codec.CustomerCodec;
+import com.dutra.ordering.infrastructure.codec.OrderCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.hypersistence.tsid.TSID;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderCodec}/{@link CustomerCodec} contra JSON via Jackson com a representação textual dos tipos
+ * (TSID e UUID como string, {@link BigDecimal} e datas ISO). O {@link #main} imprime o tamanho de cada formato:
+ * {@code -Djmh.main=com.dutra.ordering.benchmark.AggregateCodecBenchmark -Djmh.args=}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AggregateCodecBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Param({"5", "100"})
+    private int items;
+
+    private Order order;
+    private Customer customer;
+    private ByteBuffer buffer;
+    private ByteBuffer encodedOrder;
+    private ByteBuffer encodedCustomer;
+    private byte[] jsonOrder;
+
+    @Setup
+    public void setUp() throws IOException {
+        order = anOrder(items);
+        customer = Customer.brandNew(new FullName("João", "da Silva"), new BirthDate(LocalDate.of(1990, 5, 20)),
+                new Email("joao@email.com"), new Phone("48999999999"), new Document("12345678900"), true,
+                BenchmarkFixtures.anAddress());
+        buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+        encodedOrder = ByteBuffer.allocateDirect(64 * 1024);
+        OrderCodec.encode(encodedOrder, order);
+        encodedOrder.flip();
+
+        encodedCustomer = ByteBuffer.allocateDirect(1024);
+        CustomerCodec.encode(encodedCustomer, customer);
+        encodedCustomer.flip();
+
+        jsonOrder = JSON.writeValueAsBytes(OrderDocument.of(order));
+    }
+
+    @Benchmark
+    public int encodeOrderBinary() {
+        buffer.clear();
+        OrderCodec.encode(buffer, order);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public Order decodeOrderBinary() {
+        return OrderCodec.decode(encodedOrder.duplicate());
+    }
+
+    @Benchmark
+    public int encodeCustomerBinary() {
+        buffer.clear();
+        CustomerCodec.encode(buffer, customer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public Customer decodeCustomerBinary() {
+        return CustomerCodec.decode(encodedCustomer.duplicate());
+    }
+
+    @Benchmark
+    public byte[] encodeOrderJson() throws IOException {
+        return JSON.writeValueAsBytes(OrderDocument.of(order));
+    }
+
+    @Benchmark
+    public Order decodeOrderJson() throws IOException {
+        return JSON.readValue(jsonOrder, OrderDocument.class).toOrder();
+    }
+
+    public static void main(String[] args) throws IOException {
+        for (int lines : new int[]{1, 5, 100}) {
+            Order order = anOrder(lines);
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            OrderCodec.encode(buffer, order);
+
+            System.out.printf("Itens: %3d  binário: %,6d bytes  JSON: %,6d bytes%n", lines, buffer.position(),
+                    JSON.writeValueAsBytes(OrderDocument.of(order)).length);
+        }
+    }
+
+    private static Order anOrder(int lines) {
+        Order order = Order.draft(new CustomerId());
+        order.changeShipping(BenchmarkFixtures.aShippingInfo(), new Money("15.00"),
+                BenchmarkFixtures.anExpectedDeliveryDate());
+        order.changeBillingInfo(BenchmarkFixtures.aBillingInfo());
+        order.changePaymentMethod(PaymentMethods.CREDIT_CARD);
+
+        for (int i = 0; i < lines; i++) {
+            order.addItem(new ProductId(), BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE,
+                    BenchmarkFixtures.QUANTITY);
+        }
+
+        order.place();
+        order.pullDomainEvents();
+        return order;
+    }
+
+    // Representação que um mapeamento genérico por reflexão produziria
+    public record OrderDocument(String id, String customerId, BigDecimal totalAmount, Integer totalItems,
+                                OffsetDateTime placedAt, OffsetDateTime paidAt, OffsetDateTime canceledAt,
+                                OffsetDateTime readyAt, BillingInfo billing, ShippingInfo shipping,
+                                OrderStatus orderStatus, PaymentMethods paymentMethod, BigDecimal shippingCost,
+                                LocalDate expectedDeliveryDate, List<ItemDocument> items) {
+
+        static OrderDocument of(Order order) {
+            return new OrderDocument(order.id().toString(), order.customerId().toString(),
+                    order.totalAmount().value(), order.totalItems().value(), order.placedAt(), order.paidAt(),
+                    order.canceledAt(), order.readyAt(), order.billing(), order.shipping(), order.orderStatus(),
+                    order.paymentMethod(), order.shippingCost() == null ? null : order.shippingCost().value(),
+                    order.expectedDeliveryDate(), order.items().stream().map(ItemDocument::of).toList());
+        }
+
+        Order toOrder() {
+            OrderId orderId = new OrderId(TSID.from(id));
+            Set<OrderItem> orderItems = new LinkedHashSet<>();
+            for (ItemDocument item : items) {
+                orderItems.add(item.toOrderItem(orderId));
+            }
+
+            return Order.existing()
+                    .id(orderId)
+                    .customerId(new CustomerId(UUID.fromString(customerId)))
+                    .totalAmount(new Money(totalAmount))
+                    .totalItems(Quantity.of(totalItems))
+                    .placedAt(placedAt)
+                    .paidAt(paidAt)
+                    .canceledAt(canceledAt)
+                    .readyAt(readyAt)
+                    .billing(billing)
+                    .shipping(shipping)
+                    .orderStatus(orderStatus)
+                    .paymentMethod(paymentMethod)
+                    .shippingCost(shippingCost == null ? null : new Money(shippingCost))
+                    .expectedDeliveryDate(expectedDeliveryDate)
+                    .items(orderItems)
+                    .build();
+        }
+    }
+
+    public record ItemDocument(String id, String productId, String productName, BigDecimal price,
+                               Integer quantity, BigDecimal totalAmount) {
+
+        static ItemDocument of(OrderItem item) {
+            return new ItemDocument(item.id().toString(), item.productId().toString(), item.productName().value(),
+                    item.price().value(), item.quantity().value(), item.totalAmount().value());
+        }
+
+        OrderItem toOrderItem(OrderId orderId) {
+            return OrderItem.existing()
+                    .id(new OrderItemId(TSID.from(id)))
+                    .orderId(orderId)
+                    .productId(new ProductId(UUID.fromString(productId)))
+                    .productName(new ProductName(productName))
+                    .price(new Money(price))
+                    .quantity(Quantity.of(quantity))
+                    .totalAmount(new Money(totalAmount))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.utility.BusinessCalendar;
+import com.dutra.ordering.domain.utility.DomainClock;
+import com.dutra.ordering.domain.valueobjects.*;
+
+import java.time.LocalDate;
+
+final class BenchmarkFixtures {
+
+    static final ProductName PRODUCT_NAME = new ProductName("Mouse pad");
+    static final Money PRICE = new Money("129.90");
+    static final Quantity QUANTITY = new Quantity(3);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Address anAddress() {
+        return new Address("Rua de Teste", "100", null, "São José", "Pantanal", "SC", new ZipCode("88000000"));
+    }
+
+    static ShippingInfo aShippingInfo() {
+        return new ShippingInfo(new FullName("Fulano", "de Tal"), new Document("12345678900"),
+                new Phone("48999999999"), anAddress());
+    }
+
+    static BillingInfo aBillingInfo() {
+        return new BillingInfo(new FullName("Fulano", "de Tal"), new Document("12345678900"),
+                new Phone("48999999999"), anAddress());
+    }
+
+    static LocalDate anExpectedDeliveryDate() {
+        return BusinessCalendar.current().addBusinessDays(DomainClock.today(), 5);
+    }
+}
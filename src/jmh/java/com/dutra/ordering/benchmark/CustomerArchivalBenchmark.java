@@ -0,0 +1,66 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.archiving.CustomerArchivalReport;
+import com.dutra.ordering.application.archiving.CustomerArchiver;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.valueobjects.*;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arquivamento de {@code customers} clientes um a um por {@link CustomerApplicationService#archive} e em lote
+ * pelo {@link CustomerArchiver}. Cada iteração recria os clientes.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerArchivalBenchmark {
+
+    @Param({"100000"})
+    private int customers;
+
+    @Param({"1", "4"})
+    private int workers;
+
+    private CustomerApplicationService customerApplicationService;
+    private CustomerArchiver archiver;
+    private List<CustomerId> customerIds;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        customerApplicationService = new CustomerApplicationService(customerRepository);
+        archiver = new CustomerArchiver(customerApplicationService, workers, 1000);
+
+        customerIds = new ArrayList<>(customers);
+        for (int i = 0; i < customers; i++) {
+            Customer customer = Customer.brandNew(new FullName("João", "da Silva"),
+                    new BirthDate(LocalDate.of(1990, 5, 20)), new Email("joao" + i + "@email.com"),
+                    new Phone("48999999999"), new Document("12345678900"), true, BenchmarkFixtures.anAddress());
+            customerRepository.save(customer);
+            customerIds.add(customer.id());
+        }
+    }
+
+    @Benchmark
+    public void oneByOne() {
+        for (CustomerId customerId : customerIds) {
+            customerApplicationService.archive(customerId);
+        }
+    }
+
+    @Benchmark
+    public CustomerArchivalReport bulk() {
+        return archiver.archiveAll(customerIds);
+    }
+}
@@ -0,0 +1,68 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.importing.CustomerImportReport;
+import com.dutra.ordering.application.importing.CustomerImporter;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importação de um CSV com {@code rows} clientes, 1% deles inválidos, variando os workers de conversão.
+ * Com {@code workers=1} os três estágios ainda rodam em paralelo, só a conversão não é dividida.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerImportBenchmark {
+
+    @Param({"200000"})
+    private int rows;
+
+    @Param({"1", "4"})
+    private int workers;
+
+    private Path file;
+    private CustomerImporter importer;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        file = Files.createTempFile("customers", ".csv");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("firstName,lastName,birthDate,email,phone,document,promotionNotificationsAllowed,"
+                    + "street,number,complement,neighborhood,city,state,zipCode\n");
+
+            for (int i = 0; i < rows; i++) {
+                String email = i % 100 == 0 ? "invalid" + i : "customer" + i + "@email.com";
+                writer.write("João,da Silva,1990-05-20," + email + ",48999999999,12345678900,true,"
+                        + "Rua das Flores,100,Apto 1,Centro,Florianópolis,SC,88000000\n");
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void newRepository() {
+        importer = new CustomerImporter(new CustomerApplicationService(new InMemoryCustomerRepository()),
+                workers, 500, 64, 1000);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public CustomerImportReport importCsv() {
+        return importer.importFile(file);
+    }
+}
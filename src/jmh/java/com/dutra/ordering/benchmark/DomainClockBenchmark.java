@@ -0,0 +1,86 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.utility.BusinessCalendar;
+import com.dutra.ordering.domain.utility.DomainClock;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code OffsetDateTime.now()}/{@code LocalDate.now()} contra o {@link DomainClock} com tick, e o
+ * {@link BusinessCalendar} contra a contagem dia a dia pulando fins de semana (sem feriados).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainClockBenchmark {
+
+    @Param({"5", "20"})
+    private int businessDays;
+
+    private BusinessCalendar calendar;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        DomainClock.useCoarse(ZoneId.systemDefault(), Duration.ofMillis(1));
+        today = DomainClock.today();
+        calendar = BusinessCalendar.brazil(today.getYear() - 1, today.getYear() + 10, List.of());
+    }
+
+    @TearDown
+    public void tearDown() {
+        DomainClock.useSystem(ZoneId.systemDefault());
+    }
+
+    @Benchmark
+    public OffsetDateTime systemNow() {
+        return OffsetDateTime.now();
+    }
+
+    @Benchmark
+    public OffsetDateTime coarseNow() {
+        return DomainClock.now();
+    }
+
+    @Benchmark
+    public LocalDate systemToday() {
+        return LocalDate.now();
+    }
+
+    @Benchmark
+    public LocalDate coarseToday() {
+        return DomainClock.today();
+    }
+
+    @Benchmark
+    public LocalDate addBusinessDaysCalendar() {
+        return calendar.addBusinessDays(today, businessDays);
+    }
+
+    @Benchmark
+    public LocalDate addBusinessDaysDayByDay() {
+        LocalDate result = today;
+        for (int remaining = businessDays; remaining > 0; ) {
+            result = result.plusDays(1);
+            if (result.getDayOfWeek() != DayOfWeek.SATURDAY && result.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                remaining--;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean isValidDeliveryDate() {
+        return calendar.isValidDeliveryDate(today.plusDays(businessDays), today);
+    }
+}
@@ -0,0 +1,97 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.catalog.ProductCatalog;
+import com.dutra.ordering.application.idempotency.IdempotencyStore;
+import com.dutra.ordering.application.model.OrderOutput;
+import com.dutra.ordering.application.model.QuantityInput;
+import com.dutra.ordering.application.service.OrderApplicationService;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.event.OrderStatusChangedEvent;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.metrics.DomainMetrics;
+import com.dutra.ordering.infrastructure.metrics.OrderMetricsListener;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import com.dutra.ordering.infrastructure.shipping.StubCarrierShippingQuoteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das métricas: a mesma alteração de pedido pelo {@link OrderApplicationService} sem registro
+ * ({@link DomainMetrics#NOOP}, sem listener) e com um {@link SimpleMeterRegistry} mais o
+ * {@link OrderMetricsListener}; e o listener sozinho recebendo a confirmação de um pedido.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainMetricsBenchmark {
+
+    private static final QuantityInput[] QUANTITIES = {new QuantityInput(1), new QuantityInput(2)};
+
+    private OrderApplicationService plainService;
+    private OrderApplicationService instrumentedService;
+    private OrderId plainOrderId;
+    private OrderId instrumentedOrderId;
+    private ProductId productId;
+    private OrderMetricsListener listener;
+    private List<OrderEvent> placedEvents;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        productId = new ProductId();
+
+        InMemoryOrderRepository plainRepository = new InMemoryOrderRepository();
+        plainService = new OrderApplicationService(plainRepository, new InMemoryCustomerRepository());
+        plainOrderId = saveOrder(plainRepository);
+
+        listener = new OrderMetricsListener(registry);
+        InMemoryOrderRepository instrumentedRepository = new InMemoryOrderRepository(List.of(listener));
+        instrumentedService = new OrderApplicationService(instrumentedRepository, new InMemoryCustomerRepository(),
+                new StubCarrierShippingQuoteService(), ProductCatalog.EMPTY,
+                new IdempotencyStore(100, Duration.ofMinutes(1), 1), new DomainMetrics(registry));
+        instrumentedOrderId = saveOrder(instrumentedRepository);
+
+        placedEvents = List.of(new OrderStatusChangedEvent(new OrderId(), new CustomerId(), OrderStatus.DRAFT,
+                OrderStatus.PLACED, new Money("389.70"), Quantity.of(3), OffsetDateTime.now()));
+    }
+
+    @Benchmark
+    public OrderOutput changeItemQuantityPlain() {
+        return plainService.changeItemQuantity(plainOrderId, productId, QUANTITIES[next++ & 1]);
+    }
+
+    @Benchmark
+    public OrderOutput changeItemQuantityInstrumented() {
+        return instrumentedService.changeItemQuantity(instrumentedOrderId, productId, QUANTITIES[next++ & 1]);
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> listenerPlaced() {
+        return listener.on(placedEvents);
+    }
+
+    private OrderId saveOrder(InMemoryOrderRepository orderRepository) {
+        Order order = Order.draft(new CustomerId());
+        order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+        orderRepository.save(order);
+        return order.id();
+    }
+}
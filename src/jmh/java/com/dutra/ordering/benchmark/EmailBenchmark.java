@@ -0,0 +1,63 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.utility.FieldsValidation;
+import com.dutra.ordering.domain.valueobjects.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmailBenchmark {
+
+    private String[] addresses;
+    private List<String> importBatch;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        addresses = new String[1024];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = "customer" + i + "@email.com.br";
+        }
+        importBatch = new ArrayList<>(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            importBatch.add("imported" + i + "@partner.com.br");
+        }
+    }
+
+    @Benchmark
+    public Email sameAddress() {
+        return new Email("joao@email.com");
+    }
+
+    @Benchmark
+    public Email distinctAddresses() {
+        next = (next + 1) & (addresses.length - 1);
+        return new Email(addresses[next]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Email distinctAddressesMultiThread() {
+        return distinctAddresses();
+    }
+
+    @Benchmark
+    public boolean invalidAddress() {
+        return FieldsValidation.isValidEmail("customer.email.com.br");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Map<String, Boolean> validateAll() {
+        return FieldsValidation.validateAll(importBatch);
+    }
+}
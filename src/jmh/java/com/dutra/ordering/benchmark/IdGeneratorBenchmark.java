@@ -0,0 +1,54 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.utility.IdGenerator;
+import io.hypersistence.tsid.TSID;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalabilidade: rode com {@code -t 1}, {@code -t 2}, {@code -t 4}... e compare os modos:
+ * {@code -Djmh.args="IdGeneratorBenchmark.generateTSID$ -t 8 -p mode=SHARED,STRIPED"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    @Param({"SHARED", "STRIPED"})
+    private IdGenerator.Mode mode;
+
+    @Setup
+    public void setUp() {
+        switch (mode) {
+            case SHARED -> IdGenerator.useShared();
+            case STRIPED -> IdGenerator.useStriped(0, 1, 64, 32);
+        }
+    }
+
+    @Benchmark
+    public TSID generateTSID() {
+        return IdGenerator.generateTSID();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public TSID generateTSIDMultiThread() {
+        return IdGenerator.generateTSID();
+    }
+
+    @Benchmark
+    public UUID generateTimeBasedUUID() {
+        return IdGenerator.generateTimeBasedUUID();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID generateTimeBasedUUIDMultiThread() {
+        return IdGenerator.generateTimeBasedUUID();
+    }
+}
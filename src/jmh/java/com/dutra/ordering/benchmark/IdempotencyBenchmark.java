@@ -0,0 +1,77 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.model.OrderOutput;
+import com.dutra.ordering.application.service.OrderApplicationService;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.exceptions.OrderStatusCannotBeChangedException;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempestade de retries de {@code place}: pedidos já confirmados recebendo a mesma requisição de novo. Com a
+ * chave de idempotência a repetição devolve a resposta guardada; sem ela o pedido é lido, copiado e rejeitado
+ * com {@link OrderStatusCannotBeChangedException}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdempotencyBenchmark {
+
+    private static final int ORDERS = 4_096;
+
+    private OrderApplicationService service;
+    private OrderId[] orderIds;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        service = new OrderApplicationService(orderRepository, new InMemoryCustomerRepository());
+        ProductId productId = new ProductId();
+
+        orderIds = new OrderId[ORDERS];
+        keys = new String[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = Order.draft(new CustomerId());
+            order.changeShipping(BenchmarkFixtures.aShippingInfo(), BenchmarkFixtures.PRICE,
+                    BenchmarkFixtures.anExpectedDeliveryDate());
+            order.changeBillingInfo(BenchmarkFixtures.aBillingInfo());
+            order.changePaymentMethod(PaymentMethods.CREDIT_CARD);
+            order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE,
+                    BenchmarkFixtures.QUANTITY);
+            orderRepository.save(order);
+
+            orderIds[i] = order.id();
+            keys[i] = "place-" + i;
+            service.place(orderIds[i], keys[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public OrderOutput retryWithKeyMultiThread() {
+        int i = ThreadLocalRandom.current().nextInt(ORDERS);
+        return service.place(orderIds[i], keys[i]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object retryWithoutKeyMultiThread() {
+        try {
+            return service.place(orderIds[ThreadLocalRandom.current().nextInt(ORDERS)]);
+        } catch (OrderStatusCannotBeChangedException e) {
+            return e;
+        }
+    }
+}
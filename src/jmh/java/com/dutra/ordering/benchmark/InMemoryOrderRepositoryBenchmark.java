@@ -0,0 +1,90 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do repositório em memória com escritores e leitores concorrentes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryOrderRepositoryBenchmark {
+
+    private static final int CUSTOMERS = 1_000;
+
+    private InMemoryOrderRepository repository;
+    private CustomerId[] customerIds;
+    private Order knownOrder;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = new InMemoryOrderRepository();
+        customerIds = new CustomerId[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds[i] = new CustomerId();
+        }
+        knownOrder = Order.draft(customerIds[0]);
+        repository.save(knownOrder);
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private final ProductId productId = new ProductId();
+        private int next;
+
+        private Order newOrder(CustomerId[] customerIds) {
+            next = (next + 1) % customerIds.length;
+            Order order = Order.draft(customerIds[next]);
+            order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+            return order;
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Order saveMultiThread(Writer writer) {
+        Order order = writer.newOrder(customerIds);
+        repository.save(order);
+        return order;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<Order> findByIdMultiThread() {
+        return repository.findById(knownOrder.id());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Order mixedWriter(Writer writer) {
+        return saveMultiThread(writer);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public List<Order> mixedReader() {
+        return repository.findByCustomerId(customerIds[0]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public long mixedCounter() {
+        return repository.countByStatus(OrderStatus.DRAFT);
+    }
+}
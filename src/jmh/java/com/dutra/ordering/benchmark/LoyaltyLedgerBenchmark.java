@@ -0,0 +1,96 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.loyalty.LoyaltyAccrual;
+import com.dutra.ordering.application.loyalty.LoyaltyAuditTrail;
+import com.dutra.ordering.application.loyalty.LoyaltyLedger;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.valueobjects.*;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pontuações de vários threads concentradas em poucos clientes ({@code customers=1} é o pior caso):
+ * pelo {@link LoyaltyLedger} e direto em {@link CustomerApplicationService#addLoyaltyPoints}, que passa pelo
+ * lock do cliente a cada chamada.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoyaltyLedgerBenchmark {
+
+    private static final LoyaltyPoints POINTS = LoyaltyPoints.of(1);
+
+    @Param({"1", "1000"})
+    private int customers;
+
+    private CustomerApplicationService customerApplicationService;
+    private LoyaltyLedger ledger;
+    private CustomerId[] customerIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        customerApplicationService = new CustomerApplicationService(customerRepository);
+        ledger = new LoyaltyLedger(customerApplicationService, new DiscardingAuditTrail(), 0,
+                Duration.ofMillis(100));
+
+        customerIds = new CustomerId[customers];
+        for (int i = 0; i < customers; i++) {
+            Customer customer = Customer.brandNew(new FullName("João", "da Silva"),
+                    new BirthDate(LocalDate.of(1990, 5, 20)), new Email("joao" + i + "@email.com"),
+                    new Phone("48999999999"), new Document("12345678900"), true, BenchmarkFixtures.anAddress());
+            customerRepository.save(customer);
+            customerIds[i] = customer.id();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ledger.close();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void ledgerMultiThread() {
+        ledger.accrue(nextCustomer(), POINTS, "benchmark");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void customerLockMultiThread() {
+        customerApplicationService.addLoyaltyPoints(nextCustomer(), POINTS);
+    }
+
+    private CustomerId nextCustomer() {
+        return customerIds[ThreadLocalRandom.current().nextInt(customers)];
+    }
+
+    // Mede só o caminho de acúmulo, sem reter as pontuações entre as iterações
+    private static final class DiscardingAuditTrail implements LoyaltyAuditTrail {
+
+        @Override
+        public void append(List<LoyaltyAccrual> accruals) {
+        }
+
+        @Override
+        public List<LoyaltyAccrual> findByCustomerId(CustomerId customerId) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+    }
+}
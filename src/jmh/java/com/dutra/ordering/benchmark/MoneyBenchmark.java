@@ -0,0 +1,71 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private Money price;
+    private Money other;
+    private Quantity quantity;
+
+    @Setup
+    public void setUp() {
+        price = new Money("129.90");
+        other = new Money("15.50");
+        quantity = new Quantity(7);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Money multiplyMultiThread() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Money addMultiThread() {
+        return price.add(other);
+    }
+
+    /**
+     * Soma de 100 parcelas em centavos, convertendo para {@link Money} apenas no final.
+     */
+    @Benchmark
+    public Money sumInCents() {
+        long cents = price.cents();
+        long total = 0;
+        for (int i = 0; i < 100; i++) {
+            total = Math.addExact(total, cents);
+        }
+        return Money.ofCents(total);
+    }
+
+    @Benchmark
+    public Money sumInBigDecimal() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 100; i++) {
+            total = total.add(price);
+        }
+        return total;
+    }
+}
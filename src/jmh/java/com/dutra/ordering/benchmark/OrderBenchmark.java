@@ -0,0 +1,143 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.valueobjects.*;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminhos quentes do agregado {@link Order}: inclusão de itens, carrinhos grandes
+ * (o recálculo de totais acontece a cada {@code addItem}) e o fluxo completo até {@code place()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int cartSize;
+
+    private CustomerId customerId;
+    private ProductId[] productIds;
+    private List<CartItem> cartItems;
+    private ShippingInfo shippingInfo;
+    private BillingInfo billingInfo;
+    private Money shippingCost;
+    private LocalDate expectedDeliveryDate;
+
+    @Setup
+    public void setUp() {
+        customerId = new CustomerId();
+        productIds = new ProductId[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            productIds[i] = new ProductId();
+        }
+        cartItems = new ArrayList<>(cartSize);
+        for (ProductId productId : productIds) {
+            cartItems.add(new CartItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY));
+        }
+        shippingInfo = BenchmarkFixtures.aShippingInfo();
+        billingInfo = BenchmarkFixtures.aBillingInfo();
+        shippingCost = new Money("15.50");
+        expectedDeliveryDate = BenchmarkFixtures.anExpectedDeliveryDate();
+    }
+
+    @Benchmark
+    public Order addItem() {
+        Order order = Order.draft(customerId);
+        order.addItem(productIds[0], BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+        return order;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Order addItemMultiThread() {
+        return addItem();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Order largeCart() {
+        Order order = Order.draft(customerId);
+        for (ProductId productId : productIds) {
+            order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+        }
+        return order;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Order largeCartMultiThread() {
+        return largeCart();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Order largeCartBulk() {
+        Order order = Order.draft(customerId);
+        order.addItems(cartItems);
+        return order;
+    }
+
+    /**
+     * Edição de carrinho sobre um pedido com {@code cartSize} linhas: altera a quantidade de um produto,
+     * remove e inclui de novo outro.
+     */
+    @Benchmark
+    public Order cartEdit(CartState cart) {
+        int position = cart.next();
+        ProductId productId = productIds[position];
+        cart.order.changeItemQuantity(productId, Quantity.of(1 + position % 10));
+        cart.order.removeItem(productId);
+        cart.order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+        return cart.order;
+    }
+
+    @State(Scope.Thread)
+    public static class CartState {
+
+        private Order order;
+        private int position;
+        private int size;
+
+        @Setup
+        public void setUp(OrderBenchmark benchmark) {
+            order = Order.draft(benchmark.customerId);
+            order.addItems(benchmark.cartItems);
+            size = benchmark.cartSize;
+        }
+
+        private int next() {
+            position = position + 1 == size ? 0 : position + 1;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public Order place() {
+        Order order = Order.draft(customerId);
+        order.changeShipping(shippingInfo, shippingCost, expectedDeliveryDate);
+        order.changeBillingInfo(billingInfo);
+        order.changePaymentMethod(PaymentMethods.CREDIT_CARD);
+        order.addItem(productIds[0], BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+        order.place();
+        return order;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Order placeMultiThread() {
+        return place();
+    }
+}
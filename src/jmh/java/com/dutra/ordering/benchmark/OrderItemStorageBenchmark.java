@@ -0,0 +1,106 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.OrderItem;
+import com.dutra.ordering.domain.valueobjects.CartItem;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pedido atacadista: layout colunar do {@link Order} x o layout anterior ({@code HashSet<OrderItem>}).
+ * <p>
+ * Os benchmarks medem a construção (use {@code -prof gc}); o {@link #main} imprime o footprint retido
+ * de cada layout via JOL: {@code -Djmh.main=com.dutra.ordering.benchmark.OrderItemStorageBenchmark -Djmh.args=5000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderItemStorageBenchmark {
+
+    @Param({"5000"})
+    private int lines;
+
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        cartItems = cartItems(lines);
+    }
+
+    @Benchmark
+    public Order columnarOrder() {
+        return columnarOrder(cartItems);
+    }
+
+    @Benchmark
+    public Set<OrderItem> hashSetOfOrderItems() {
+        return hashSetOfOrderItems(cartItems);
+    }
+
+    public static void main(String[] args) {
+        // Necessário para o JOL ler os offsets de campos de records
+        System.setProperty("jol.magicFieldOffset", "true");
+
+        int lines = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        List<CartItem> cartItems = cartItems(lines);
+
+        Order order = columnarOrder(cartItems);
+        Set<OrderItem> legacy = hashSetOfOrderItems(cartItems);
+
+        // Nomes de produto são compartilhados com o catálogo nos dois layouts, então ficam fora da conta
+        long names = GraphLayout.parseInstance(cartItems.stream().map(CartItem::productName).toArray()).totalSize();
+        long columnar = GraphLayout.parseInstance(order).totalSize();
+        long hashSet = GraphLayout.parseInstance(legacy).totalSize();
+
+        System.out.printf("Linhas: %d%n", lines);
+        System.out.printf("Order colunar:       %,d bytes (%,d objetos)%n", columnar - names,
+                GraphLayout.parseInstance(order).totalCount());
+        System.out.printf("HashSet<OrderItem>:  %,d bytes (%,d objetos)%n", hashSet - names,
+                GraphLayout.parseInstance(legacy).totalCount());
+    }
+
+    private static Order columnarOrder(List<CartItem> cartItems) {
+        Order order = Order.draft(new CustomerId());
+        order.addItems(cartItems);
+        return order;
+    }
+
+    private static Set<OrderItem> hashSetOfOrderItems(List<CartItem> cartItems) {
+        OrderId orderId = new OrderId();
+        Set<OrderItem> items = new HashSet<>();
+        for (CartItem cartItem : cartItems) {
+            items.add(OrderItem.brandNew()
+                    .orderId(orderId)
+                    .productId(cartItem.productId())
+                    .productName(cartItem.productName())
+                    .price(cartItem.price())
+                    .quantity(cartItem.quantity())
+                    .build());
+        }
+        return items;
+    }
+
+    private static List<CartItem> cartItems(int lines) {
+        List<CartItem> cartItems = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            cartItems.add(new CartItem(new ProductId(), new ProductName("Product " + i),
+                    Money.ofCents(1_000 + i), Quantity.of(1 + i % 50)));
+        }
+        return cartItems;
+    }
+}
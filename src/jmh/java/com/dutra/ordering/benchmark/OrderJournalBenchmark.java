@@ -0,0 +1,129 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.journal.OrderJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Gravação com group commit ({@code maxBatchSize=1} equivale a um {@code force()} por gravação) e tempo de
+ * replay com e sem snapshot.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderJournalBenchmark {
+
+    private static final int SEGMENT_BYTES = 64 << 20;
+
+    @State(Scope.Benchmark)
+    public static class Appending {
+
+        @Param({"1", "1024"})
+        private int maxBatchSize;
+
+        private Path directory;
+        private OrderJournal journal;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("order-journal-append");
+            journal = new OrderJournal(directory, SEGMENT_BYTES, maxBatchSize, 16_384, 1_000, 1);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private final CustomerId customerId = new CustomerId();
+        private final ProductId productId = new ProductId();
+
+        private List<OrderEvent> nextEvents() {
+            Order order = Order.draft(customerId);
+            order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+            return order.pullDomainEvents();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Replaying {
+
+        @Param({"20000"})
+        private int orders;
+
+        @Param({"false", "true"})
+        private boolean snapshot;
+
+        private Path directory;
+        private OrderJournal journal;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("order-journal-replay");
+
+            try (OrderJournal writer = new OrderJournal(directory, SEGMENT_BYTES, 1024, 16_384, 1_000, 1)) {
+                for (int i = 0; i < orders; i++) {
+                    Order order = Order.draft(new CustomerId());
+                    for (int item = 0; item < 5; item++) {
+                        order.addItem(new ProductId(), BenchmarkFixtures.PRODUCT_NAME,
+                                BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+                    }
+                    order.changeShipping(BenchmarkFixtures.aShippingInfo(), BenchmarkFixtures.PRICE,
+                            BenchmarkFixtures.anExpectedDeliveryDate());
+                    writer.on(order.pullDomainEvents());
+                }
+
+                if (snapshot) {
+                    writer.compact().join();
+                }
+            }
+
+            journal = new OrderJournal(directory, SEGMENT_BYTES, 1024, 16_384, 1_000, 0);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(Threads.MAX)
+    public void appendMultiThread(Appending appending, Writer writer) {
+        appending.journal.on(writer.nextEvents()).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Order> replay(Replaying replaying) {
+        return replaying.journal.replay();
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.utility.DomainClock;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listagem de pedidos recentes do back-office: a página mais nova de pedidos confirmados e os confirmados em um
+ * intervalo curto, pelos índices ordenados do repositório e pelo caminho anterior (todos os pedidos do status,
+ * ordenados e cortados).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderPageBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "200000"})
+    private int orders;
+
+    private InMemoryOrderRepository repository;
+    private OrderDateTimeRange lastOrders;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        repository = new InMemoryOrderRepository();
+        ProductId productId = new ProductId();
+        CustomerId customerId = new CustomerId();
+
+        OffsetDateTime from = null;
+        for (int i = 0; i < orders; i++) {
+            if (i == orders - 100) {
+                Thread.sleep(2);
+                from = DomainClock.now();
+            }
+
+            Order order = Order.draft(customerId);
+            order.changeShipping(BenchmarkFixtures.aShippingInfo(), BenchmarkFixtures.PRICE,
+                    BenchmarkFixtures.anExpectedDeliveryDate());
+            order.changeBillingInfo(BenchmarkFixtures.aBillingInfo());
+            order.changePaymentMethod(PaymentMethods.CREDIT_CARD);
+            order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE,
+                    BenchmarkFixtures.QUANTITY);
+            if (i % 2 == 0) {
+                order.place();
+            }
+            repository.save(order);
+        }
+
+        Thread.sleep(2);
+        lastOrders = new OrderDateTimeRange(from, DomainClock.now());
+    }
+
+    @Benchmark
+    public List<Order> recentPage() {
+        return repository.findBefore(OrderStatus.PLACED, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Order> recentPageByScan() {
+        return repository.findByStatus(OrderStatus.PLACED).stream()
+                .sorted(Comparator.comparing(Order::id).reversed())
+                .limit(PAGE_SIZE)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Order> placedInRange() {
+        return repository.findPlacedBetween(lastOrders.from(), lastOrders.to(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Order> placedInRangeByScan() {
+        return repository.findByStatus(OrderStatus.PLACED).stream()
+                .filter(order -> !order.placedAt().isBefore(lastOrders.from())
+                        && order.placedAt().isBefore(lastOrders.to()))
+                .sorted(Comparator.comparing(Order::placedAt))
+                .limit(PAGE_SIZE)
+                .toList();
+    }
+
+    private record OrderDateTimeRange(OffsetDateTime from, OffsetDateTime to) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderChangeResult;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.exceptions.ErrorMessages;
+import com.dutra.ordering.domain.exceptions.OrderStatusCannotBeChangedException;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejeição de um {@code place()} em pedido já confirmado: com {@link Order#tryPlace()}, com a exceção atual
+ * (sem stack trace, mensagem não lida) e com uma exceção como a anterior (stack trace e {@code String.format}
+ * na construção). {@code depth} simula a profundidade da pilha de uma requisição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderRejectionBenchmark {
+
+    @Param({"0", "100"})
+    private int depth;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = Order.draft(new CustomerId());
+        order.changeShipping(BenchmarkFixtures.aShippingInfo(), BenchmarkFixtures.PRICE,
+                BenchmarkFixtures.anExpectedDeliveryDate());
+        order.changeBillingInfo(BenchmarkFixtures.aBillingInfo());
+        order.changePaymentMethod(PaymentMethods.CREDIT_CARD);
+        order.addItem(new ProductId(), BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE,
+                BenchmarkFixtures.QUANTITY);
+        order.place();
+        order.pullDomainEvents();
+    }
+
+    @Benchmark
+    public OrderChangeResult tryPlace() {
+        return nested(depth, () -> order.tryPlace());
+    }
+
+    @Benchmark
+    public OrderChangeResult placeThrowing() {
+        return nested(depth, () -> {
+            try {
+                order.place();
+                return OrderChangeResult.CHANGED;
+            } catch (OrderStatusCannotBeChangedException e) {
+                return OrderChangeResult.INVALID_TRANSITION;
+            }
+        });
+    }
+
+    @Benchmark
+    public OrderChangeResult placeThrowingEagerException() {
+        return nested(depth, () -> {
+            try {
+                throw new IllegalStateException(String.format(ErrorMessages.ERROR_ORDER_STATUS_CANNOT_BE_CHANGED,
+                        order.id(), order.orderStatus(), OrderStatus.PLACED));
+            } catch (IllegalStateException e) {
+                return OrderChangeResult.INVALID_TRANSITION;
+            }
+        });
+    }
+
+    private static OrderChangeResult nested(int depth, Attempt attempt) {
+        return depth == 0 ? attempt.run() : nested(depth - 1, attempt);
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+
+        OrderChangeResult run();
+    }
+}
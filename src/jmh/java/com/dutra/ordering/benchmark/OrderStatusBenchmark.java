@@ -0,0 +1,41 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderStatusBenchmark {
+
+    private OrderStatus[] statuses;
+
+    @Setup
+    public void setUp() {
+        statuses = OrderStatus.values();
+    }
+
+    /**
+     * Avalia todas as combinações (de, para): 25 verificações por chamada.
+     */
+    @Benchmark
+    public void canChangeTo(Blackhole blackhole) {
+        for (OrderStatus from : statuses) {
+            for (OrderStatus to : statuses) {
+                blackhole.consume(from.canChangeTo(to));
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void canChangeToMultiThread(Blackhole blackhole) {
+        canChangeTo(blackhole);
+    }
+}
@@ -0,0 +1,58 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.service.OrderStatusTransitionService;
+import com.dutra.ordering.domain.service.OrderTransitionResult;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conciliação noturna: lote de pedidos PLACED (com uma fração inválida, já PAID) movido para PAID.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderStatusTransitionBenchmark {
+
+    @Param({"50000"})
+    private int batchSize;
+
+    private final OrderStatusTransitionService service = new OrderStatusTransitionService();
+
+    private List<Order> orders;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        orders = new ArrayList<>(batchSize);
+        CustomerId customerId = new CustomerId();
+        ProductId productId = new ProductId();
+
+        for (int i = 0; i < batchSize; i++) {
+            Order order = Order.draft(customerId);
+            order.changeShipping(BenchmarkFixtures.aShippingInfo(), BenchmarkFixtures.PRICE, BenchmarkFixtures.anExpectedDeliveryDate());
+            order.changeBillingInfo(BenchmarkFixtures.aBillingInfo());
+            order.changePaymentMethod(PaymentMethods.CREDIT_CARD);
+            order.addItem(productId, BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE, BenchmarkFixtures.QUANTITY);
+            order.place();
+            if (i % 10 == 0) {
+                order.markAsPaid();
+            }
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public List<OrderTransitionResult> placedToPaid() {
+        return service.transition(orders, OrderStatus.PAID);
+    }
+}
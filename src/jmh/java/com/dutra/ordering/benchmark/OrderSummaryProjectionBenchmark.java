@@ -0,0 +1,99 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.projection.CustomerOrderSummary;
+import com.dutra.ordering.application.projection.OrderSummaryProjection;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resumo de um cliente com {@code ordersPerCustomer} pedidos pela projeção e varrendo os pedidos do cliente,
+ * e o custo de reconstruir a projeção inteira.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderSummaryProjectionBenchmark {
+
+    @Param({"10", "1000"})
+    private int ordersPerCustomer;
+
+    private final OrderSummaryProjection projection = new OrderSummaryProjection();
+    private InMemoryOrderRepository orderRepository;
+    private CustomerId customerId;
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        orderRepository = new InMemoryOrderRepository(List.of(projection));
+        orders = new ArrayList<>();
+
+        for (int customer = 0; customer < 100; customer++) {
+            CustomerId current = new CustomerId();
+            for (int i = 0; i < ordersPerCustomer; i++) {
+                Order order = Order.draft(current);
+                order.addItem(new ProductId(), BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE,
+                        BenchmarkFixtures.QUANTITY);
+                order.changeShipping(BenchmarkFixtures.aShippingInfo(), BenchmarkFixtures.PRICE,
+                        BenchmarkFixtures.anExpectedDeliveryDate());
+                order.changeBillingInfo(BenchmarkFixtures.aBillingInfo());
+                order.changePaymentMethod(PaymentMethods.CREDIT_CARD);
+                order.place();
+                if (i % 2 == 0) {
+                    order.markAsPaid();
+                }
+                orderRepository.save(order);
+                orders.add(order);
+            }
+            customerId = current;
+        }
+    }
+
+    @Benchmark
+    public CustomerOrderSummary projected() {
+        return projection.customerSummary(customerId);
+    }
+
+    @Benchmark
+    public CustomerOrderSummary scanned() {
+        long placed = 0;
+        long canceled = 0;
+        long spendCents = 0;
+        List<Order> customerOrders = orderRepository.findByCustomerId(customerId);
+
+        for (Order order : customerOrders) {
+            if (order.placedAt() != null) {
+                placed++;
+            }
+            if (order.orderStatus() == OrderStatus.CANCELED) {
+                canceled++;
+            } else if (order.paidAt() != null) {
+                spendCents += order.totalAmount().cents();
+            }
+        }
+
+        return new CustomerOrderSummary(customerId, customerOrders.size(), placed, canceled,
+                Money.ofCents(spendCents));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public OrderSummaryProjection rebuild() {
+        OrderSummaryProjection rebuilt = new OrderSummaryProjection();
+        rebuilt.rebuild(orders);
+        return rebuilt;
+    }
+}
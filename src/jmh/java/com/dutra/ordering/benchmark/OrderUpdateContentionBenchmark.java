@@ -0,0 +1,82 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.concurrent.StripedLocks;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Vários threads alterando {@code orders} pedidos ({@code 1} é o pior caso, como um webhook de pagamento
+ * disputando com um cancelamento): sob um lock por pedido em volta de leitura, alteração e gravação (o
+ * comportamento anterior do {@code OrderApplicationService}) e com cópia e {@code compareAndSave}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderUpdateContentionBenchmark {
+
+    private static final Consumer<Order> CHANGE = order -> order.changePaymentMethod(
+            ThreadLocalRandom.current().nextBoolean() ? PaymentMethods.CREDIT_CARD : PaymentMethods.GATEWAY_BALANCE);
+
+    @Param({"1", "64"})
+    private int orders;
+
+    private InMemoryOrderRepository orderRepository;
+    private StripedLocks locks;
+    private OrderId[] orderIds;
+
+    @Setup
+    public void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        locks = new StripedLocks(256);
+        orderIds = new OrderId[orders];
+
+        for (int i = 0; i < orders; i++) {
+            Order order = Order.draft(new CustomerId());
+            for (int item = 0; item < 5; item++) {
+                order.addItem(new ProductId(), BenchmarkFixtures.PRODUCT_NAME, BenchmarkFixtures.PRICE,
+                        BenchmarkFixtures.QUANTITY);
+            }
+            orderRepository.save(order);
+            orderIds[i] = order.id();
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Order lockedMultiThread() {
+        OrderId orderId = nextOrder();
+        ReentrantLock lock = locks.lockFor(orderId);
+        lock.lock();
+        try {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            CHANGE.accept(order);
+            orderRepository.save(order);
+            return order;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Order optimisticMultiThread() {
+        return orderRepository.update(nextOrder(), CHANGE).orElseThrow();
+    }
+
+    private OrderId nextOrder() {
+        return orderIds[ThreadLocalRandom.current().nextInt(orders)];
+    }
+}
@@ -0,0 +1,93 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.catalog.CachingProductCatalog;
+import com.dutra.ordering.application.catalog.CatalogProduct;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.catalog.FileProductCatalog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Itens adicionados por id de produto, com poucos produtos muito procurados: pelo near-cache, limitado a
+ * {@code maxEntries}, e direto no catálogo em arquivo, que responde em {@code catalogLatencyMicros}. O hit rate do near-cache é impresso no fim de cada trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductCatalogBenchmark {
+
+    @Param({"1000", "100000"})
+    private int products;
+
+    @Param({"10000"})
+    private int maxEntries;
+
+    @Param({"50"})
+    private int catalogLatencyMicros;
+
+    private Path file;
+    private ExecutorService refresher;
+    private FileProductCatalog source;
+    private CachingProductCatalog cache;
+    private ProductId[] productIds;
+
+    @Setup
+    public void setUp() throws IOException {
+        productIds = new ProductId[products];
+        StringBuilder csv = new StringBuilder("productId,price,productName\n");
+        for (int i = 0; i < products; i++) {
+            productIds[i] = new ProductId();
+            csv.append(productIds[i].valueId()).append(",").append(10 + i % 990).append(".90,Produto ").append(i)
+                    .append('\n');
+        }
+
+        file = Files.createTempFile("products", ".csv");
+        Files.writeString(file, csv);
+        refresher = Executors.newVirtualThreadPerTaskExecutor();
+        source = new FileProductCatalog(file, Duration.ofNanos(catalogLatencyMicros * 1_000L));
+        cache = new CachingProductCatalog(source, maxEntries, Duration.ofMinutes(1), Duration.ofMinutes(10),
+                refresher);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nHit rate: %.3f, evictions: %,d%n", cache.hitRate(), cache.evictions());
+        refresher.close();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<CatalogProduct> cachedMultiThread() {
+        return cache.findById(nextProductId());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<CatalogProduct> fileMultiThread() {
+        return source.findById(nextProductId());
+    }
+
+    // O cubo concentra as consultas nos primeiros produtos: metade delas cai nos 12,5% iniciais
+    private ProductId nextProductId() {
+        double random = ThreadLocalRandom.current().nextDouble();
+        return productIds[(int) (random * random * random * productIds.length)];
+    }
+}
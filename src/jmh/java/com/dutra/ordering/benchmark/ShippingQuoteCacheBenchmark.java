@@ -0,0 +1,64 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.application.shipping.CachingShippingQuoteService;
+import com.dutra.ordering.application.shipping.ShippingQuote;
+import com.dutra.ordering.application.shipping.ShippingQuoteRequest;
+import com.dutra.ordering.domain.utility.DomainClock;
+import com.dutra.ordering.infrastructure.shipping.StubCarrierShippingQuoteService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Página de checkout pedindo cotações para {@code prefixes} prefixos de CEP: pelo cache (quase sempre
+ * acerto) e direto na transportadora local, que responde em {@code carrierLatencyMicros}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShippingQuoteCacheBenchmark {
+
+    @Param({"16", "4096"})
+    private int prefixes;
+
+    @Param({"200"})
+    private int carrierLatencyMicros;
+
+    private StubCarrierShippingQuoteService carrier;
+    private CachingShippingQuoteService cache;
+    private ShippingQuoteRequest[] requests;
+
+    @Setup
+    public void setUp() {
+        carrier = new StubCarrierShippingQuoteService(Duration.ofNanos(carrierLatencyMicros * 1_000L));
+        cache = new CachingShippingQuoteService(carrier, 10_000, Duration.ofMinutes(5));
+
+        LocalDate today = DomainClock.today();
+        requests = new ShippingQuoteRequest[prefixes];
+        for (int i = 0; i < prefixes; i++) {
+            requests[i] = new ShippingQuoteRequest("%05d".formatted(i * 7), 2, 7, today);
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ShippingQuote cachedMultiThread() {
+        return cache.quote(nextRequest());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ShippingQuote carrierMultiThread() {
+        return carrier.quote(nextRequest());
+    }
+
+    private ShippingQuoteRequest nextRequest() {
+        return requests[ThreadLocalRandom.current().nextInt(requests.length)];
+    }
+}
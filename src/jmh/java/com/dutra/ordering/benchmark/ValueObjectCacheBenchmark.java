@@ -0,0 +1,66 @@
+package com.dutra.ordering.benchmark;
+
+import com.dutra.ordering.domain.valueobjects.LoyaltyPoints;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara construtor x fábrica com cache; a economia aparece em {@code gc.alloc.rate.norm} com {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueObjectCacheBenchmark {
+
+    private static final int VALUES = 100;
+
+    @Benchmark
+    public void quantityConstructor(Blackhole blackhole) {
+        for (int i = 1; i <= VALUES; i++) {
+            blackhole.consume(new Quantity(i));
+        }
+    }
+
+    @Benchmark
+    public void quantityOf(Blackhole blackhole) {
+        for (int i = 1; i <= VALUES; i++) {
+            blackhole.consume(Quantity.of(i));
+        }
+    }
+
+    @Benchmark
+    public void moneyConstructor(Blackhole blackhole) {
+        for (int i = 1; i <= VALUES; i++) {
+            blackhole.consume(new Money(BigDecimal.valueOf(i * 100L, 2)));
+        }
+    }
+
+    @Benchmark
+    public void moneyOfCents(Blackhole blackhole) {
+        for (int i = 1; i <= VALUES; i++) {
+            blackhole.consume(Money.ofCents(i * 100L));
+        }
+    }
+
+    @Benchmark
+    public void loyaltyPointsConstructor(Blackhole blackhole) {
+        for (int i = 1; i <= VALUES; i++) {
+            blackhole.consume(new LoyaltyPoints(i));
+        }
+    }
+
+    @Benchmark
+    public void loyaltyPointsOf(Blackhole blackhole) {
+        for (int i = 1; i <= VALUES; i++) {
+            blackhole.consume(LoyaltyPoints.of(i));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.dutra.ordering.application.archiving;
+
+import java.time.Duration;
+
+/**
+ * @param conflicted clientes que continuaram em conflito com outras alterações depois de todas as tentativas;
+ *                   ficam como estavam e podem ser arquivados de novo.
+ */
+public record CustomerArchivalReport(long requested, long archived, long alreadyArchived, long notFound,
+                                     long conflicted, Duration elapsed) {
+
+    public double customersPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : requested * 1_000_000_000.0 / nanos;
+    }
+}
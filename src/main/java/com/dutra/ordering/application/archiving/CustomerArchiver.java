@@ -0,0 +1,143 @@
+package com.dutra.ordering.application.archiving;
+
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.exceptions.ConcurrentModificationConflictException;
+import com.dutra.ordering.domain.utility.DomainClock;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Arquiva (anonimiza) muitos clientes de uma vez. Os ids são divididos em lotes de {@code batchSize} que
+ * {@code workers} threads pegam à medida que terminam o anterior. Cada cliente passa por
+ * {@link CustomerApplicationService#tryArchive}, então o estado final é o mesmo de {@link Customer#archive()}:
+ * todos os clientes de um lote recebem o mesmo {@code archivedAt}. Um cliente que continua em conflito com
+ * outras alterações é contado e deixado para trás; qualquer outra falha interrompe o arquivamento.
+ */
+public class CustomerArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerArchiver.class);
+
+    private static final long PROGRESS_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final CustomerApplicationService customerApplicationService;
+    private final int workers;
+    private final int batchSize;
+
+    /**
+     * @param workers 0 usa um thread por processador disponível.
+     */
+    public CustomerArchiver(CustomerApplicationService customerApplicationService, int workers, int batchSize) {
+        if (workers < 0 || batchSize < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this.customerApplicationService = Objects.requireNonNull(customerApplicationService);
+        this.workers = workers == 0 ? Runtime.getRuntime().availableProcessors() : workers;
+        this.batchSize = batchSize;
+    }
+
+    public CustomerArchivalReport archiveAll(Collection<CustomerId> customerIds) {
+        List<CustomerId> ids = List.copyOf(customerIds);
+        long startedAt = System.nanoTime();
+
+        Run run = new Run(ids);
+        int threadCount = Math.min(workers, (ids.size() + batchSize - 1) / batchSize);
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(Thread.ofPlatform().name("customer-archiver-" + i).start(run::work));
+        }
+
+        try {
+            for (Thread thread : threads) {
+                while (!thread.join(Duration.ofMillis(PROGRESS_INTERVAL_MILLIS))) {
+                    long done = run.done();
+                    log.info("Customer archival: {}/{} customers ({} customers/s).", done, ids.size(),
+                            done * 1_000_000_000L / Math.max(1, System.nanoTime() - startedAt));
+                }
+            }
+        } catch (InterruptedException e) {
+            run.stopped = true;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Customer archival interrupted.", e);
+        }
+
+        if (run.failure.get() != null) {
+            log.error("Customer archival failed after {}/{} customers ({} archived).", run.done(), ids.size(),
+                    run.archived.sum());
+            throw run.failure.get();
+        }
+
+        CustomerArchivalReport report = new CustomerArchivalReport(ids.size(), run.archived.sum(),
+                run.alreadyArchived.sum(), run.notFound.sum(), run.conflicted.sum(),
+                Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Customer archival finished: {} archived, {} already archived, {} not found, {} conflicted in {} ms "
+                        + "({} customers/s).", report.archived(), report.alreadyArchived(), report.notFound(),
+                report.conflicted(), report.elapsed().toMillis(), Math.round(report.customersPerSecond()));
+        return report;
+    }
+
+    private final class Run {
+
+        private final List<CustomerId> ids;
+        private final AtomicInteger next = new AtomicInteger();
+        private final LongAdder archived = new LongAdder();
+        private final LongAdder alreadyArchived = new LongAdder();
+        private final LongAdder notFound = new LongAdder();
+        private final LongAdder conflicted = new LongAdder();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private volatile boolean stopped;
+
+        private Run(List<CustomerId> ids) {
+            this.ids = ids;
+        }
+
+        private void work() {
+            try {
+                for (int start = next.getAndAdd(batchSize); start < ids.size() && !stopped;
+                     start = next.getAndAdd(batchSize)) {
+                    archiveBatch(start, Math.min(start + batchSize, ids.size()));
+                }
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                stopped = true;
+            }
+        }
+
+        // Contado cliente a cliente, para que o progresso e uma falha no meio do lote não percam os já gravados
+        private void archiveBatch(int from, int to) {
+            OffsetDateTime archivedAt = DomainClock.now();
+
+            for (int i = from; i < to && !stopped; i++) {
+                CustomerId customerId = ids.get(i);
+                try {
+                    switch (customerApplicationService.tryArchive(customerId, archivedAt)) {
+                        case ARCHIVED -> archived.increment();
+                        case ALREADY_ARCHIVED -> alreadyArchived.increment();
+                        case NOT_FOUND -> notFound.increment();
+                    }
+                } catch (ConcurrentModificationConflictException e) {
+                    log.warn("Customer {} kept conflicting with other changes; left unarchived.", customerId);
+                    conflicted.increment();
+                }
+            }
+        }
+
+        private long done() {
+            return archived.sum() + alreadyArchived.sum() + notFound.sum() + conflicted.sum();
+        }
+    }
+}
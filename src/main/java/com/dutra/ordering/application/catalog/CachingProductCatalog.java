@@ -0,0 +1,245 @@
+package com.dutra.ordering.application.catalog;
+
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cópia local de outro {@link ProductCatalog}, com no máximo {@code maxEntries} produtos. Produtos
+ * inexistentes também ficam guardados, para não consultar a origem a cada item inválido.
+ * <ul>
+ *     <li>Consultas simultâneas a um produto ainda não carregado esperam a primeira, a única que vai à origem.</li>
+ *     <li>Um produto carregado há mais de {@code refreshAfter} continua sendo devolvido, e a consulta agenda
+ *     no {@code refresher} uma recarga em segundo plano. Produtos consultados com frequência não chegam a
+ *     vencer.</li>
+ *     <li>Um produto carregado há mais de {@code expireAfter} não é mais devolvido: a consulta espera a
+ *     origem.</li>
+ * </ul>
+ * Acima do limite, o thread que inseriu descarta produtos até sobrarem {@code maxEntries - maxEntries / 16},
+ * como um relógio: cada consulta marca o produto, e a passada, que continua de onde a anterior parou, remove os
+ * vencidos e os desmarcados e desmarca os outros. Produtos consultados desde a última volta ficam. Falhas da
+ * origem não ficam guardadas; falhas de uma recarga mantêm o valor anterior até vencer.
+ */
+public class CachingProductCatalog implements ProductCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingProductCatalog.class);
+
+    private final ProductCatalog source;
+    private final int maxEntries;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final Executor refresher;
+
+    private final ConcurrentHashMap<ProductId, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // Ponteiro do relógio: cada passada continua de onde a anterior parou. Só usado com o evictionLock
+    private Iterator<Map.Entry<ProductId, Entry>> hand = Collections.emptyIterator();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingProductCatalog(ProductCatalog source, int maxEntries, Duration refreshAfter, Duration expireAfter,
+                                 Executor refresher) {
+        if (maxEntries < 1 || refreshAfter.isNegative() || refreshAfter.isZero()
+                || expireAfter.compareTo(refreshAfter) < 0) {
+            throw new IllegalArgumentException("Invalid product catalog cache settings.");
+        }
+
+        this.source = Objects.requireNonNull(source);
+        this.maxEntries = maxEntries;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.refresher = Objects.requireNonNull(refresher);
+    }
+
+    @Override
+    public Optional<CatalogProduct> findById(ProductId productId) {
+        Objects.requireNonNull(productId);
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(productId);
+        if (entry != null && entry.product.isDone() && !entry.isExpired(now, expireAfterNanos)) {
+            hits.increment();
+            entry.referenced = true;
+            if (now - entry.loadedAt >= refreshAfterNanos && entry.refreshing.compareAndSet(false, true)) {
+                scheduleRefresh(productId, entry);
+            }
+            return entry.await();
+        }
+
+        misses.increment();
+        Entry created = new Entry();
+        entry = entries.compute(productId, (key, current) ->
+                current == null || current.isExpired(now, expireAfterNanos) ? created : current);
+
+        if (entry == created) {
+            load(productId, created);
+            evictIfFull(now);
+        }
+
+        return entry.await();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Recargas em segundo plano concluídas.
+     */
+    public long refreshes() {
+        return refreshes.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Fração das consultas atendidas sem esperar a origem; 0 antes da primeira consulta.
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Produtos guardados, inclusive os em carregamento e os vencidos ainda não descartados.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    // Métodos Auxiliares
+    private void load(ProductId productId, Entry entry) {
+        try {
+            Optional<CatalogProduct> product = Objects.requireNonNull(source.findById(productId));
+            entry.loadedAt = System.nanoTime();
+            entry.product.complete(product);
+        } catch (Throwable e) {
+            // Inclusive Errors: uma entrada que nunca completa prenderia todas as consultas ao produto
+            entries.remove(productId, entry);
+            entry.product.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void scheduleRefresh(ProductId productId, Entry stale) {
+        try {
+            refresher.execute(() -> refresh(productId, stale));
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false);
+        }
+    }
+
+    private void refresh(ProductId productId, Entry stale) {
+        try {
+            Entry refreshed = new Entry();
+            try {
+                load(productId, refreshed);
+            } catch (RuntimeException e) {
+                log.warn("Could not refresh product {}; keeping the cached one.", productId, e);
+                return;
+            }
+
+            // Se o produto foi descartado ou substituído nesse meio tempo, a recarga é perdida
+            refreshed.referenced = true;
+            if (entries.replace(productId, stale, refreshed)) {
+                refreshes.increment();
+            }
+        } finally {
+            // Mesmo diante de um Error, senão o produto vencido nunca mais seria recarregado em segundo plano
+            stale.refreshing.set(false);
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxEntries || !evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            int target = maxEntries - maxEntries / 16;
+
+            // Duas voltas bastam: na segunda, nenhum produto visto na primeira continua marcado
+            for (long steps = 2L * entries.size(); entries.size() > target && steps > 0; steps--) {
+                if (!hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                    if (!hand.hasNext()) {
+                        return;
+                    }
+                }
+
+                Map.Entry<ProductId, Entry> slot = hand.next();
+                Entry entry = slot.getValue();
+                if (!entry.product.isDone()) {
+                    continue;
+                }
+
+                if (entry.referenced && !entry.isExpired(now, expireAfterNanos)) {
+                    entry.referenced = false;
+                } else if (entries.remove(slot.getKey(), entry)) {
+                    // Por chave e valor: uma recarga que trocou a entrada depois de o ponteiro passar por ela fica
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Optional<CatalogProduct>> product = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        // Escrito antes de completar o future, então é visível para quem o vê completo
+        private volatile long loadedAt;
+        private volatile boolean referenced;
+
+        private boolean isExpired(long now, long expireAfterNanos) {
+            return product.isDone() && now - loadedAt >= expireAfterNanos;
+        }
+
+        private Optional<CatalogProduct> await() {
+            try {
+                return product.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.dutra.ordering.application.catalog;
+
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.util.Objects;
+
+/**
+ * Nome e preço de um produto como o catálogo os informa no momento da consulta.
+ */
+public record CatalogProduct(ProductId productId, ProductName productName, Money price) {
+
+    public CatalogProduct {
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(productName);
+        Objects.requireNonNull(price);
+    }
+}
@@ -0,0 +1,16 @@
+package com.dutra.ordering.application.catalog;
+
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.util.Optional;
+
+/**
+ * Catálogo de produtos mantido fora deste serviço. Implementações podem ser lentas (chamadas remotas), por isso
+ * o {@link CachingProductCatalog} fica na frente delas.
+ */
+public interface ProductCatalog {
+
+    ProductCatalog EMPTY = productId -> Optional.empty();
+
+    Optional<CatalogProduct> findById(ProductId productId);
+}
@@ -0,0 +1,216 @@
+package com.dutra.ordering.application.idempotency;
+
+import com.dutra.ordering.domain.exceptions.IdempotencyKeyReusedException;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Guarda por {@code ttl} o resultado de comandos enviados com uma chave de idempotência, para que a repetição
+ * de um comando (por exemplo, o retry de um cliente que não recebeu a resposta) devolva o mesmo resultado sem
+ * executá-lo de novo. Repetições que chegam enquanto o primeiro ainda executa esperam por ele.
+ * <p>
+ * Cada chave fica presa ao comando que a usou primeiro ({@code fingerprint}); a mesma chave com outro comando é
+ * rejeitada com {@link IdempotencyKeyReusedException}. Só resultados de sucesso ficam guardados: se o comando
+ * falha, quem esperava por ele recebe a mesma exceção e a próxima repetição executa de novo.
+ * <p>
+ * As chaves ficam em segmentos, cada um com seu lock e no máximo {@code maxEntries / segments} chaves, em ordem
+ * de chegada. Como o {@code ttl} é o mesmo para todas, as mais antigas são as primeiras a vencer e, com o
+ * segmento cheio, as primeiras descartadas.
+ */
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Segment[] segments;
+    private final int maxEntriesPerSegment;
+    private final long ttlNanos;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder replays = new LongAdder();
+
+    /**
+     * @param segments 0 usa quatro segmentos por processador disponível.
+     */
+    public IdempotencyStore(int maxEntries, Duration ttl, int segments) {
+        if (maxEntries < 1 || ttl.isNegative() || ttl.isZero() || segments < 0) {
+            throw new IllegalArgumentException("Invalid idempotency store settings.");
+        }
+
+        int count = segments == 0 ? 4 * Runtime.getRuntime().availableProcessors() : segments;
+        this.segments = new Segment[Integer.highestOneBit(Math.min(count, maxEntries) * 2 - 1)];
+        for (int i = 0; i < this.segments.length; i++) {
+            this.segments[i] = new Segment();
+        }
+
+        this.maxEntriesPerSegment = Math.max(1, maxEntries / this.segments.length);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Executa {@code command}, ou devolve o resultado da execução anterior com a mesma chave.
+     *
+     * @param fingerprint identifica o comando (operação e agregado) por {@code equals}; a chave só vale para ele.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Object fingerprint, Supplier<T> command) {
+        validate(key);
+        Objects.requireNonNull(fingerprint);
+        Objects.requireNonNull(command);
+
+        Segment segment = segmentFor(key);
+        Entry entry;
+        boolean owner = false;
+
+        segment.lock.lock();
+        try {
+            long now = System.nanoTime();
+            segment.expire(now);
+
+            entry = segment.entries.get(key);
+            if (entry == null) {
+                entry = new Entry(fingerprint, now + ttlNanos);
+                segment.entries.put(key, entry);
+                segment.evictIfFull(maxEntriesPerSegment);
+                owner = true;
+            } else if (!entry.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+
+        if (!owner) {
+            replays.increment();
+            return (T) entry.await();
+        }
+
+        executions.increment();
+        try {
+            T result = command.get();
+            entry.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Inclusive Errors: uma entrada que nunca completa prenderia as repetições e a expiração do segmento
+            segment.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Comandos executados com uma chave nova (ou vencida).
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * Repetições atendidas pelo resultado de outra execução, inclusive as que esperaram por ela.
+     */
+    public long replays() {
+        return replays.sum();
+    }
+
+    /**
+     * Chaves guardadas, inclusive as em execução e as vencidas ainda não descartadas.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    // Métodos Auxiliares
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static void validate(String key) {
+        Objects.requireNonNull(key);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must have between 1 and " + MAX_KEY_LENGTH
+                    + " characters.");
+        }
+    }
+
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Em ordem de inserção, que é também a ordem de vencimento
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+        // Chamado com o lock adquirido. Uma chave em execução segura as seguintes até terminar
+        private void expire(long now) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (now - entry.expiresAt < 0 || !entry.result.isDone()) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+
+        // Chamado com o lock adquirido. Chaves em execução não são descartadas
+        private void evictIfFull(int maxEntries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                if (iterator.next().result.isDone()) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        private void remove(String key, Entry entry) {
+            lock.lock();
+            try {
+                entries.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(Object fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        private Object await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
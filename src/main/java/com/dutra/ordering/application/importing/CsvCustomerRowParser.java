@@ -0,0 +1,75 @@
+package com.dutra.ordering.application.importing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV separado por vírgula com cabeçalho. Campos podem vir entre aspas (com {@code ""} para aspas
+ * literais), mas não podem conter quebras de linha: o arquivo é lido linha a linha.
+ */
+final class CsvCustomerRowParser implements CustomerRowParser {
+
+    private static final String[] COLUMNS = {"firstName", "lastName", "birthDate", "email", "phone", "document",
+            "promotionNotificationsAllowed", "street", "number", "complement", "neighborhood", "city", "state",
+            "zipCode"};
+
+    // Posição de cada campo de CustomerImportRow na linha, -1 quando a coluna não existe
+    private final int[] positions = new int[COLUMNS.length];
+
+    CsvCustomerRowParser(String header) {
+        List<String> names = split(header);
+
+        for (int i = 0; i < COLUMNS.length; i++) {
+            positions[i] = names.indexOf(COLUMNS[i]);
+        }
+    }
+
+    @Override
+    public CustomerImportRow parse(String line) {
+        List<String> values = split(line);
+        String[] fields = new String[COLUMNS.length];
+
+        for (int i = 0; i < COLUMNS.length; i++) {
+            int position = positions[i];
+            fields[i] = position >= 0 && position < values.size() ? values.get(position) : null;
+        }
+
+        return new CustomerImportRow(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6],
+                fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13]);
+    }
+
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>(COLUMNS.length);
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+
+        values.add(value.toString().trim());
+        return values;
+    }
+}
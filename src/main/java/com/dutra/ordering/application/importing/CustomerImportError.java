@@ -0,0 +1,4 @@
+package com.dutra.ordering.application.importing;
+
+public record CustomerImportError(long line, String message) {
+}
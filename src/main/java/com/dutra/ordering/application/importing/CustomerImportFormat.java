@@ -0,0 +1,23 @@
+package com.dutra.ordering.application.importing;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum CustomerImportFormat {
+
+    CSV,
+    NDJSON;
+
+    public static CustomerImportFormat of(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+
+        throw new IllegalArgumentException("Unknown import format for " + path.getFileName() + ".");
+    }
+}
@@ -0,0 +1,16 @@
+package com.dutra.ordering.application.importing;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param errors as primeiras {@code maxErrors} linhas rejeitadas; {@code rejected} conta todas.
+ */
+public record CustomerImportReport(long rowsRead, long imported, long rejected, List<CustomerImportError> errors,
+                                   Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rowsRead * 1_000_000_000.0 / nanos;
+    }
+}
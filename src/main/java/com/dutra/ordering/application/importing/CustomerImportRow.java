@@ -0,0 +1,35 @@
+package com.dutra.ordering.application.importing;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.valueobjects.*;
+
+import java.time.LocalDate;
+
+/**
+ * Uma linha do arquivo, ainda como texto. Os mesmos nomes são as colunas do CSV e os campos do NDJSON.
+ */
+public record CustomerImportRow(String firstName, String lastName, String birthDate, String email, String phone,
+                                String document, String promotionNotificationsAllowed, String street,
+                                String number, String complement, String neighborhood, String city, String state,
+                                String zipCode) {
+
+    /**
+     * @throws IllegalArgumentException ou {@link NullPointerException} quando algum campo é inválido.
+     */
+    public Customer toCustomer() {
+        return Customer.brandNew(
+                new FullName(firstName, lastName),
+                isBlank(birthDate) ? null : new BirthDate(LocalDate.parse(birthDate)),
+                new Email(email),
+                new Phone(phone),
+                new Document(document),
+                Boolean.parseBoolean(promotionNotificationsAllowed),
+                new Address(street, number, isBlank(complement) ? null : complement, neighborhood, city, state,
+                        new ZipCode(zipCode))
+        );
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,279 @@
+package com.dutra.ordering.application.importing;
+
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.exceptions.DomainException;
+import com.dutra.ordering.infrastructure.io.NioLineReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importa clientes de um arquivo CSV ou NDJSON em três estágios ligados por filas limitadas:
+ * <ol>
+ *     <li>um thread lê o arquivo com {@link NioLineReader} e agrupa as linhas em lotes;</li>
+ *     <li>{@code workers} threads convertem cada linha e constroem o {@link Customer} (onde ficam as validações
+ *     dos value objects);</li>
+ *     <li>o thread que chamou {@link #importFile} registra os clientes pelo {@link CustomerApplicationService}.</li>
+ * </ol>
+ * Quando um estágio fica para trás, a fila cheia bloqueia o anterior. Por isso a memória fica limitada a
+ * {@code 2 * queueCapacity * batchSize} linhas em trânsito, independente do tamanho do arquivo. Linhas
+ * inválidas são contadas e as primeiras {@code maxErrors} guardadas no relatório, sem interromper a importação.
+ */
+public class CustomerImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerImporter.class);
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final String MISSING_FIELD = "Missing required field.";
+
+    private final CustomerApplicationService customerApplicationService;
+    private final int workers;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxErrors;
+
+    /**
+     * @param workers 0 usa um thread por processador disponível.
+     */
+    public CustomerImporter(CustomerApplicationService customerApplicationService, int workers, int batchSize,
+                            int queueCapacity, int maxErrors) {
+        if (workers < 0 || batchSize < 1 || queueCapacity < 1 || maxErrors < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.customerApplicationService = Objects.requireNonNull(customerApplicationService);
+        this.workers = workers == 0 ? Runtime.getRuntime().availableProcessors() : workers;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxErrors = maxErrors;
+    }
+
+    public CustomerImportReport importFile(Path path) {
+        return importFile(path, CustomerImportFormat.of(path));
+    }
+
+    public CustomerImportReport importFile(Path path, CustomerImportFormat format) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(format);
+
+        long startedAt = System.nanoTime();
+
+        try (NioLineReader reader = new NioLineReader(path)) {
+            CustomerRowParser parser = parserFor(format, reader);
+            return new Run(reader, parser, startedAt).execute();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CustomerRowParser parserFor(CustomerImportFormat format, NioLineReader reader) throws IOException {
+        return switch (format) {
+            case CSV -> {
+                String header = reader.readLine();
+                if (header == null) {
+                    throw new IllegalArgumentException("CSV file has no header.");
+                }
+                yield new CsvCustomerRowParser(header);
+            }
+            case NDJSON -> new NdjsonCustomerRowParser();
+        };
+    }
+
+    // Lote de linhas lidas. Um lote vazio sinaliza o fim para quem consome.
+    private record LineBatch(long[] lineNumbers, String[] lines, int size) {
+
+        static final LineBatch END = new LineBatch(new long[0], new String[0], 0);
+    }
+
+    // Lote já convertido. Um lote com errors == null sinaliza que um worker terminou.
+    private record CustomerBatch(List<Customer> customers, long[] lineNumbers, List<CustomerImportError> errors) {
+
+        static final CustomerBatch END = new CustomerBatch(List.of(), new long[0], null);
+    }
+
+    /**
+     * Estado de uma importação. Os contadores só são alterados pelo thread que chamou {@link #importFile}.
+     */
+    private final class Run {
+
+        private final NioLineReader reader;
+        private final CustomerRowParser parser;
+        private final long startedAt;
+
+        private final BlockingQueue<LineBatch> lines = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<CustomerBatch> customers = new ArrayBlockingQueue<>(queueCapacity);
+        private final List<CustomerImportError> errors = new ArrayList<>();
+
+        private volatile IOException readFailure;
+
+        private long imported;
+        private long rejected;
+        private long nextProgressAt;
+
+        private Run(NioLineReader reader, CustomerRowParser parser, long startedAt) {
+            this.reader = reader;
+            this.parser = parser;
+            this.startedAt = startedAt;
+            this.nextProgressAt = startedAt + PROGRESS_INTERVAL_NANOS;
+        }
+
+        private CustomerImportReport execute() throws IOException {
+            List<Thread> threads = new ArrayList<>(workers + 1);
+            threads.add(Thread.ofPlatform().name("customer-import-reader").start(this::read));
+            for (int i = 0; i < workers; i++) {
+                threads.add(Thread.ofPlatform().name("customer-import-worker-" + i).start(this::convert));
+            }
+
+            try {
+                register();
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Customer import interrupted.", e);
+            } finally {
+                threads.forEach(Thread::interrupt);
+            }
+
+            if (readFailure != null) {
+                throw readFailure;
+            }
+
+            long rowsRead = imported + rejected;
+            CustomerImportReport report = new CustomerImportReport(rowsRead, imported, rejected, List.copyOf(errors),
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+            log.info("Customer import finished: {} rows, {} imported, {} rejected in {} ms ({} rows/s).",
+                    rowsRead, imported, rejected, report.elapsed().toMillis(), Math.round(report.rowsPerSecond()));
+            return report;
+        }
+
+        // Estágio 1
+        private void read() {
+            try {
+                long[] lineNumbers = new long[batchSize];
+                String[] batch = new String[batchSize];
+                int size = 0;
+
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+
+                    lineNumbers[size] = reader.lineNumber();
+                    batch[size++] = line;
+
+                    if (size == batchSize) {
+                        lines.put(new LineBatch(lineNumbers, batch, size));
+                        lineNumbers = new long[batchSize];
+                        batch = new String[batchSize];
+                        size = 0;
+                    }
+                }
+
+                if (size > 0) {
+                    lines.put(new LineBatch(lineNumbers, batch, size));
+                }
+            } catch (IOException e) {
+                readFailure = e;
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                for (int i = 0; i < workers; i++) {
+                    lines.put(LineBatch.END);
+                }
+            } catch (InterruptedException ignored) {
+                // A importação foi abandonada
+            }
+        }
+
+        // Estágio 2
+        private void convert() {
+            try {
+                for (LineBatch batch = lines.take(); batch != LineBatch.END; batch = lines.take()) {
+                    List<Customer> converted = new ArrayList<>(batch.size());
+                    long[] convertedLines = new long[batch.size()];
+                    List<CustomerImportError> failures = new ArrayList<>();
+
+                    for (int i = 0; i < batch.size(); i++) {
+                        try {
+                            Customer customer = parser.parse(batch.lines()[i]).toCustomer();
+                            convertedLines[converted.size()] = batch.lineNumbers()[i];
+                            converted.add(customer);
+                        } catch (RuntimeException e) {
+                            failures.add(new CustomerImportError(batch.lineNumbers()[i], messageOf(e)));
+                        }
+                    }
+
+                    customers.put(new CustomerBatch(converted, convertedLines, failures));
+                }
+
+                customers.put(CustomerBatch.END);
+            } catch (InterruptedException ignored) {
+                // A importação foi abandonada
+            }
+        }
+
+        // Estágio 3
+        private void register() throws InterruptedException {
+            int running = workers;
+
+            while (running > 0) {
+                CustomerBatch batch = customers.take();
+                if (batch == CustomerBatch.END) {
+                    running--;
+                    continue;
+                }
+
+                batch.errors().forEach(this::reject);
+
+                for (int i = 0; i < batch.customers().size(); i++) {
+                    try {
+                        customerApplicationService.register(batch.customers().get(i));
+                        imported++;
+                    } catch (DomainException e) {
+                        reject(new CustomerImportError(batch.lineNumbers()[i], e.getMessage()));
+                    }
+                }
+
+                logProgress();
+            }
+        }
+
+        private void reject(CustomerImportError error) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+
+        private void logProgress() {
+            long now = System.nanoTime();
+            if (now < nextProgressAt) {
+                return;
+            }
+
+            nextProgressAt = now + PROGRESS_INTERVAL_NANOS;
+            long rows = imported + rejected;
+            log.info("Customer import: {} rows, {} rejected ({} rows/s).", rows, rejected,
+                    rows * 1_000_000_000L / Math.max(1, now - startedAt));
+        }
+    }
+
+    private static String messageOf(RuntimeException e) {
+        return e.getMessage() == null ? MISSING_FIELD : e.getMessage();
+    }
+}
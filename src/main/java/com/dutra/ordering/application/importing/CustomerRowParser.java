@@ -0,0 +1,10 @@
+package com.dutra.ordering.application.importing;
+
+/**
+ * Converte uma linha do arquivo em {@link CustomerImportRow}. Implementações são imutáveis e usadas por
+ * vários workers ao mesmo tempo.
+ */
+interface CustomerRowParser {
+
+    CustomerImportRow parse(String line);
+}
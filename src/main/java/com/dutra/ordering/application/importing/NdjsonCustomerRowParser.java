@@ -0,0 +1,25 @@
+package com.dutra.ordering.application.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Um objeto JSON por linha, com os campos de {@link CustomerImportRow}. Campos desconhecidos são ignorados.
+ */
+final class NdjsonCustomerRowParser implements CustomerRowParser {
+
+    private final ObjectReader reader = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(CustomerImportRow.class);
+
+    @Override
+    public CustomerImportRow parse(String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.dutra.ordering.application.loyalty;
+
+import com.dutra.ordering.domain.valueobjects.LoyaltyPoints;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+
+import java.time.Instant;
+
+public record LoyaltyAccrual(CustomerId customerId, LoyaltyPoints points, String reason, Instant occurredAt) {
+}
@@ -0,0 +1,20 @@
+package com.dutra.ordering.application.loyalty;
+
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+
+import java.util.List;
+
+/**
+ * Registro somente de inclusão das pontuações já aplicadas aos clientes.
+ */
+public interface LoyaltyAuditTrail {
+
+    void append(List<LoyaltyAccrual> accruals);
+
+    /**
+     * @return as pontuações do cliente na ordem em que foram aplicadas.
+     */
+    List<LoyaltyAccrual> findByCustomerId(CustomerId customerId);
+
+    long count();
+}
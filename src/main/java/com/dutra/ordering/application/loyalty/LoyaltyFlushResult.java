@@ -0,0 +1,11 @@
+package com.dutra.ordering.application.loyalty;
+
+/**
+ * @param rejected pontuações descartadas porque o cliente não existe, está arquivado ou estouraria o saldo.
+ * @param deferred pontuações que voltaram a ficar pendentes por um conflito de concorrência ou uma falha
+ *                 inesperada; entram no próximo flush.
+ */
+public record LoyaltyFlushResult(int customers, int applied, int rejected, int deferred) {
+
+    public static final LoyaltyFlushResult EMPTY = new LoyaltyFlushResult(0, 0, 0, 0);
+}
@@ -0,0 +1,282 @@
+package com.dutra.ordering.application.loyalty;
+
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.exceptions.ConcurrentModificationConflictException;
+import com.dutra.ordering.domain.exceptions.DomainException;
+import com.dutra.ordering.domain.utility.DomainClock;
+import com.dutra.ordering.domain.valueobjects.LoyaltyPoints;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acumula pontos de fidelidade sem passar pelo lock do cliente a cada pontuação. Cada thread grava em uma
+ * de várias células (escolhida pelo id do thread, como as células de um {@link java.util.concurrent.atomic.LongAdder})
+ * o saldo pendente por cliente e a própria pontuação para auditoria. O {@link #flush()} esvazia as células,
+ * soma os saldos e aplica um único {@link CustomerApplicationService#addLoyaltyPoints} por cliente, depois grava
+ * as pontuações aplicadas no {@link LoyaltyAuditTrail}.
+ * <p>
+ * Pontos acumulados ficam pendentes até o próximo flush; {@link #pendingPoints} mostra quanto falta aplicar.
+ * Um cliente que não pode receber pontos (inexistente, arquivado) perde a pontuação; um conflito de concorrência
+ * ou uma falha inesperada devolve as pontuações dele às células, para o próximo flush.
+ */
+public class LoyaltyLedger implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoyaltyLedger.class);
+
+    private static final int MAX_CLOSING_FLUSHES = 8;
+
+    private final CustomerApplicationService customerApplicationService;
+    private final LoyaltyAuditTrail auditTrail;
+    private final Cell[] cells;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+
+    private volatile boolean closed;
+
+    /**
+     * @param cells         0 usa quatro células por processador disponível.
+     * @param flushInterval {@link Duration#ZERO} desliga o flush periódico.
+     */
+    public LoyaltyLedger(CustomerApplicationService customerApplicationService, LoyaltyAuditTrail auditTrail,
+                         int cells, Duration flushInterval) {
+        if (cells < 0 || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("Invalid loyalty ledger settings.");
+        }
+
+        this.customerApplicationService = Objects.requireNonNull(customerApplicationService);
+        this.auditTrail = Objects.requireNonNull(auditTrail);
+
+        int count = cells == 0 ? 4 * Runtime.getRuntime().availableProcessors() : cells;
+        this.cells = new Cell[Integer.highestOneBit(count * 2 - 1)];
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = new Cell();
+        }
+
+        if (flushInterval.isZero()) {
+            this.flusher = null;
+        } else {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("loyalty-ledger-flusher").daemon().factory());
+            long millis = flushInterval.toMillis();
+            this.flusher.scheduleWithFixedDelay(this::flushQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void accrue(CustomerId customerId, LoyaltyPoints points, String reason) {
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(points);
+
+        if (points.points() <= 0) {
+            throw new IllegalArgumentException("Negative number informed for points is invalid.");
+        }
+
+        LoyaltyAccrual accrual = new LoyaltyAccrual(customerId, points, reason, DomainClock.instant());
+        Cell cell = acquireCell();
+        try {
+            // Conferido com o lock da célula: close() passa por todas antes do flush final
+            if (closed) {
+                throw new IllegalStateException("Loyalty ledger is closed.");
+            }
+            cell.add(accrual);
+        } finally {
+            cell.lock.unlock();
+        }
+    }
+
+    /**
+     * Pontos já acumulados para o cliente que ainda não foram aplicados.
+     */
+    public long pendingPoints(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        long pending = 0;
+
+        for (Cell cell : cells) {
+            cell.lock.lock();
+            try {
+                long[] balance = cell.balances.get(customerId);
+                pending += balance == null ? 0 : balance[0];
+            } finally {
+                cell.lock.unlock();
+            }
+        }
+
+        return pending;
+    }
+
+    public LoyaltyFlushResult flush() {
+        flushLock.lock();
+        try {
+            Map<CustomerId, long[]> balances = new HashMap<>();
+            List<LoyaltyAccrual> accruals = new ArrayList<>();
+
+            for (Cell cell : cells) {
+                cell.drainTo(balances, accruals);
+            }
+
+            if (accruals.isEmpty()) {
+                return LoyaltyFlushResult.EMPTY;
+            }
+            // Cada célula está em ordem; entre células a ordem vem do instante da pontuação
+            accruals.sort(Comparator.comparing(LoyaltyAccrual::occurredAt));
+
+            Set<CustomerId> rejected = new HashSet<>();
+            Set<CustomerId> deferred = new HashSet<>();
+            balances.forEach((customerId, balance) -> {
+                try {
+                    customerApplicationService.addLoyaltyPoints(customerId,
+                            LoyaltyPoints.of(Math.toIntExact(balance[0])));
+                } catch (ConcurrentModificationConflictException e) {
+                    deferred.add(customerId);
+                } catch (DomainException | ArithmeticException e) {
+                    log.warn("Discarding {} loyalty points for customer {}: {}", balance[0], customerId,
+                            e.getMessage());
+                    rejected.add(customerId);
+                } catch (RuntimeException e) {
+                    log.error("Could not apply {} loyalty points for customer {}; keeping them pending.",
+                            balance[0], customerId, e);
+                    deferred.add(customerId);
+                }
+            });
+
+            List<LoyaltyAccrual> applied = new ArrayList<>(accruals.size());
+            int rejectedAccruals = 0;
+            Cell retry = cells[0];
+            for (LoyaltyAccrual accrual : accruals) {
+                if (deferred.contains(accrual.customerId())) {
+                    retry.addLocked(accrual);
+                } else if (rejected.contains(accrual.customerId())) {
+                    rejectedAccruals++;
+                } else {
+                    applied.add(accrual);
+                }
+            }
+            auditTrail.append(applied);
+
+            return new LoyaltyFlushResult(balances.size() - rejected.size() - deferred.size(), applied.size(),
+                    rejectedAccruals, accruals.size() - applied.size() - rejectedAccruals);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Para de aceitar pontuações e aplica o que estiver pendente, repetindo o flush enquanto houver conflitos.
+     */
+    @Override
+    public void close() {
+        // Com todas as células travadas, nenhuma pontuação entra depois do flush final
+        for (Cell cell : cells) {
+            cell.lock.lock();
+        }
+        try {
+            closed = true;
+        } finally {
+            for (Cell cell : cells) {
+                cell.lock.unlock();
+            }
+        }
+
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        for (int attempt = 0; attempt < MAX_CLOSING_FLUSHES; attempt++) {
+            if (flush().deferred() == 0) {
+                return;
+            }
+        }
+        log.error("Loyalty ledger closed with accruals that could not be applied.");
+    }
+
+    // Métodos Auxiliares
+    private Cell acquireCell() {
+        long threadId = Thread.currentThread().threadId();
+        int mask = cells.length - 1;
+        int home = (int) ((threadId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+
+        // Com a célula do thread ocupada, tenta as vizinhas antes de esperar
+        for (int i = 0; i < cells.length; i++) {
+            Cell cell = cells[(home + i) & mask];
+            if (cell.lock.tryLock()) {
+                return cell;
+            }
+        }
+
+        Cell cell = cells[home];
+        cell.lock.lock();
+        return cell;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Loyalty ledger flush failed.", e);
+        }
+    }
+
+    private static final class Cell {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // O saldo fica em um long[1] para somar sem criar um Long a cada pontuação
+        private Map<CustomerId, long[]> balances = new HashMap<>();
+        private List<LoyaltyAccrual> accruals = new ArrayList<>();
+
+        // Chamado com o lock adquirido
+        private void add(LoyaltyAccrual accrual) {
+            long[] balance = balances.get(accrual.customerId());
+            if (balance == null) {
+                balance = new long[1];
+                balances.put(accrual.customerId(), balance);
+            }
+
+            balance[0] += accrual.points().points();
+            accruals.add(accrual);
+        }
+
+        private void addLocked(LoyaltyAccrual accrual) {
+            lock.lock();
+            try {
+                add(accrual);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drainTo(Map<CustomerId, long[]> totals, List<LoyaltyAccrual> drained) {
+            Map<CustomerId, long[]> drainedBalances;
+            List<LoyaltyAccrual> drainedAccruals;
+
+            lock.lock();
+            try {
+                if (accruals.isEmpty()) {
+                    return;
+                }
+                drainedBalances = balances;
+                drainedAccruals = accruals;
+                balances = new HashMap<>();
+                accruals = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+
+            drainedBalances.forEach((customerId, balance) ->
+                    totals.computeIfAbsent(customerId, key -> new long[1])[0] += balance[0]);
+            drained.addAll(drainedAccruals);
+        }
+    }
+}
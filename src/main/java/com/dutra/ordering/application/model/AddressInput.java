@@ -0,0 +1,14 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.valueobjects.Address;
+import com.dutra.ordering.domain.valueobjects.ZipCode;
+import jakarta.validation.constraints.NotBlank;
+
+public record AddressInput(@NotBlank String street, @NotBlank String number, String complement,
+                           @NotBlank String neighborhood, @NotBlank String city, @NotBlank String state,
+                           @NotBlank String zipCode) {
+
+    public Address toAddress() {
+        return new Address(street, number, complement, neighborhood, city, state, new ZipCode(zipCode));
+    }
+}
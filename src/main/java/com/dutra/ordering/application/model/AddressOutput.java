@@ -0,0 +1,16 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.valueobjects.Address;
+
+public record AddressOutput(String street, String number, String complement, String neighborhood,
+                            String city, String state, String zipCode) {
+
+    public static AddressOutput of(Address address) {
+        if (address == null) {
+            return null;
+        }
+
+        return new AddressOutput(address.street(), address.number(), address.Complement(), address.neighborhood(),
+                address.city(), address.state(), address.zipCode().value());
+    }
+}
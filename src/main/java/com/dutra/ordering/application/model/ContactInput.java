@@ -0,0 +1,20 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.valueobjects.*;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record ContactInput(@NotBlank String firstName, @NotBlank String lastName, @NotBlank String document,
+                           @NotBlank String phone, @NotNull @Valid AddressInput address) {
+
+    public ShippingInfo toShippingInfo() {
+        return new ShippingInfo(new FullName(firstName, lastName), new Document(document), new Phone(phone),
+                address.toAddress());
+    }
+
+    public BillingInfo toBillingInfo() {
+        return new BillingInfo(new FullName(firstName, lastName), new Document(document), new Phone(phone),
+                address.toAddress());
+    }
+}
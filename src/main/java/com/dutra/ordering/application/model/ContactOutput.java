@@ -0,0 +1,26 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.valueobjects.BillingInfo;
+import com.dutra.ordering.domain.valueobjects.ShippingInfo;
+
+public record ContactOutput(String firstName, String lastName, String document, String phone,
+                            AddressOutput address) {
+
+    public static ContactOutput of(ShippingInfo shipping) {
+        if (shipping == null) {
+            return null;
+        }
+
+        return new ContactOutput(shipping.fullName().firstName(), shipping.fullName().lastName(),
+                shipping.document().document(), shipping.phone().phone(), AddressOutput.of(shipping.address()));
+    }
+
+    public static ContactOutput of(BillingInfo billing) {
+        if (billing == null) {
+            return null;
+        }
+
+        return new ContactOutput(billing.fullName().firstName(), billing.fullName().lastName(),
+                billing.document().document(), billing.phone().phone(), AddressOutput.of(billing.address()));
+    }
+}
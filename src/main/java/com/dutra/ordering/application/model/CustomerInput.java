@@ -0,0 +1,13 @@
+package com.dutra.ordering.application.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+
+import java.time.LocalDate;
+
+public record CustomerInput(@NotBlank String firstName, @NotBlank String lastName, @Past LocalDate birthDate,
+                            @NotBlank String email, @NotBlank String phone, @NotBlank String document,
+                            boolean promotionNotificationsAllowed, @NotNull @Valid AddressInput address) {
+}
@@ -0,0 +1,31 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.entity.Customer;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record CustomerOutput(UUID id, String firstName, String lastName, LocalDate birthDate, String email,
+                             String phone, String document, boolean promotionNotificationsAllowed, boolean archived,
+                             OffsetDateTime registeredAt, OffsetDateTime archivedAt, int loyaltyPoints,
+                             AddressOutput address) {
+
+    public static CustomerOutput of(Customer customer) {
+        return new CustomerOutput(
+                customer.id().valueId(),
+                customer.fullName().firstName(),
+                customer.fullName().lastName(),
+                customer.birthDate() == null ? null : customer.birthDate().birthDate(),
+                customer.email() == null ? null : customer.email().email(),
+                customer.phone() == null ? null : customer.phone().phone(),
+                customer.document() == null ? null : customer.document().document(),
+                customer.isPromotionNotificationsAllowed(),
+                customer.isArchived(),
+                customer.registeredAt(),
+                customer.archivedAt(),
+                customer.loyaltyPoints() == null ? 0 : customer.loyaltyPoints().points(),
+                AddressOutput.of(customer.address())
+        );
+    }
+}
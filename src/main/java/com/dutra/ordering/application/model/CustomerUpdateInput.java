@@ -0,0 +1,10 @@
+package com.dutra.ordering.application.model;
+
+import jakarta.validation.Valid;
+
+/**
+ * Campos nulos ficam como estão.
+ */
+public record CustomerUpdateInput(String firstName, String lastName, String email, String phone,
+                                  Boolean promotionNotificationsAllowed, @Valid AddressInput address) {
+}
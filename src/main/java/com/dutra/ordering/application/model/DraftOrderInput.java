@@ -0,0 +1,8 @@
+package com.dutra.ordering.application.model;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record DraftOrderInput(@NotNull UUID customerId) {
+}
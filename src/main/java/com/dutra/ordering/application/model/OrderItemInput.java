@@ -0,0 +1,25 @@
+package com.dutra.ordering.application.model;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Sem {@code productName} e {@code price}, os dois vêm do catálogo de produtos.
+ */
+public record OrderItemInput(@NotNull UUID productId, String productName, @PositiveOrZero BigDecimal price,
+                             @Positive int quantity) {
+
+    public boolean isFromCatalog() {
+        return productName == null && price == null;
+    }
+
+    @AssertTrue(message = "Inform both productName and price, or neither.")
+    public boolean isComplete() {
+        return productName == null ? price == null : !productName.isBlank() && price != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.entity.OrderItem;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record OrderItemOutput(String id, UUID productId, String productName, BigDecimal price,
+                              int quantity, BigDecimal totalAmount) {
+
+    public static OrderItemOutput of(OrderItem item) {
+        return new OrderItemOutput(item.id().toString(), item.productId().valueId(), item.productName().value(),
+                item.price().value(), item.quantity().value(), item.totalAmount().value());
+    }
+}
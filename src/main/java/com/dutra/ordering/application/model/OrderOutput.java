@@ -0,0 +1,47 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.OrderItem;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record OrderOutput(String id, UUID customerId, OrderStatus status, BigDecimal totalAmount, int totalItems,
+                          OffsetDateTime placedAt, OffsetDateTime paidAt, OffsetDateTime readyAt,
+                          OffsetDateTime canceledAt, PaymentMethods paymentMethod, ContactOutput shipping,
+                          BigDecimal shippingCost, LocalDate expectedDeliveryDate, ContactOutput billing,
+                          List<OrderItemOutput> items) {
+
+    public static OrderOutput of(Order order) {
+        Set<OrderItem> orderItems = order.items();
+        List<OrderItemOutput> items = new ArrayList<>(orderItems.size());
+        for (OrderItem item : orderItems) {
+            items.add(OrderItemOutput.of(item));
+        }
+
+        return new OrderOutput(
+                order.id().toString(),
+                order.customerId().valueId(),
+                order.orderStatus(),
+                order.totalAmount().value(),
+                order.totalItems().value(),
+                order.placedAt(),
+                order.paidAt(),
+                order.readyAt(),
+                order.canceledAt(),
+                order.paymentMethod(),
+                ContactOutput.of(order.shipping()),
+                order.shippingCost() == null ? null : order.shippingCost().value(),
+                order.expectedDeliveryDate(),
+                ContactOutput.of(order.billing()),
+                items
+        );
+    }
+}
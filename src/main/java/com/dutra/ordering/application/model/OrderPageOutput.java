@@ -0,0 +1,9 @@
+package com.dutra.ordering.application.model;
+
+import java.util.List;
+
+/**
+ * @param next cursor da página seguinte (o id do último pedido), ou {@code null} se esta é a última.
+ */
+public record OrderPageOutput(List<OrderOutput> orders, String next) {
+}
@@ -0,0 +1,7 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import jakarta.validation.constraints.NotNull;
+
+public record PaymentMethodInput(@NotNull PaymentMethods paymentMethod) {
+}
@@ -0,0 +1,6 @@
+package com.dutra.ordering.application.model;
+
+import jakarta.validation.constraints.Positive;
+
+public record QuantityInput(@Positive int quantity) {
+}
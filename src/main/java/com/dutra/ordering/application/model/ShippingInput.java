@@ -0,0 +1,25 @@
+package com.dutra.ordering.application.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sem {@code cost} e {@code expectedDeliveryDate}, os dois vêm da cotação de frete para o CEP do destinatário.
+ */
+public record ShippingInput(@NotNull @Valid ContactInput recipient, @PositiveOrZero BigDecimal cost,
+                            LocalDate expectedDeliveryDate) {
+
+    public boolean isQuoted() {
+        return cost == null && expectedDeliveryDate == null;
+    }
+
+    @AssertTrue(message = "Inform both cost and expectedDeliveryDate, or neither.")
+    public boolean isComplete() {
+        return (cost == null) == (expectedDeliveryDate == null);
+    }
+}
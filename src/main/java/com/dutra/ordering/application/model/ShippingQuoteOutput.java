@@ -0,0 +1,13 @@
+package com.dutra.ordering.application.model;
+
+import com.dutra.ordering.application.shipping.ShippingQuote;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ShippingQuoteOutput(BigDecimal cost, LocalDate expectedDeliveryDate) {
+
+    public static ShippingQuoteOutput of(ShippingQuote quote) {
+        return new ShippingQuoteOutput(quote.cost().value(), quote.expectedDeliveryDate());
+    }
+}
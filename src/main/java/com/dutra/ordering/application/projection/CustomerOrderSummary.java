@@ -0,0 +1,13 @@
+package com.dutra.ordering.application.projection;
+
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+
+/**
+ * @param orders        pedidos criados, em qualquer status.
+ * @param placedOrders  pedidos que chegaram a ser confirmados, inclusive os cancelados depois.
+ * @param lifetimeSpend soma dos pedidos pagos que não foram cancelados.
+ */
+public record CustomerOrderSummary(CustomerId customerId, long orders, long placedOrders, long canceledOrders,
+                                   Money lifetimeSpend) {
+}
@@ -0,0 +1,11 @@
+package com.dutra.ordering.application.projection;
+
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.Money;
+
+/**
+ * @param totalAmount soma dos totais dos pedidos no status. Sempre zero para {@link OrderStatus#DRAFT}: o total
+ *                    de um rascunho muda a cada item e só é conhecido quando ele sai desse status.
+ */
+public record OrderStatusSummary(OrderStatus orderStatus, long orders, Money totalAmount) {
+}
@@ -0,0 +1,184 @@
+package com.dutra.ordering.application.projection;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.event.OrderDraftedEvent;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.event.OrderEventListener;
+import com.dutra.ordering.domain.event.OrderStatusChangedEvent;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Visões de leitura de pedidos por cliente e por status, atualizadas pelos eventos de cada save: criação do
+ * pedido e mudanças de status. Cada evento altera alguns contadores, sem consultar o agregado, e as consultas
+ * só leem esses contadores.
+ * <p>
+ * Os contadores são atualizados de forma independente, então uma consulta feita durante um save pode ver
+ * parte das alterações dele.
+ */
+@Component
+public class OrderSummaryProjection implements OrderEventListener {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private volatile State state = new State();
+
+    @Override
+    public CompletableFuture<Void> on(List<OrderEvent> events) {
+        State current = state;
+
+        for (OrderEvent event : events) {
+            switch (event) {
+                case OrderDraftedEvent drafted -> current.drafted(drafted);
+                case OrderStatusChangedEvent statusChanged -> current.statusChanged(statusChanged);
+                default -> {
+                }
+            }
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public CustomerOrderSummary customerSummary(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        CustomerCounters counters = state.customers.get(customerId);
+
+        if (counters == null) {
+            return new CustomerOrderSummary(customerId, 0, 0, 0, Money.ZERO);
+        }
+
+        return new CustomerOrderSummary(customerId, counters.orders.get(), counters.placedOrders.get(),
+                counters.canceledOrders.get(), Money.ofCents(Math.max(0, counters.spendCents.get())));
+    }
+
+    public OrderStatusSummary statusSummary(OrderStatus orderStatus) {
+        Objects.requireNonNull(orderStatus);
+        State current = state;
+        int index = orderStatus.ordinal();
+
+        // A soma de um LongAdder não é um retrato atômico e pode ficar negativa por um instante
+        return new OrderStatusSummary(orderStatus, Math.max(0, current.statusOrders[index].sum()),
+                Money.ofCents(Math.max(0, current.statusCents[index].sum())));
+    }
+
+    public List<OrderStatusSummary> statusSummaries() {
+        List<OrderStatusSummary> summaries = new ArrayList<>(STATUSES.length);
+        for (OrderStatus orderStatus : STATUSES) {
+            summaries.add(statusSummary(orderStatus));
+        }
+        return summaries;
+    }
+
+    /**
+     * Descarta as visões e as recalcula a partir do estado atual dos pedidos, em paralelo. Eventos recebidos
+     * enquanto o cálculo roda são perdidos, então deve ser chamado sem gravações em andamento (por exemplo,
+     * logo depois do replay do journal, na subida).
+     */
+    public void rebuild(Collection<Order> orders) {
+        state = orders.parallelStream().collect(State::new, State::add, State::merge);
+    }
+
+    private static final class State {
+
+        private final ConcurrentHashMap<CustomerId, CustomerCounters> customers = new ConcurrentHashMap<>();
+        private final LongAdder[] statusOrders = adders();
+        private final LongAdder[] statusCents = adders();
+
+        private void drafted(OrderDraftedEvent event) {
+            countersOf(event.customerId()).orders.incrementAndGet();
+            statusOrders[OrderStatus.DRAFT.ordinal()].increment();
+        }
+
+        private void statusChanged(OrderStatusChangedEvent event) {
+            long cents = event.totalAmount().cents();
+
+            statusOrders[event.from().ordinal()].decrement();
+            statusOrders[event.to().ordinal()].increment();
+            if (event.from() != OrderStatus.DRAFT) {
+                statusCents[event.from().ordinal()].add(-cents);
+            }
+            statusCents[event.to().ordinal()].add(cents);
+
+            CustomerCounters counters = countersOf(event.customerId());
+            switch (event.to()) {
+                case PLACED -> counters.placedOrders.incrementAndGet();
+                case PAID -> counters.spendCents.addAndGet(cents);
+                case CANCELED -> {
+                    counters.canceledOrders.incrementAndGet();
+                    if (event.from() == OrderStatus.PAID || event.from() == OrderStatus.READY) {
+                        counters.spendCents.addAndGet(-cents);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        // Mesmo resultado de aplicar todos os eventos do pedido
+        private void add(Order order) {
+            OrderStatus orderStatus = order.orderStatus();
+            statusOrders[orderStatus.ordinal()].increment();
+            if (orderStatus != OrderStatus.DRAFT) {
+                statusCents[orderStatus.ordinal()].add(order.totalAmount().cents());
+            }
+
+            CustomerCounters counters = countersOf(order.customerId());
+            counters.orders.incrementAndGet();
+            if (order.placedAt() != null) {
+                counters.placedOrders.incrementAndGet();
+            }
+            if (orderStatus == OrderStatus.CANCELED) {
+                counters.canceledOrders.incrementAndGet();
+            } else if (order.paidAt() != null) {
+                counters.spendCents.addAndGet(order.totalAmount().cents());
+            }
+        }
+
+        private void merge(State other) {
+            for (int i = 0; i < STATUSES.length; i++) {
+                statusOrders[i].add(other.statusOrders[i].sum());
+                statusCents[i].add(other.statusCents[i].sum());
+            }
+
+            other.customers.forEach((customerId, counters) -> {
+                CustomerCounters merged = countersOf(customerId);
+                merged.orders.addAndGet(counters.orders.get());
+                merged.placedOrders.addAndGet(counters.placedOrders.get());
+                merged.canceledOrders.addAndGet(counters.canceledOrders.get());
+                merged.spendCents.addAndGet(counters.spendCents.get());
+            });
+        }
+
+        private CustomerCounters countersOf(CustomerId customerId) {
+            CustomerCounters counters = customers.get(customerId);
+            return counters != null ? counters : customers.computeIfAbsent(customerId, id -> new CustomerCounters());
+        }
+
+        private static LongAdder[] adders() {
+            LongAdder[] adders = new LongAdder[STATUSES.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+
+    private static final class CustomerCounters {
+
+        private final AtomicLong orders = new AtomicLong();
+        private final AtomicLong placedOrders = new AtomicLong();
+        private final AtomicLong canceledOrders = new AtomicLong();
+        private final AtomicLong spendCents = new AtomicLong();
+    }
+}
@@ -0,0 +1,194 @@
+package com.dutra.ordering.application.service;
+
+import com.dutra.ordering.application.model.CustomerInput;
+import com.dutra.ordering.application.model.CustomerOutput;
+import com.dutra.ordering.application.model.CustomerUpdateInput;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.exceptions.CustomerArchivedException;
+import com.dutra.ordering.domain.exceptions.CustomerEmailAlreadyInUseException;
+import com.dutra.ordering.domain.exceptions.CustomerNotFoundException;
+import com.dutra.ordering.domain.repository.CustomerRepository;
+import com.dutra.ordering.domain.valueobjects.*;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.infrastructure.concurrent.StripedLocks;
+import com.dutra.ordering.infrastructure.metrics.DomainMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Casos de uso de cliente. Alterações são gravadas com {@link CustomerRepository#update}, que refaz a
+ * alteração sobre a versão nova em caso de conflito. A unicidade do email é verificada sob um lock listrado pelo
+ * próprio email, mantido até a gravação.
+ */
+@Service
+public class CustomerApplicationService {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final CustomerRepository customerRepository;
+    private final StripedLocks emailLocks = new StripedLocks(LOCK_STRIPES);
+    private final DomainMetrics metrics;
+
+    public CustomerApplicationService(CustomerRepository customerRepository) {
+        this(customerRepository, DomainMetrics.NOOP);
+    }
+
+    @Autowired
+    public CustomerApplicationService(CustomerRepository customerRepository, DomainMetrics metrics) {
+        this.customerRepository = customerRepository;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public CustomerOutput create(CustomerInput input) {
+        Customer customer = Customer.brandNew(
+                new FullName(input.firstName(), input.lastName()),
+                input.birthDate() == null ? null : new BirthDate(input.birthDate()),
+                new Email(input.email()),
+                new Phone(input.phone()),
+                new Document(input.document()),
+                input.promotionNotificationsAllowed(),
+                input.address().toAddress()
+        );
+
+        register(customer);
+        return CustomerOutput.of(customer);
+    }
+
+    /**
+     * Salva um cliente novo já construído, garantindo que o email não está em uso.
+     *
+     * @throws CustomerEmailAlreadyInUseException se outro cliente ativo usa o mesmo email.
+     */
+    public void register(Customer customer) {
+        Objects.requireNonNull(customer);
+        Email email = customer.email();
+
+        ReentrantLock lock = emailLocks.lockFor(email);
+        lock.lock();
+        try {
+            verifyEmailAvailable(email, customer.id());
+            customerRepository.save(customer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CustomerOutput findById(CustomerId customerId) {
+        return CustomerOutput.of(load(customerId));
+    }
+
+    /**
+     * Mantém a ordem pedida e ignora repetidos e inexistentes.
+     */
+    public List<CustomerOutput> findAllById(Collection<CustomerId> customerIds) {
+        List<CustomerOutput> customers = new ArrayList<>(customerIds.size());
+
+        for (CustomerId customerId : new LinkedHashSet<>(customerIds)) {
+            customerRepository.findById(customerId).ifPresent(customer -> customers.add(CustomerOutput.of(customer)));
+        }
+
+        return customers;
+    }
+
+    public CustomerOutput update(CustomerId customerId, CustomerUpdateInput input) {
+        Objects.requireNonNull(customerId);
+
+        Consumer<Customer> change = customer -> {
+            if (input.firstName() != null || input.lastName() != null) {
+                customer.changeName(new FullName(
+                        input.firstName() == null ? customer.fullName().firstName() : input.firstName(),
+                        input.lastName() == null ? customer.fullName().lastName() : input.lastName()));
+            }
+            if (input.phone() != null) {
+                customer.changePhone(new Phone(input.phone()));
+            }
+            if (input.address() != null) {
+                customer.changeAddress(input.address().toAddress());
+            }
+            if (Boolean.TRUE.equals(input.promotionNotificationsAllowed())) {
+                customer.eneablePromotionNotifications();
+            } else if (Boolean.FALSE.equals(input.promotionNotificationsAllowed())) {
+                customer.diseablePromotionNotifications();
+            }
+        };
+
+        if (input.email() == null) {
+            return CustomerOutput.of(update(customerId, change));
+        }
+
+        Email email = new Email(input.email());
+        ReentrantLock emailLock = emailLocks.lockFor(email);
+        emailLock.lock();
+        try {
+            verifyEmailAvailable(email, customerId);
+            return CustomerOutput.of(update(customerId, change.andThen(customer -> {
+                if (!email.equals(customer.email())) {
+                    customer.changeEmail(email);
+                }
+            })));
+        } finally {
+            emailLock.unlock();
+        }
+    }
+
+    public void archive(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        update(customerId, Customer::archive);
+    }
+
+    /**
+     * Igual a {@link #archive(CustomerId)}, mas informa clientes inexistentes ou já arquivados no resultado em vez
+     * de lançar exceção. Usado no arquivamento em lote.
+     */
+    public CustomerArchiveResult tryArchive(CustomerId customerId, OffsetDateTime archivedAt) {
+        Objects.requireNonNull(customerId);
+
+        try {
+            return customerRepository.update(customerId, customer -> customer.archive(archivedAt)).isPresent()
+                    ? CustomerArchiveResult.ARCHIVED
+                    : CustomerArchiveResult.NOT_FOUND;
+        } catch (CustomerArchivedException e) {
+            metrics.exceptionThrown(e);
+            return CustomerArchiveResult.ALREADY_ARCHIVED;
+        }
+    }
+
+    /**
+     * Usado pelo {@code LoyaltyLedger} para aplicar de uma vez os pontos acumulados de um cliente.
+     */
+    public void addLoyaltyPoints(CustomerId customerId, LoyaltyPoints loyaltyPoints) {
+        Objects.requireNonNull(customerId);
+        Objects.requireNonNull(loyaltyPoints);
+        update(customerId, customer -> customer.addLoyaltyPoints(loyaltyPoints));
+    }
+
+    // Métodos Auxiliares
+    private Customer load(CustomerId customerId) {
+        return customerRepository.findById(customerId).orElseThrow(() -> new CustomerNotFoundException(customerId));
+    }
+
+    private Customer update(CustomerId customerId, Consumer<Customer> change) {
+        Optional<Customer> updated;
+        try {
+            updated = customerRepository.update(customerId, change);
+        } catch (RuntimeException e) {
+            metrics.exceptionThrown(e);
+            throw e;
+        }
+
+        return updated.orElseThrow(() -> new CustomerNotFoundException(customerId));
+    }
+
+    private void verifyEmailAvailable(Email email, CustomerId customerId) {
+        customerRepository.findByEmail(email)
+                .filter(existing -> !existing.id().equals(customerId))
+                .ifPresent(existing -> {
+                    throw new CustomerEmailAlreadyInUseException(email);
+                });
+    }
+}
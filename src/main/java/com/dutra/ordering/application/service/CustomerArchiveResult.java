@@ -0,0 +1,8 @@
+package com.dutra.ordering.application.service;
+
+public enum CustomerArchiveResult {
+
+    ARCHIVED,
+    ALREADY_ARCHIVED,
+    NOT_FOUND
+}
@@ -0,0 +1,300 @@
+package com.dutra.ordering.application.service;
+
+import com.dutra.ordering.application.catalog.CatalogProduct;
+import com.dutra.ordering.application.catalog.ProductCatalog;
+import com.dutra.ordering.application.idempotency.IdempotencyStore;
+import com.dutra.ordering.application.model.*;
+import com.dutra.ordering.application.shipping.ShippingQuote;
+import com.dutra.ordering.application.shipping.ShippingQuoteRequest;
+import com.dutra.ordering.application.shipping.ShippingQuoteService;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.exceptions.CustomerNotFoundException;
+import com.dutra.ordering.domain.exceptions.IdempotencyKeyReusedException;
+import com.dutra.ordering.domain.exceptions.OrderNotFoundException;
+import com.dutra.ordering.domain.exceptions.ProductNotFoundException;
+import com.dutra.ordering.domain.repository.CustomerRepository;
+import com.dutra.ordering.domain.repository.OrderRepository;
+import com.dutra.ordering.domain.utility.DomainClock;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.ShippingInfo;
+import com.dutra.ordering.domain.valueobjects.ZipCode;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.metrics.DomainMetrics;
+import com.dutra.ordering.infrastructure.shipping.StubCarrierShippingQuoteService;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Casos de uso de pedido. Cada alteração é aplicada a uma cópia do pedido e gravada com
+ * {@link OrderRepository#update}: se outra requisição gravou o mesmo pedido nesse meio tempo, a alteração é
+ * refeita sobre a versão nova (por exemplo, um cancelamento que perde para o pagamento é reavaliado já pago).
+ * <p>
+ * Criação, confirmação e pagamento aceitam uma chave de idempotência: repetições com a mesma chave devolvem o
+ * resultado da primeira execução (veja {@link IdempotencyStore}).
+ * <p>
+ * As operações de itens e de status são medidas por {@link DomainMetrics} (cada tentativa conta), e as exceções
+ * lançadas pelas alterações são contadas por tipo.
+ */
+@Service
+public class OrderApplicationService {
+
+    private static final String AGGREGATE = "order";
+
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final ShippingQuoteService shippingQuoteService;
+    private final ProductCatalog productCatalog;
+    private final IdempotencyStore idempotencyStore;
+    private final DomainMetrics metrics;
+
+    private final Timer addItemTimer;
+    private final Timer changeItemQuantityTimer;
+    private final Timer removeItemTimer;
+    private final Timer placeTimer;
+    private final Timer markAsPaidTimer;
+    private final Timer markAsReadyTimer;
+    private final Timer cancelTimer;
+
+    public OrderApplicationService(OrderRepository orderRepository, CustomerRepository customerRepository) {
+        this(orderRepository, customerRepository, new StubCarrierShippingQuoteService(), ProductCatalog.EMPTY,
+                new IdempotencyStore(10_000, Duration.ofHours(1), 0), DomainMetrics.NOOP);
+    }
+
+    @Autowired
+    public OrderApplicationService(OrderRepository orderRepository, CustomerRepository customerRepository,
+                                   ShippingQuoteService shippingQuoteService, ProductCatalog productCatalog,
+                                   IdempotencyStore idempotencyStore, DomainMetrics metrics) {
+        this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.shippingQuoteService = Objects.requireNonNull(shippingQuoteService);
+        this.productCatalog = Objects.requireNonNull(productCatalog);
+        this.idempotencyStore = Objects.requireNonNull(idempotencyStore);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        this.addItemTimer = metrics.operationTimer(AGGREGATE, "addItem");
+        this.changeItemQuantityTimer = metrics.operationTimer(AGGREGATE, "changeItemQuantity");
+        this.removeItemTimer = metrics.operationTimer(AGGREGATE, "removeItem");
+        this.placeTimer = metrics.operationTimer(AGGREGATE, "place");
+        this.markAsPaidTimer = metrics.operationTimer(AGGREGATE, "markAsPaid");
+        this.markAsReadyTimer = metrics.operationTimer(AGGREGATE, "markAsReady");
+        this.cancelTimer = metrics.operationTimer(AGGREGATE, "cancel");
+    }
+
+    public OrderOutput draft(DraftOrderInput input) {
+        CustomerId customerId = new CustomerId(input.customerId());
+
+        if (!customerRepository.existsById(customerId)) {
+            throw new CustomerNotFoundException(customerId);
+        }
+
+        Order order = Order.draft(customerId);
+        orderRepository.save(order);
+        return OrderOutput.of(order);
+    }
+
+    /**
+     * @param idempotencyKey {@code null} cria sempre; com chave, repetições devolvem o mesmo pedido.
+     */
+    public OrderOutput draft(DraftOrderInput input, String idempotencyKey) {
+        return idempotent(idempotencyKey, "draft", input.customerId(), () -> draft(input));
+    }
+
+    public OrderOutput findById(OrderId orderId) {
+        return OrderOutput.of(load(orderId));
+    }
+
+    /**
+     * Mantém a ordem pedida e ignora repetidos e inexistentes.
+     */
+    public List<OrderOutput> findAllById(Collection<OrderId> orderIds) {
+        List<OrderOutput> orders = new ArrayList<>(orderIds.size());
+
+        for (OrderId orderId : new LinkedHashSet<>(orderIds)) {
+            orderRepository.findById(orderId).ifPresent(order -> orders.add(OrderOutput.of(order)));
+        }
+
+        return orders;
+    }
+
+    public List<OrderOutput> findByCustomerId(CustomerId customerId) {
+        return orderRepository.findByCustomerId(customerId).stream().map(OrderOutput::of).toList();
+    }
+
+    /**
+     * Pedidos mais novos primeiro, antes do cursor {@code before} ({@code null} na primeira página).
+     */
+    public OrderPageOutput findRecent(OrderStatus orderStatus, OrderId before, int limit) {
+        return pageOf(orderRepository.findBefore(orderStatus, before, limit), limit);
+    }
+
+    /**
+     * Pedidos mais antigos primeiro, depois do cursor {@code after} ({@code null} na primeira página).
+     */
+    public OrderPageOutput findCreatedAfter(OrderStatus orderStatus, OrderId after, int limit) {
+        return pageOf(orderRepository.findAfter(orderStatus, after, limit), limit);
+    }
+
+    public List<OrderOutput> findPlacedBetween(OffsetDateTime from, OffsetDateTime to, int limit) {
+        return orderRepository.findPlacedBetween(from, to, limit).stream().map(OrderOutput::of).toList();
+    }
+
+    public List<OrderOutput> findPaidBetween(OffsetDateTime from, OffsetDateTime to, int limit) {
+        return orderRepository.findPaidBetween(from, to, limit).stream().map(OrderOutput::of).toList();
+    }
+
+    /**
+     * Sem nome e preço na entrada, usa os do catálogo de produtos.
+     */
+    public OrderOutput addItem(OrderId orderId, OrderItemInput input) {
+        if (input.isFromCatalog()) {
+            return addItem(orderId, new ProductId(input.productId()), Quantity.of(input.quantity()));
+        }
+
+        return update(orderId, metrics.timed(addItemTimer, order -> order.addItem(new ProductId(input.productId()),
+                new ProductName(input.productName()), new Money(input.price()), Quantity.of(input.quantity()))));
+    }
+
+    /**
+     * O produto é consultado uma vez, antes da alteração: se ela for refeita por conflito, usa o mesmo nome e preço.
+     */
+    public OrderOutput addItem(OrderId orderId, ProductId productId, Quantity quantity) {
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(quantity);
+
+        CatalogProduct product;
+        try {
+            product = productCatalog.findById(productId).orElseThrow(() -> new ProductNotFoundException(productId));
+        } catch (ProductNotFoundException e) {
+            metrics.exceptionThrown(e);
+            throw e;
+        }
+
+        return update(orderId, metrics.timed(addItemTimer, order -> order.addItem(product.productId(),
+                product.productName(), product.price(), quantity)));
+    }
+
+    public OrderOutput changeItemQuantity(OrderId orderId, ProductId productId, QuantityInput input) {
+        return update(orderId, metrics.timed(changeItemQuantityTimer,
+                order -> order.changeItemQuantity(productId, Quantity.of(input.quantity()))));
+    }
+
+    public OrderOutput removeItem(OrderId orderId, ProductId productId) {
+        return update(orderId, metrics.timed(removeItemTimer, order -> order.removeItem(productId)));
+    }
+
+    /**
+     * Sem custo e prazo na entrada, usa a cotação para o CEP do destinatário e os itens atuais do pedido.
+     */
+    public OrderOutput changeShipping(OrderId orderId, ShippingInput input) {
+        ShippingInfo shippingInfo = input.recipient().toShippingInfo();
+
+        if (!input.isQuoted()) {
+            return update(orderId, order -> order.changeShipping(shippingInfo, new Money(input.cost()),
+                    input.expectedDeliveryDate()));
+        }
+
+        // Cotado sobre o pedido sendo alterado: se os itens mudarem antes da gravação, a alteração é refeita
+        // e a cotação acompanha os itens novos
+        return update(orderId, order -> {
+            ShippingQuote quote = quote(order, shippingInfo.address().zipCode());
+            order.changeShipping(shippingInfo, quote.cost(), quote.expectedDeliveryDate());
+        });
+    }
+
+    public ShippingQuoteOutput quoteShipping(OrderId orderId, ZipCode destination) {
+        return ShippingQuoteOutput.of(quote(load(orderId), destination));
+    }
+
+    public OrderOutput changeBilling(OrderId orderId, ContactInput input) {
+        return update(orderId, order -> order.changeBillingInfo(input.toBillingInfo()));
+    }
+
+    public OrderOutput changePaymentMethod(OrderId orderId, PaymentMethodInput input) {
+        return update(orderId, order -> order.changePaymentMethod(input.paymentMethod()));
+    }
+
+    public OrderOutput place(OrderId orderId) {
+        return update(orderId, metrics.timed(placeTimer, Order::place));
+    }
+
+    public OrderOutput markAsPaid(OrderId orderId) {
+        return update(orderId, metrics.timed(markAsPaidTimer, Order::markAsPaid));
+    }
+
+    public OrderOutput place(OrderId orderId, String idempotencyKey) {
+        return idempotent(idempotencyKey, "place", orderId, () -> place(orderId));
+    }
+
+    public OrderOutput markAsPaid(OrderId orderId, String idempotencyKey) {
+        return idempotent(idempotencyKey, "pay", orderId, () -> markAsPaid(orderId));
+    }
+
+    public OrderOutput markAsReady(OrderId orderId) {
+        return update(orderId, metrics.timed(markAsReadyTimer, Order::markAsReady));
+    }
+
+    public OrderOutput cancel(OrderId orderId) {
+        return update(orderId, metrics.timed(cancelTimer, Order::cancel));
+    }
+
+    // Métodos Auxiliares
+    private Order load(OrderId orderId) {
+        return orderRepository.findById(orderId).orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    // Uma página cheia pode ser a última; a seguinte vem vazia e sem cursor
+    private static OrderPageOutput pageOf(List<Order> orders, int limit) {
+        List<OrderOutput> outputs = orders.stream().map(OrderOutput::of).toList();
+        String next = orders.size() < limit ? null : orders.getLast().id().toString();
+        return new OrderPageOutput(outputs, next);
+    }
+
+    private ShippingQuote quote(Order order, ZipCode destination) {
+        return shippingQuoteService.quote(ShippingQuoteRequest.of(destination, order.totalItems(),
+                order.itemsAmount(), DomainClock.today()));
+    }
+
+    private OrderOutput idempotent(String idempotencyKey, String operation, Object target,
+                                   Supplier<OrderOutput> command) {
+        if (idempotencyKey == null) {
+            return command.get();
+        }
+
+        try {
+            return idempotencyStore.execute(idempotencyKey, new Command(operation, target), command);
+        } catch (IdempotencyKeyReusedException e) {
+            metrics.exceptionThrown(e);
+            throw e;
+        }
+    }
+
+    private OrderOutput update(OrderId orderId, Consumer<Order> change) {
+        Objects.requireNonNull(orderId);
+
+        Optional<Order> updated;
+        try {
+            updated = orderRepository.update(orderId, change);
+        } catch (RuntimeException e) {
+            metrics.exceptionThrown(e);
+            throw e;
+        }
+
+        return OrderOutput.of(updated.orElseThrow(() -> new OrderNotFoundException(orderId)));
+    }
+
+    // Identifica o comando de uma chave de idempotência sem formatar o id a cada chamada
+    private record Command(String operation, Object target) {
+    }
+}
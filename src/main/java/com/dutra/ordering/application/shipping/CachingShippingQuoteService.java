@@ -0,0 +1,128 @@
+package com.dutra.ordering.application.shipping;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Guarda as cotações de outro {@link ShippingQuoteService} por {@code ttl}, com no máximo {@code maxEntries}
+ * pedidos de cotação distintos. Chamadas simultâneas para a mesma cotação ainda não carregada esperam a
+ * primeira, que é a única a consultar a transportadora. Falhas não ficam guardadas: a próxima chamada tenta
+ * de novo.
+ * <p>
+ * Acima do limite, o thread que inseriu descarta as cotações vencidas e, se ainda faltar espaço, cotações
+ * quaisquer já carregadas.
+ */
+public class CachingShippingQuoteService implements ShippingQuoteService {
+
+    private final ShippingQuoteService carrier;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<ShippingQuoteRequest, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public CachingShippingQuoteService(ShippingQuoteService carrier, int maxEntries, Duration ttl) {
+        if (maxEntries < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Invalid shipping quote cache settings.");
+        }
+
+        this.carrier = Objects.requireNonNull(carrier);
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public ShippingQuote quote(ShippingQuoteRequest request) {
+        Objects.requireNonNull(request);
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(request);
+        if (entry == null || entry.isExpired(now)) {
+            Entry created = new Entry();
+            entry = entries.compute(request, (key, current) ->
+                    current == null || current.isExpired(now) ? created : current);
+
+            if (entry == created) {
+                load(request, created);
+                evictIfFull(now);
+            }
+        }
+
+        return entry.await();
+    }
+
+    /**
+     * Cotações guardadas, inclusive as em carregamento e as vencidas ainda não descartadas.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    // Métodos Auxiliares
+    private void load(ShippingQuoteRequest request, Entry entry) {
+        try {
+            ShippingQuote quote = Objects.requireNonNull(carrier.quote(request));
+            entry.expiresAt = System.nanoTime() + ttlNanos;
+            entry.quote.complete(quote);
+        } catch (Throwable e) {
+            // Inclusive Errors: uma entrada que nunca completa prenderia todas as cotações do mesmo pedido
+            entries.remove(request, entry);
+            entry.quote.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxEntries || !evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                if (iterator.next().quote.isDone()) {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<ShippingQuote> quote = new CompletableFuture<>();
+
+        // Escrito antes de completar o future, então é visível para quem o vê completo
+        private volatile long expiresAt;
+
+        private boolean isExpired(long now) {
+            return quote.isDone() && now - expiresAt >= 0;
+        }
+
+        private ShippingQuote await() {
+            try {
+                return quote.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.dutra.ordering.application.shipping;
+
+import com.dutra.ordering.domain.valueobjects.Money;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Os dois valores que {@code Order.changeShipping} espera além do destinatário.
+ */
+public record ShippingQuote(Money cost, LocalDate expectedDeliveryDate) {
+
+    public ShippingQuote {
+        Objects.requireNonNull(cost);
+        Objects.requireNonNull(expectedDeliveryDate);
+    }
+}
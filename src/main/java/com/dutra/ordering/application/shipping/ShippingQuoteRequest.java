@@ -0,0 +1,42 @@
+package com.dutra.ordering.application.shipping;
+
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.ZipCode;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * O que define o preço do frete, já reduzido a faixas para que carrinhos parecidos compartilhem a cotação:
+ * os cinco primeiros dígitos do CEP (região e setor), a faixa de quantidade de itens e a faixa de valor
+ * dos itens. As faixas são potências de dois: {@code 0} para zero, {@code 1} para 1, {@code 2} para 2 e 3,
+ * {@code 3} para 4 a 7 e assim por diante (o valor é contado em reais inteiros).
+ */
+public record ShippingQuoteRequest(String zipCodePrefix, int itemsBand, int valueBand, LocalDate date) {
+
+    static final int ZIP_CODE_PREFIX_LENGTH = 5;
+
+    public ShippingQuoteRequest {
+        Objects.requireNonNull(zipCodePrefix);
+        Objects.requireNonNull(date);
+
+        if (zipCodePrefix.length() != ZIP_CODE_PREFIX_LENGTH || itemsBand < 0 || valueBand < 0) {
+            throw new IllegalArgumentException("Invalid shipping quote request.");
+        }
+    }
+
+    public static ShippingQuoteRequest of(ZipCode destination, Quantity items, Money itemsAmount, LocalDate date) {
+        Objects.requireNonNull(destination);
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(itemsAmount);
+
+        return new ShippingQuoteRequest(destination.value().substring(0, ZIP_CODE_PREFIX_LENGTH),
+                band(items.value()), band(itemsAmount.cents() / 100), date);
+    }
+
+    // Métodos Auxiliares
+    private static int band(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+}
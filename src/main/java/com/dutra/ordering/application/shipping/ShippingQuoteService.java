@@ -0,0 +1,10 @@
+package com.dutra.ordering.application.shipping;
+
+/**
+ * Cotação de frete de uma transportadora. Implementações podem ser lentas (chamadas remotas), por isso o
+ * {@link CachingShippingQuoteService} fica na frente delas.
+ */
+public interface ShippingQuoteService {
+
+    ShippingQuote quote(ShippingQuoteRequest request);
+}
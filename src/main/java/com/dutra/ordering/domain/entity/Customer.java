@@ -1,6 +1,7 @@
 package com.dutra.ordering.domain.entity;
 
 import com.dutra.ordering.domain.exceptions.CustomerArchivedException;
+import com.dutra.ordering.domain.utility.DomainClock;
 import com.dutra.ordering.domain.valueobjects.*;
 import com.dutra.ordering.domain.valueobjects.id.CustomerId;
 
@@ -11,6 +12,12 @@ import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_CUSTOMER_
 
 public class Customer {
 
+    // Valores anonimizados são imutáveis e já validados, então todos os clientes arquivados compartilham os mesmos
+    private static final FullName ANONYMOUS_FULL_NAME = new FullName("Anonymous", "Name");
+    private static final Phone ANONYMOUS_PHONE = new Phone("xx-(xx)xxxxx-xxxx");
+    private static final Email ANONYMOUS_EMAIL = new Email("xxx@xxx.xxx");
+    private static final Document ANONYMOUS_DOCUMENT = new Document("xxx-xxx-xxxx");
+
     private CustomerId id;
     private FullName fullName;
     private BirthDate birthDate;
@@ -24,13 +31,16 @@ public class Customer {
     private LoyaltyPoints loyaltyPoints;
     private Address address;
 
+    // Quantas vezes o cliente foi gravado; o repositório só aceita um compareAndSave com a versão que leu
+    private long version;
+
     public static Customer brandNew(FullName fullName, BirthDate birthDate,
                                     Email email, Phone phone, Document document,
                                     Boolean promotionNotificationsAllowed,
                                     Address address) {
         return new Customer(
                 new CustomerId(), fullName, birthDate, email, phone, document, promotionNotificationsAllowed,
-                false, OffsetDateTime.now(), null, new LoyaltyPoints(), address
+                false, DomainClock.now(), null, LoyaltyPoints.ZERO, address, 0
         );
     }
 
@@ -38,10 +48,10 @@ public class Customer {
                                     Email email, Phone phone, Document document,
                                     Boolean promotionNotificationsAllowed, Boolean archived,
                                     OffsetDateTime registeredAt, OffsetDateTime archivedAt, LoyaltyPoints loyaltyPoints,
-                                    Address address) {
+                                    Address address, long version) {
         return new Customer(
                 id, fullName, birthDate, email, phone,document, promotionNotificationsAllowed,
-                archived, registeredAt, archivedAt, loyaltyPoints, address
+                archived, registeredAt, archivedAt, loyaltyPoints, address, version
         );
     }
 
@@ -49,7 +59,7 @@ public class Customer {
                     Email email, Phone phone, Document document,
                     Boolean promotionNotificationsAllowed, Boolean archived,
                     OffsetDateTime registeredAt, OffsetDateTime archivedAt, LoyaltyPoints loyaltyPoints,
-                    Address address) {
+                    Address address, long version) {
         this.setId(id);
         this.setFullName(fullName);
         this.setBirthDate(birthDate);
@@ -62,6 +72,22 @@ public class Customer {
         this.setArchivedAt(archivedAt);
         this.setLoyaltyPoints(loyaltyPoints);
         this.setAddress(address);
+        this.setVersion(version);
+    }
+
+    /**
+     * Cópia independente do cliente, com a mesma versão. Os value objects são imutáveis e compartilhados.
+     */
+    public Customer copy() {
+        return new Customer(id, fullName, birthDate, email, phone, document, promotionNotificationsAllowed,
+                archived, registeredAt, archivedAt, loyaltyPoints, address, version);
+    }
+
+    /**
+     * Chamado pelo repositório ao gravar o cliente.
+     */
+    public void incrementVersion() {
+        this.version++;
     }
 
     public void addLoyaltyPoints(LoyaltyPoints loyaltyPoints) {
@@ -70,15 +96,20 @@ public class Customer {
     }
 
     public void archive() {
+        archive(DomainClock.now());
+    }
+
+    public void archive(OffsetDateTime archivedAt) {
+        Objects.requireNonNull(archivedAt);
         verifyIfChangeable();
 
         this.setArchived(true);
 
-        this.setArchivedAt(OffsetDateTime.now());
-        this.setFullName(new FullName("Anonymous", "Name"));
-        this.setPhone(new Phone("xx-(xx)xxxxx-xxxx"));
-        this.setEmail(new Email("xxx@xxx.xxx"));
-        this.setDocument(new Document("xxx-xxx-xxxx"));
+        this.setArchivedAt(archivedAt);
+        this.setFullName(ANONYMOUS_FULL_NAME);
+        this.setPhone(ANONYMOUS_PHONE);
+        this.setEmail(ANONYMOUS_EMAIL);
+        this.setDocument(ANONYMOUS_DOCUMENT);
         this.setBirthDate(null);
     }
 
@@ -155,6 +186,10 @@ public class Customer {
         return address;
     }
 
+    public long version() {
+        return version;
+    }
+
     public void changeAddress(Address address) {
         verifyIfChangeable();
         this.setAddress(address);
@@ -215,6 +250,13 @@ public class Customer {
         this.address = address;
     }
 
+    private void setVersion(long version) {
+        if (version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative.");
+        }
+        this.version = version;
+    }
+
     private void verifyIfChangeable() {
         if (this.isArchived()) {
             throw new CustomerArchivedException(ERROR_CUSTOMER_ARCHIVED);
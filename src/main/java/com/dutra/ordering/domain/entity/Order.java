@@ -1,21 +1,29 @@
 package com.dutra.ordering.domain.entity;
 
+import com.dutra.ordering.domain.entity.enums.OrderChangeResult;
 import com.dutra.ordering.domain.entity.enums.OrderStatus;
 import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.event.*;
+import com.dutra.ordering.domain.exceptions.OrderCannotBeEditedException;
 import com.dutra.ordering.domain.exceptions.OrderCannotBePlacedException;
+import com.dutra.ordering.domain.exceptions.OrderDoesNotContainProductException;
 import com.dutra.ordering.domain.exceptions.OrderInvalidShippingDeliveryDateException;
 import com.dutra.ordering.domain.exceptions.OrderStatusCannotBeChangedException;
+import com.dutra.ordering.domain.utility.BusinessCalendar;
+import com.dutra.ordering.domain.utility.DomainClock;
 import com.dutra.ordering.domain.valueobjects.*;
 import com.dutra.ordering.domain.valueobjects.id.CustomerId;
 import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
 import com.dutra.ordering.domain.valueobjects.id.ProductId;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -42,14 +50,21 @@ public class Order {
 
     private LocalDate expectedDeliveryDate;
 
-    private Set<OrderItem> items = new HashSet<>();
+    private OrderItemStore items;
+
+    private long shippingCostCents;
+
+    // Quantas vezes o pedido foi gravado; o repositório só aceita um compareAndSave com a versão que leu
+    private long version;
+
+    private List<OrderEvent> domainEvents;
 
     @Builder(builderClassName = "ExistingOrderBuilder", builderMethodName = "existing")
     public Order(OrderId id, CustomerId customerId, Money totalAmount,
                  Quantity totalItems, OffsetDateTime placedAt, OffsetDateTime paidAt,
                  OffsetDateTime canceledAt, OffsetDateTime readyAt, BillingInfo billing,
                  ShippingInfo shipping, OrderStatus orderStatus, PaymentMethods paymentMethod,
-                 Money shippingCost, LocalDate expectedDeliveryDate, Set<OrderItem> items) {
+                 Money shippingCost, LocalDate expectedDeliveryDate, Set<OrderItem> items, long version) {
         this.setId(id);
         this.setCustomerId(customerId);
         this.setTotalAmount(totalAmount);
@@ -65,11 +80,32 @@ public class Order {
         this.setShippingCost(shippingCost);
         this.setExpectedDeliveryDate(expectedDeliveryDate);
         this.setItems(items);
+        this.setVersion(version);
+    }
+
+    private Order(Order source) {
+        this.id = source.id;
+        this.customerId = source.customerId;
+        this.totalAmount = source.totalAmount;
+        this.totalItems = source.totalItems;
+        this.placedAt = source.placedAt;
+        this.paidAt = source.paidAt;
+        this.canceledAt = source.canceledAt;
+        this.readyAt = source.readyAt;
+        this.billing = source.billing;
+        this.shipping = source.shipping;
+        this.orderStatus = source.orderStatus;
+        this.paymentMethod = source.paymentMethod;
+        this.shippingCost = source.shippingCost;
+        this.shippingCostCents = source.shippingCostCents;
+        this.expectedDeliveryDate = source.expectedDeliveryDate;
+        this.items = source.items.copy();
+        this.version = source.version;
     }
 
     // Factory
     public static Order draft(CustomerId customerId) {
-        return new Order(
+        Order order = new Order(
                 new OrderId(),
                 customerId,
                 Money.ZERO,
@@ -84,76 +120,257 @@ public class Order {
                 null,
                 null,
                 null,
-                new HashSet<>()
+                Set.of(),
+                0
         );
+
+        order.registerEvent(new OrderDraftedEvent(order.id(), order.customerId(), DomainClock.now()));
+
+        return order;
+    }
+
+    /**
+     * Cópia independente do pedido, com a mesma versão e sem os eventos pendentes. Alterar a cópia e gravá-la
+     * com {@code compareAndSave} é a forma de alterar um pedido sem lock.
+     */
+    public Order copy() {
+        return new Order(this);
+    }
+
+    /**
+     * Chamado pelo repositório ao gravar o pedido.
+     */
+    public void incrementVersion() {
+        this.version++;
+    }
+
+    // Replay
+
+    /**
+     * Pedido no estado em que o {@link OrderDraftedEvent} o deixou, pronto para receber os eventos seguintes
+     * por {@link #apply(OrderEvent)}.
+     */
+    public static Order drafted(OrderDraftedEvent event) {
+        Objects.requireNonNull(event);
+
+        return new Order(event.orderId(), event.customerId(), Money.ZERO, Quantity.ZERO, null, null, null, null,
+                null, null, OrderStatus.DRAFT, null, null, null, Set.of(), 0);
+    }
+
+    /**
+     * Reaplica um evento já gravado com o mesmo efeito do comportamento que o gerou (inclusive a regra de que
+     * os totais só são recalculados quando os itens mudam), mas sem validar nem registrar eventos: as regras
+     * já valeram quando o evento foi gerado.
+     */
+    public void apply(OrderEvent event) {
+        Objects.requireNonNull(event);
+
+        switch (event) {
+            case OrderDraftedEvent e -> {
+            }
+            case OrderItemAddedEvent e -> {
+                this.items.add(e.orderItemId().value().toLong(), e.productId(), e.productName(),
+                        e.price().cents(), e.quantity().value());
+                this.applyTotals();
+            }
+            case OrderItemQuantityChangedEvent e -> {
+                if (this.items.changeQuantity(e.productId(), e.quantity())) {
+                    this.applyTotals();
+                }
+            }
+            case OrderItemRemovedEvent e -> {
+                if (this.items.remove(e.productId())) {
+                    this.applyTotals();
+                }
+            }
+            case OrderShippingChangedEvent e -> {
+                this.setShipping(e.shipping());
+                this.setShippingCost(e.shippingCost());
+                this.setExpectedDeliveryDate(e.expectedDeliveryDate());
+            }
+            case OrderBillingChangedEvent e -> this.setBilling(e.billing());
+            case OrderPaymentMethodChangedEvent e -> this.setPaymentMethod(e.paymentMethod());
+            case OrderStatusChangedEvent e -> {
+                this.setOrderStatus(e.to());
+                this.setTotalAmount(e.totalAmount());
+                this.setTotalItems(e.totalItems());
+
+                switch (e.to()) {
+                    case PLACED -> this.setPlacedAt(e.occurredAt());
+                    case PAID -> this.setPaidAt(e.occurredAt());
+                    case READY -> this.setReadyAt(e.occurredAt());
+                    case CANCELED -> this.setCanceledAt(e.occurredAt());
+                    case DRAFT -> {
+                    }
+                }
+            }
+        }
     }
 
     // Comportamentos
+
+    /**
+     * Um mesmo produto ocupa uma única linha: incluí-lo de novo soma a quantidade à linha existente.
+     */
     public void addItem(ProductId productId,
                         ProductName productName, Money price, Quantity quantity) {
+        this.verifyIfChangeable();
+
+        long orderItemId = this.items.add(productId, productName, price, quantity);
+        this.applyTotals();
+
+        this.registerEvent(new OrderItemAddedEvent(this.id, new OrderItemId(orderItemId), productId,
+                productName, price, quantity, DomainClock.now()));
+    }
+
+    /**
+     * Tudo ou nada: as linhas são incluídas em uma cópia dos itens, que só substitui a atual (junto com os eventos
+     * e os totais) se todos os itens entrarem.
+     */
+    public void addItems(Collection<CartItem> cartItems) {
+        Objects.requireNonNull(cartItems);
+        this.verifyIfChangeable();
+
+        OrderItemStore staged = this.items.copy();
+        staged.ensureCapacity(staged.size() + cartItems.size());
+        List<OrderEvent> events = new ArrayList<>(cartItems.size());
+        OffsetDateTime now = DomainClock.now();
+
+        for (CartItem cartItem : cartItems) {
+            long orderItemId = staged.add(cartItem.productId(), cartItem.productName(),
+                    cartItem.price(), cartItem.quantity());
+
+            events.add(new OrderItemAddedEvent(this.id, new OrderItemId(orderItemId), cartItem.productId(),
+                    cartItem.productName(), cartItem.price(), cartItem.quantity(), now));
+        }
+
+        // Calculado antes da troca, para que um estouro também deixe o pedido como estava
+        Money totalAmount = Money.ofCents(Math.addExact(staged.amountCents(), this.shippingCostCents));
 
-        OrderItem orderItem = OrderItem.brandNew()
-                .orderId(this.id)
-                .price(price)
-                .quantity(quantity)
-                .productName(productName)
-                .productId(productId)
-                .build();
+        this.items = staged;
+        this.setTotalAmount(totalAmount);
+        this.setTotalItems(Quantity.of(staged.totalQuantity()));
+        events.forEach(this::registerEvent);
+    }
 
-        if (this.items.isEmpty()) {
-            this.items = new HashSet<>();
+    public void changeItemQuantity(ProductId productId, Quantity quantity) {
+        this.verifyIfChangeable();
+
+        if (!this.items.changeQuantity(productId, quantity)) {
+            throw new OrderDoesNotContainProductException(this.id, productId);
         }
 
-        this.items.add(orderItem);
+        this.applyTotals();
+        this.registerEvent(new OrderItemQuantityChangedEvent(this.id, productId, quantity, DomainClock.now()));
+    }
+
+    public void removeItem(ProductId productId) {
+        this.verifyIfChangeable();
+
+        if (!this.items.remove(productId)) {
+            throw new OrderDoesNotContainProductException(this.id, productId);
+        }
 
-        this.recalculateTotals();
+        this.applyTotals();
+        this.registerEvent(new OrderItemRemovedEvent(this.id, productId, DomainClock.now()));
     }
 
+    /**
+     * Lança {@link OrderCannotBePlacedException} se falta entrega, cobrança, forma de pagamento ou itens.
+     */
     public void place() {
-        Objects.requireNonNull(this.shipping());
-        Objects.requireNonNull(this.billing());
-        Objects.requireNonNull(this.expectedDeliveryDate());
-        Objects.requireNonNull(this.shippingCost());
-        Objects.requireNonNull(this.paymentMethod());
-        Objects.requireNonNull(this.items());
-
-        if (this.items().isEmpty()) {
-            throw new OrderCannotBePlacedException(this.id());
+        this.verifyChanged(this.tryPlace(), OrderStatus.PLACED);
+    }
+
+    /**
+     * Como {@link #place()}, mas sem exceção: devolve {@link OrderChangeResult#NOT_READY_TO_PLACE} se falta
+     * entrega, cobrança, forma de pagamento ou itens.
+     */
+    public OrderChangeResult tryPlace() {
+        if (this.shipping == null || this.billing == null || this.expectedDeliveryDate == null
+                || this.shippingCost == null || this.paymentMethod == null || this.items == null
+                || this.items.isEmpty()) {
+            return OrderChangeResult.NOT_READY_TO_PLACE;
+        }
+        if (this.orderStatus.canNotChangeTo(OrderStatus.PLACED)) {
+            return OrderChangeResult.INVALID_TRANSITION;
         }
 
-        this.setPlacedAt(OffsetDateTime.now());
-        this.changeStatus(OrderStatus.PLACED);
+        OffsetDateTime now = DomainClock.now();
+        this.changeStatus(OrderStatus.PLACED, now);
+        this.setPlacedAt(now);
+        return OrderChangeResult.CHANGED;
     }
 
     public void markAsPaid() {
-        this.setPaidAt(OffsetDateTime.now());
-        this.changeStatus(OrderStatus.PAID);
+        this.verifyChanged(this.tryMarkAsPaid(), OrderStatus.PAID);
+    }
+
+    public OrderChangeResult tryMarkAsPaid() {
+        if (this.orderStatus.canNotChangeTo(OrderStatus.PAID)) {
+            return OrderChangeResult.INVALID_TRANSITION;
+        }
+
+        OffsetDateTime now = DomainClock.now();
+        this.changeStatus(OrderStatus.PAID, now);
+        this.setPaidAt(now);
+        return OrderChangeResult.CHANGED;
+    }
+
+    public void markAsReady() {
+        OffsetDateTime now = DomainClock.now();
+        this.changeStatus(OrderStatus.READY, now);
+        this.setReadyAt(now);
+    }
+
+    public void cancel() {
+        OffsetDateTime now = DomainClock.now();
+        this.changeStatus(OrderStatus.CANCELED, now);
+        this.setCanceledAt(now);
     }
 
     public void changePaymentMethod(PaymentMethods paymentMethod) {
         Objects.requireNonNull(paymentMethod);
         this.setPaymentMethod(paymentMethod);
+        this.registerEvent(new OrderPaymentMethodChangedEvent(this.id, paymentMethod, DomainClock.now()));
     }
 
     public void changeBillingInfo(BillingInfo billingInfo) {
         Objects.requireNonNull(billingInfo);
         this.setBilling(billingInfo);
+        this.registerEvent(new OrderBillingChangedEvent(this.id, billingInfo, DomainClock.now()));
     }
 
     public void changeShipping(ShippingInfo shippingInfo,
                                Money shippingCost, LocalDate expectedDeliveryDate) {
+        OrderChangeResult result = this.tryChangeShipping(shippingInfo, shippingCost, expectedDeliveryDate);
+        if (result == OrderChangeResult.DELIVERY_DATE_NOT_BUSINESS_DAY) {
+            throw new OrderInvalidShippingDeliveryDateException(this.id, expectedDeliveryDate);
+        }
+
+        this.verifyChanged(result, null);
+    }
+
+    public OrderChangeResult tryChangeShipping(ShippingInfo shippingInfo,
+                                               Money shippingCost, LocalDate expectedDeliveryDate) {
         Objects.requireNonNull(shippingInfo);
         Objects.requireNonNull(shippingCost);
         Objects.requireNonNull(expectedDeliveryDate);
 
-        if (expectedDeliveryDate.isBefore(LocalDate.now())) {
-            throw new OrderInvalidShippingDeliveryDateException(this.id);
+        LocalDate today = DomainClock.today();
+        if (!BusinessCalendar.current().isValidDeliveryDate(expectedDeliveryDate, today)) {
+            return expectedDeliveryDate.isBefore(today)
+                    ? OrderChangeResult.DELIVERY_DATE_IN_PAST
+                    : OrderChangeResult.DELIVERY_DATE_NOT_BUSINESS_DAY;
         }
 
         this.setShipping(shippingInfo);
         this.setShippingCost(shippingCost);
         this.setExpectedDeliveryDate(expectedDeliveryDate);
 
+        this.registerEvent(new OrderShippingChangedEvent(this.id, shippingInfo, shippingCost,
+                expectedDeliveryDate, DomainClock.now()));
+        return OrderChangeResult.CHANGED;
     }
 
     public boolean isDraft() {
@@ -168,35 +385,77 @@ public class Order {
         return OrderStatus.PAID.equals(this.orderStatus);
     }
 
+    public boolean isReady() {
+        return OrderStatus.READY.equals(this.orderStatus);
+    }
+
+    public boolean isCanceled() {
+        return OrderStatus.CANCELED.equals(this.orderStatus);
+    }
+
+    // Eventos de domínio
+    public List<OrderEvent> domainEvents() {
+        return this.domainEvents == null ? List.of() : Collections.unmodifiableList(this.domainEvents);
+    }
+
+    /**
+     * Devolve os eventos registrados desde a última chamada e os descarta do agregado.
+     */
+    public List<OrderEvent> pullDomainEvents() {
+        if (this.domainEvents == null) {
+            return List.of();
+        }
+
+        List<OrderEvent> events = this.domainEvents;
+        this.domainEvents = null;
+        return events;
+    }
+
     // Métodos Auxiliares
-    private void changeStatus(OrderStatus newOrderStatus) {
+    private void changeStatus(OrderStatus newOrderStatus, OffsetDateTime occurredAt) {
         Objects.requireNonNull(orderStatus);
 
         if (this.orderStatus().canNotChangeTo(newOrderStatus)) {
             throw new OrderStatusCannotBeChangedException(this.id, this.orderStatus, newOrderStatus);
         }
 
+        OrderStatus previousStatus = this.orderStatus;
         this.setOrderStatus(newOrderStatus);
-    }
 
-    private void recalculateTotals() {
-        BigDecimal totalItemsAmount = this.items.stream().map(item -> item.totalAmount().value())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.registerEvent(new OrderStatusChangedEvent(this.id, this.customerId, previousStatus, newOrderStatus,
+                this.totalAmount, this.totalItems, occurredAt));
+    }
 
-        Integer totalItemsQuantity = this.items().stream().map(item -> item.quantity().value()).reduce(0, Integer::sum);
+    // Lança a exceção correspondente ao resultado de uma variante try*
+    private void verifyChanged(OrderChangeResult result, OrderStatus newOrderStatus) {
+        switch (result) {
+            case CHANGED -> {
+            }
+            case INVALID_TRANSITION ->
+                    throw new OrderStatusCannotBeChangedException(this.id, this.orderStatus, newOrderStatus);
+            case NOT_READY_TO_PLACE -> throw new OrderCannotBePlacedException(this.id);
+            case DELIVERY_DATE_IN_PAST -> throw new OrderInvalidShippingDeliveryDateException(this.id);
+        }
+    }
 
-        BigDecimal shippingCost;
+    private void registerEvent(OrderEvent event) {
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>();
+        }
+        this.domainEvents.add(event);
+    }
 
-        if (this.shippingCost() == null) {
-            shippingCost = BigDecimal.ZERO;
-        } else {
-            shippingCost = this.shippingCost.value();
+    private void verifyIfChangeable() {
+        if (!this.isDraft()) {
+            throw new OrderCannotBeEditedException(this.id, this.orderStatus);
         }
+    }
 
-        BigDecimal totalAmount = totalItemsAmount.add(shippingCost);
+    private void applyTotals() {
+        long totalAmountCents = Math.addExact(this.items.amountCents(), this.shippingCostCents);
 
-        this.setTotalAmount(new Money(totalAmount));
-        this.setTotalItems(new Quantity(totalItemsQuantity));
+        this.setTotalAmount(Money.ofCents(totalAmountCents));
+        this.setTotalItems(Quantity.of(this.items.totalQuantity()));
     }
 
     // Getters no modo record
@@ -216,6 +475,13 @@ public class Order {
         return totalItems;
     }
 
+    /**
+     * Soma das linhas, sem o frete.
+     */
+    public Money itemsAmount() {
+        return Money.ofCents(this.items.amountCents());
+    }
+
     public OffsetDateTime placedAt() {
         return placedAt;
     }
@@ -257,7 +523,11 @@ public class Order {
     }
 
     public Set<OrderItem> items() {
-        return Collections.unmodifiableSet(this.items);
+        return this.items.asSet();
+    }
+
+    public long version() {
+        return version;
     }
 
     // Setters para private
@@ -316,14 +586,22 @@ public class Order {
 
     private void setShippingCost(Money shippingCost) {
         this.shippingCost = shippingCost;
+        this.shippingCostCents = shippingCost == null ? 0 : shippingCost.cents();
     }
 
     private void setExpectedDeliveryDate(LocalDate expectedDeliveryDate) {
         this.expectedDeliveryDate = expectedDeliveryDate;
     }
 
+    private void setVersion(long version) {
+        if (version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative.");
+        }
+        this.version = version;
+    }
+
     private void setItems(Set<OrderItem> items) {
-        this.items = items;
+        this.items = items == null ? new OrderItemStore(this.id, 0) : OrderItemStore.of(this.id, items);
     }
 
     @Override
@@ -8,7 +8,6 @@ import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
 import com.dutra.ordering.domain.valueobjects.id.ProductId;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 
 public class OrderItem {
@@ -24,6 +23,8 @@ public class OrderItem {
 
     private Money totalAmount;
 
+    private long priceCents;
+
     @Builder(builderClassName = "ExistingOrderItem", builderMethodName = "existing")
     public OrderItem(OrderItemId id, OrderId orderId, ProductId productId,
                      ProductName productName, Money price, Quantity quantity,
@@ -58,7 +59,13 @@ public class OrderItem {
 
     // Métodos Auxiliares
     private void recalculateTotals() {
-        this.setTotalAmount((this.price().multiply(this.quantity)));
+        if (this.quantity.value() < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        long totalCents = Math.multiplyExact(this.priceCents, this.quantity.value());
+
+        this.setTotalAmount(Money.ofCents(totalCents));
     }
 
     // Getters no modo record
@@ -90,6 +97,10 @@ public class OrderItem {
         return totalAmount;
     }
 
+    long priceCents() {
+        return priceCents;
+    }
+
     // Setters para private
     private void setId(OrderItemId id) {
         Objects.requireNonNull(id);
@@ -114,6 +125,7 @@ public class OrderItem {
     private void setPrice(Money price) {
         Objects.requireNonNull(price);
         this.price = price;
+        this.priceCents = price.cents();
     }
 
     private void setQuantity(Quantity quantity) {
@@ -0,0 +1,356 @@
+package com.dutra.ordering.domain.entity;
+
+import com.dutra.ordering.domain.utility.IdGenerator;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Itens do pedido em arrays paralelos de primitivos: uma linha custa alguns longs/ints mais a
+ * referência ao {@link ProductName}, em vez de um {@link OrderItem} com sete objetos de valor.
+ * As instâncias de {@link OrderItem} só são criadas quando {@link #asSet()} é chamado.
+ * <p>
+ * Há uma linha por produto: um índice de endereçamento aberto (sondagem linear) sobre os bits do
+ * {@link ProductId} leva à linha em O(1) para mesclar, alterar a quantidade ou remover.
+ */
+final class OrderItemStore {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final OrderId orderId;
+
+    private long[] itemIds;
+    private long[] productIdsMostSignificant;
+    private long[] productIdsLeastSignificant;
+    private ProductName[] productNames;
+    private long[] pricesCents;
+    private int[] quantities;
+    private int size;
+
+    // Posição da linha + 1 (0 = vazio), indexada pelo hash do ProductId
+    private int[] index;
+
+    private long amountCents;
+    private int totalQuantity;
+
+    private Set<OrderItem> view;
+
+    OrderItemStore(OrderId orderId, int capacity) {
+        this.orderId = Objects.requireNonNull(orderId);
+        int initialCapacity = Math.max(capacity, INITIAL_CAPACITY);
+        this.itemIds = new long[initialCapacity];
+        this.productIdsMostSignificant = new long[initialCapacity];
+        this.productIdsLeastSignificant = new long[initialCapacity];
+        this.productNames = new ProductName[initialCapacity];
+        this.pricesCents = new long[initialCapacity];
+        this.quantities = new int[initialCapacity];
+        this.index = new int[indexCapacityFor(initialCapacity)];
+    }
+
+    /**
+     * Itens repetidos do mesmo produto (dados anteriores ao índice) são mesclados na primeira linha.
+     */
+    static OrderItemStore of(OrderId orderId, Set<OrderItem> items) {
+        OrderItemStore store = new OrderItemStore(orderId, items.size());
+        for (OrderItem item : items) {
+            store.add(item.id().value().toLong(), item.productId(), item.productName(),
+                    item.priceCents(), item.quantity().value());
+        }
+        return store;
+    }
+
+    /**
+     * Se o produto já está no pedido, soma a quantidade à linha existente, mantendo nome e preço dela.
+     *
+     * @return o TSID da linha que recebeu o produto
+     */
+    long add(ProductId productId, ProductName productName, Money price, Quantity quantity) {
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(productName);
+        Objects.requireNonNull(price);
+        Objects.requireNonNull(quantity);
+
+        int slot = find(productId);
+
+        if (slot >= 0) {
+            changeQuantity(slot, Math.addExact(quantities[slot], quantity.value()));
+            return itemIds[slot];
+        }
+
+        long itemId = IdGenerator.generateTSID().toLong();
+        append(itemId, productId, productName, price.cents(), quantity.value());
+        return itemId;
+    }
+
+    /**
+     * @return {@code false} se o produto não está no pedido
+     */
+    boolean changeQuantity(ProductId productId, Quantity quantity) {
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(quantity);
+
+        int slot = find(productId);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        changeQuantity(slot, quantity.value());
+        return true;
+    }
+
+    /**
+     * Remove a linha trazendo a última para o seu lugar.
+     *
+     * @return {@code false} se o produto não está no pedido
+     */
+    boolean remove(ProductId productId) {
+        Objects.requireNonNull(productId);
+
+        int slot = find(productId);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        this.amountCents -= pricesCents[slot] * quantities[slot];
+        this.totalQuantity -= quantities[slot];
+
+        unindex(slot);
+
+        int last = size - 1;
+
+        if (slot != last) {
+            itemIds[slot] = itemIds[last];
+            productIdsMostSignificant[slot] = productIdsMostSignificant[last];
+            productIdsLeastSignificant[slot] = productIdsLeastSignificant[last];
+            productNames[slot] = productNames[last];
+            pricesCents[slot] = pricesCents[last];
+            quantities[slot] = quantities[last];
+            index[indexPositionOf(last)] = slot + 1;
+        }
+
+        productNames[last] = null;
+        size--;
+        this.view = null;
+        return true;
+    }
+
+    OrderItemStore copy() {
+        OrderItemStore copy = new OrderItemStore(orderId, 0);
+        copy.itemIds = itemIds.clone();
+        copy.productIdsMostSignificant = productIdsMostSignificant.clone();
+        copy.productIdsLeastSignificant = productIdsLeastSignificant.clone();
+        copy.productNames = productNames.clone();
+        copy.pricesCents = pricesCents.clone();
+        copy.quantities = quantities.clone();
+        copy.index = index.clone();
+        copy.size = size;
+        copy.amountCents = amountCents;
+        copy.totalQuantity = totalQuantity;
+        return copy;
+    }
+
+    void ensureCapacity(int capacity) {
+        if (capacity > itemIds.length) {
+            grow(capacity);
+        }
+    }
+
+    /**
+     * Como {@link #add(ProductId, ProductName, Money, Quantity)}, mas com o TSID da linha já conhecido
+     * (itens existentes e replay do journal).
+     */
+    void add(long itemId, ProductId productId, ProductName productName, long priceCents, int quantity) {
+        int slot = find(productId);
+
+        if (slot >= 0) {
+            changeQuantity(slot, Math.addExact(quantities[slot], quantity));
+        } else {
+            append(itemId, productId, productName, priceCents, quantity);
+        }
+    }
+
+    private void append(long itemId, ProductId productId, ProductName productName, long priceCents, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        long lineCents = Math.multiplyExact(priceCents, quantity);
+        long newAmountCents = Math.addExact(this.amountCents, lineCents);
+        int newTotalQuantity = Math.addExact(this.totalQuantity, quantity);
+
+        if (size == itemIds.length) {
+            grow(size + (size >> 1));
+        }
+
+        UUID productUuid = productId.valueId();
+        itemIds[size] = itemId;
+        productIdsMostSignificant[size] = productUuid.getMostSignificantBits();
+        productIdsLeastSignificant[size] = productUuid.getLeastSignificantBits();
+        productNames[size] = productName;
+        pricesCents[size] = priceCents;
+        quantities[size] = quantity;
+        indexSlot(size);
+        size++;
+
+        this.amountCents = newAmountCents;
+        this.totalQuantity = newTotalQuantity;
+        this.view = null;
+    }
+
+    private void changeQuantity(int slot, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        long difference = Math.multiplyExact(pricesCents[slot], (long) quantity - quantities[slot]);
+        long newAmountCents = Math.addExact(this.amountCents, difference);
+        int newTotalQuantity = Math.addExact(this.totalQuantity, quantity - quantities[slot]);
+
+        quantities[slot] = quantity;
+        this.amountCents = newAmountCents;
+        this.totalQuantity = newTotalQuantity;
+        this.view = null;
+    }
+
+    private void grow(int capacity) {
+        itemIds = Arrays.copyOf(itemIds, capacity);
+        productIdsMostSignificant = Arrays.copyOf(productIdsMostSignificant, capacity);
+        productIdsLeastSignificant = Arrays.copyOf(productIdsLeastSignificant, capacity);
+        productNames = Arrays.copyOf(productNames, capacity);
+        pricesCents = Arrays.copyOf(pricesCents, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+
+        index = new int[indexCapacityFor(capacity)];
+        for (int i = 0; i < size; i++) {
+            indexSlot(i);
+        }
+    }
+
+    // Índice por produto
+    private int find(ProductId productId) {
+        UUID productUuid = productId.valueId();
+        long mostSignificant = productUuid.getMostSignificantBits();
+        long leastSignificant = productUuid.getLeastSignificantBits();
+        int mask = index.length - 1;
+
+        for (int position = hash(mostSignificant, leastSignificant) & mask; ; position = (position + 1) & mask) {
+            int entry = index[position];
+            if (entry == 0) {
+                return -1;
+            }
+            int slot = entry - 1;
+            if (productIdsMostSignificant[slot] == mostSignificant && productIdsLeastSignificant[slot] == leastSignificant) {
+                return slot;
+            }
+        }
+    }
+
+    private void indexSlot(int slot) {
+        int mask = index.length - 1;
+        int position = hash(productIdsMostSignificant[slot], productIdsLeastSignificant[slot]) & mask;
+
+        while (index[position] != 0) {
+            position = (position + 1) & mask;
+        }
+
+        index[position] = slot + 1;
+    }
+
+    private int indexPositionOf(int slot) {
+        int mask = index.length - 1;
+        int position = hash(productIdsMostSignificant[slot], productIdsLeastSignificant[slot]) & mask;
+
+        while (index[position] != slot + 1) {
+            position = (position + 1) & mask;
+        }
+
+        return position;
+    }
+
+    // Remoção com deslocamento para trás, mantendo as cadeias de sondagem sem marcadores de remoção
+    private void unindex(int slot) {
+        int mask = index.length - 1;
+        int hole = indexPositionOf(slot);
+        int position = hole;
+
+        for (;;) {
+            position = (position + 1) & mask;
+            int entry = index[position];
+
+            if (entry == 0) {
+                break;
+            }
+
+            int home = hash(productIdsMostSignificant[entry - 1], productIdsLeastSignificant[entry - 1]) & mask;
+
+            // A entrada pode ocupar o buraco se sua posição original não está entre o buraco e ela
+            if (((position - home) & mask) >= ((position - hole) & mask)) {
+                index[hole] = entry;
+                hole = position;
+            }
+        }
+
+        index[hole] = 0;
+    }
+
+    private static int hash(long mostSignificant, long leastSignificant) {
+        long hash = (mostSignificant ^ leastSignificant) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int indexCapacityFor(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1) << 1;
+    }
+
+    Set<OrderItem> asSet() {
+        if (view == null) {
+            Set<OrderItem> items = new LinkedHashSet<>(Math.max(16, (int) (size / .75f) + 1));
+            for (int i = 0; i < size; i++) {
+                items.add(itemAt(i));
+            }
+            view = Collections.unmodifiableSet(items);
+        }
+        return view;
+    }
+
+    private OrderItem itemAt(int index) {
+        long lineCents = pricesCents[index] * quantities[index];
+        return OrderItem.existing()
+                .id(new OrderItemId(itemIds[index]))
+                .orderId(orderId)
+                .productId(new ProductId(new UUID(productIdsMostSignificant[index], productIdsLeastSignificant[index])))
+                .productName(productNames[index])
+                .price(Money.ofCents(pricesCents[index]))
+                .quantity(Quantity.of(quantities[index]))
+                .totalAmount(Money.ofCents(lineCents))
+                .build();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long amountCents() {
+        return amountCents;
+    }
+
+    int totalQuantity() {
+        return totalQuantity;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dutra.ordering.domain.entity.enums;
+
+/**
+ * Resultado das variantes {@code try*} do {@code Order}: em vez de lançar exceção, a regra violada é
+ * devolvida e o pedido fica como estava.
+ */
+public enum OrderChangeResult {
+
+    CHANGED,
+    INVALID_TRANSITION,
+    NOT_READY_TO_PLACE,
+    DELIVERY_DATE_IN_PAST,
+    DELIVERY_DATE_NOT_BUSINESS_DAY;
+
+    public boolean isChanged() {
+        return this == CHANGED;
+    }
+}
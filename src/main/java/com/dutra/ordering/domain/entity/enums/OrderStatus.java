@@ -1,9 +1,6 @@
 package com.dutra.ordering.domain.entity.enums;
 
 
-import java.util.Arrays;
-import java.util.List;
-
 public enum OrderStatus {
 
     DRAFT,
@@ -13,17 +10,25 @@ public enum OrderStatus {
     CANCELED(DRAFT, PLACED, PAID, READY);
 
     OrderStatus(OrderStatus... previousStatuses) {
-        this.previousStatuses = Arrays.asList(previousStatuses);
+        int mask = 0;
+        for (OrderStatus previousStatus : previousStatuses) {
+            mask |= previousStatus.bit();
+        }
+        this.previousStatusesMask = mask;
     }
 
-    private final List<OrderStatus> previousStatuses;
+    // Um bit por status de origem permitido (bit = 1 << ordinal)
+    private final int previousStatusesMask;
 
     public boolean canChangeTo(OrderStatus newStatus) {
-        OrderStatus currentStatus = this;
-        return newStatus.previousStatuses.contains(currentStatus);
+        return (newStatus.previousStatusesMask & this.bit()) != 0;
     }
 
     public boolean canNotChangeTo(OrderStatus newStatus) {
         return !canChangeTo(newStatus);
     }
+
+    private int bit() {
+        return 1 << this.ordinal();
+    }
 }
@@ -0,0 +1,9 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.valueobjects.BillingInfo;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import java.time.OffsetDateTime;
+
+public record OrderBillingChangedEvent(OrderId orderId, BillingInfo billing, OffsetDateTime occurredAt) implements OrderEvent {
+}
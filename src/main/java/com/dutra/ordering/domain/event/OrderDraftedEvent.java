@@ -0,0 +1,9 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import java.time.OffsetDateTime;
+
+public record OrderDraftedEvent(OrderId orderId, CustomerId customerId, OffsetDateTime occurredAt) implements OrderEvent {
+}
@@ -0,0 +1,18 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Fatos registrados pelo agregado {@link com.dutra.ordering.domain.entity.Order} a cada mudança de estado.
+ * Aplicados em ordem a partir de {@link OrderDraftedEvent}, reconstroem o pedido.
+ */
+public sealed interface OrderEvent permits OrderDraftedEvent, OrderItemAddedEvent, OrderItemQuantityChangedEvent,
+        OrderItemRemovedEvent, OrderShippingChangedEvent, OrderBillingChangedEvent, OrderPaymentMethodChangedEvent,
+        OrderStatusChangedEvent {
+
+    OrderId orderId();
+
+    OffsetDateTime occurredAt();
+}
@@ -0,0 +1,28 @@
+package com.dutra.ordering.domain.event;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Recebe os eventos de um pedido quando ele é salvo.
+ * <p>
+ * É chamado enquanto o repositório mantém o lock do pedido, o que garante a ordem dos eventos de um
+ * mesmo pedido: implementações devem apenas aplicar algo barato ou enfileirar. O repositório aguarda
+ * o futuro devolvido depois de liberar o lock.
+ * <p>
+ * Listeners {@linkplain #isDurable() duráveis} são a exceção: recebem os eventos antes de o pedido ser
+ * publicado, e o repositório aguarda o futuro ainda com o lock. Se algum falha, o save falha sem alterar
+ * nada em memória e os demais listeners não são chamados.
+ */
+public interface OrderEventListener {
+
+    CompletableFuture<Void> on(List<OrderEvent> events);
+
+    /**
+     * {@code true} quando o futuro só completa com os eventos gravados (por exemplo, em disco) e a falha
+     * deve desfazer o save.
+     */
+    default boolean isDurable() {
+        return false;
+    }
+}
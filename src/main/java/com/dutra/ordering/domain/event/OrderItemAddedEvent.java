@@ -0,0 +1,18 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Se o produto já estava no pedido, {@code orderItemId} é o da linha existente e a quantidade é somada a ela.
+ */
+public record OrderItemAddedEvent(OrderId orderId, OrderItemId orderItemId, ProductId productId,
+                                  ProductName productName, Money price, Quantity quantity,
+                                  OffsetDateTime occurredAt) implements OrderEvent {
+}
@@ -0,0 +1,11 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.time.OffsetDateTime;
+
+public record OrderItemQuantityChangedEvent(OrderId orderId, ProductId productId, Quantity quantity,
+                                            OffsetDateTime occurredAt) implements OrderEvent {
+}
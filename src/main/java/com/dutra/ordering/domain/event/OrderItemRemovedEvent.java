@@ -0,0 +1,9 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.time.OffsetDateTime;
+
+public record OrderItemRemovedEvent(OrderId orderId, ProductId productId, OffsetDateTime occurredAt) implements OrderEvent {
+}
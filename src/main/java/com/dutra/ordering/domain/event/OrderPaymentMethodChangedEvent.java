@@ -0,0 +1,10 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import java.time.OffsetDateTime;
+
+public record OrderPaymentMethodChangedEvent(OrderId orderId, PaymentMethods paymentMethod,
+                                             OffsetDateTime occurredAt) implements OrderEvent {
+}
@@ -0,0 +1,12 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ShippingInfo;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+public record OrderShippingChangedEvent(OrderId orderId, ShippingInfo shipping, Money shippingCost,
+                                        LocalDate expectedDeliveryDate, OffsetDateTime occurredAt) implements OrderEvent {
+}
@@ -0,0 +1,18 @@
+package com.dutra.ordering.domain.event;
+
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Emitido por {@code place()}, {@code markAsPaid()}, {@code markAsReady()} e {@code cancel()}. Carrega o
+ * cliente e os totais do pedido para que consumidores não precisem consultar o agregado.
+ */
+public record OrderStatusChangedEvent(OrderId orderId, CustomerId customerId, OrderStatus from, OrderStatus to,
+                                      Money totalAmount, Quantity totalItems,
+                                      OffsetDateTime occurredAt) implements OrderEvent {
+}
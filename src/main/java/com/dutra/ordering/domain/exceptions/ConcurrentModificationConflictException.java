@@ -0,0 +1,10 @@
+package com.dutra.ordering.domain.exceptions;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_CONCURRENT_MODIFICATION;
+
+public class ConcurrentModificationConflictException extends DomainException {
+
+    public ConcurrentModificationConflictException(Object id, int attempts) {
+        super(ERROR_CONCURRENT_MODIFICATION, id, attempts);
+    }
+}
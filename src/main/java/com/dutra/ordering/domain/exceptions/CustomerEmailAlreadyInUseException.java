@@ -0,0 +1,12 @@
+package com.dutra.ordering.domain.exceptions;
+
+import com.dutra.ordering.domain.valueobjects.Email;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_CUSTOMER_EMAIL_ALREADY_IN_USE;
+
+public class CustomerEmailAlreadyInUseException extends DomainException {
+
+    public CustomerEmailAlreadyInUseException(Email email) {
+        super(ERROR_CUSTOMER_EMAIL_ALREADY_IN_USE, email);
+    }
+}
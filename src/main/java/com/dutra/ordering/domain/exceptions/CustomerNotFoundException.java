@@ -0,0 +1,12 @@
+package com.dutra.ordering.domain.exceptions;
+
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_CUSTOMER_NOT_FOUND;
+
+public class CustomerNotFoundException extends DomainException {
+
+    public CustomerNotFoundException(CustomerId id) {
+        super(ERROR_CUSTOMER_NOT_FOUND, id);
+    }
+}
@@ -1,12 +1,45 @@
 package com.dutra.ordering.domain.exceptions;
 
+/**
+ * Regra de negócio violada. Não guarda stack trace (a causa está na mensagem, não no ponto em que a regra
+ * foi verificada) e, quando criada com um formato de {@link ErrorMessages}, só monta a mensagem se ela for lida.
+ */
 public class DomainException extends RuntimeException {
 
+    private final String format;
+    private final Object[] arguments;
+    private String formattedMessage;
+
     public DomainException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.format = null;
+        this.arguments = null;
     }
 
     public DomainException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
+        this.format = null;
+        this.arguments = null;
+    }
+
+    protected DomainException(String format, Object... arguments) {
+        super(null, null, false, false);
+        this.format = format;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public String getMessage() {
+        if (format == null) {
+            return super.getMessage();
+        }
+
+        // Corrida benigna: no pior caso a mensagem é formatada mais de uma vez
+        String message = formattedMessage;
+        if (message == null) {
+            message = String.format(format, arguments);
+            formattedMessage = message;
+        }
+        return message;
     }
 }
@@ -11,5 +11,23 @@ public class ErrorMessages {
 
     public static final String ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_PAST = "Order %s expected delivery date cannot be in the past.";
 
-    public static final String ERROR_ORDER_CANNOT_BE_PLACED = "Order %s cannot be placed, because has no items.";
+    public static final String ERROR_ORDER_DELIVERY_DATE_NOT_BUSINESS_DAY = "Order %s expected delivery date %s is not a business day.";
+
+    public static final String ERROR_ORDER_CANNOT_BE_PLACED = "Order %s cannot be placed, because it has no items or is missing checkout data.";
+
+    public static final String ERROR_ORDER_CANNOT_BE_EDITED = "Order %s with status %s cannot be edited.";
+
+    public static final String ERROR_ORDER_DOES_NOT_CONTAIN_PRODUCT = "Order %s does not contain product %s.";
+
+    public static final String ERROR_ORDER_NOT_FOUND = "Order %s was not found.";
+
+    public static final String ERROR_PRODUCT_NOT_FOUND = "Product %s was not found in the catalog.";
+
+    public static final String ERROR_CUSTOMER_NOT_FOUND = "Customer %s was not found.";
+
+    public static final String ERROR_CUSTOMER_EMAIL_ALREADY_IN_USE = "Email %s is already in use by another customer.";
+
+    public static final String ERROR_IDEMPOTENCY_KEY_REUSED = "Idempotency key %s was already used for another request.";
+
+    public static final String ERROR_CONCURRENT_MODIFICATION = "%s was modified concurrently %d times; giving up.";
 ;}
@@ -0,0 +1,10 @@
+package com.dutra.ordering.domain.exceptions;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_IDEMPOTENCY_KEY_REUSED;
+
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super(ERROR_IDEMPOTENCY_KEY_REUSED, key);
+    }
+}
@@ -0,0 +1,13 @@
+package com.dutra.ordering.domain.exceptions;
+
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_ORDER_CANNOT_BE_EDITED;
+
+public class OrderCannotBeEditedException extends DomainException {
+
+    public OrderCannotBeEditedException(OrderId id, OrderStatus orderStatus) {
+        super(ERROR_ORDER_CANNOT_BE_EDITED, id, orderStatus);
+    }
+}
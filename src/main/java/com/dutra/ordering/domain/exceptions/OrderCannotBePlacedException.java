@@ -2,10 +2,9 @@ package com.dutra.ordering.domain.exceptions;
 
 import com.dutra.ordering.domain.valueobjects.id.OrderId;
 
-public class OrderCannotBePlacedException extends RuntimeException {
-
+public class OrderCannotBePlacedException extends DomainException {
 
     public OrderCannotBePlacedException(OrderId id) {
-        super(String.format(ErrorMessages.ERROR_ORDER_CANNOT_BE_PLACED, id));
+        super(ErrorMessages.ERROR_ORDER_CANNOT_BE_PLACED, id);
     }
 }
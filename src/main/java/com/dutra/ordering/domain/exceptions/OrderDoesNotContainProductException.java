@@ -0,0 +1,13 @@
+package com.dutra.ordering.domain.exceptions;
+
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_ORDER_DOES_NOT_CONTAIN_PRODUCT;
+
+public class OrderDoesNotContainProductException extends DomainException {
+
+    public OrderDoesNotContainProductException(OrderId id, ProductId productId) {
+        super(ERROR_ORDER_DOES_NOT_CONTAIN_PRODUCT, id, productId);
+    }
+}
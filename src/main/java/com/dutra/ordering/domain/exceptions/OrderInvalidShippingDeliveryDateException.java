@@ -2,12 +2,18 @@ package com.dutra.ordering.domain.exceptions;
 
 import com.dutra.ordering.domain.valueobjects.id.OrderId;
 
-import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_PAST;
+import java.time.LocalDate;
 
-public class OrderInvalidShippingDeliveryDateException extends RuntimeException {
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_PAST;
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_ORDER_DELIVERY_DATE_NOT_BUSINESS_DAY;
 
+public class OrderInvalidShippingDeliveryDateException extends DomainException {
 
     public OrderInvalidShippingDeliveryDateException(OrderId id) {
-        super(String.format(ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_PAST, id));
+        super(ERROR_ORDER_DELIVERY_DATE_CANNOT_BE_IN_PAST, id);
+    }
+
+    public OrderInvalidShippingDeliveryDateException(OrderId id, LocalDate expectedDeliveryDate) {
+        super(ERROR_ORDER_DELIVERY_DATE_NOT_BUSINESS_DAY, id, expectedDeliveryDate);
     }
 }
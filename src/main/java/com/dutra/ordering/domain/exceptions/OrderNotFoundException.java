@@ -0,0 +1,12 @@
+package com.dutra.ordering.domain.exceptions;
+
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_ORDER_NOT_FOUND;
+
+public class OrderNotFoundException extends DomainException {
+
+    public OrderNotFoundException(OrderId id) {
+        super(ERROR_ORDER_NOT_FOUND, id);
+    }
+}
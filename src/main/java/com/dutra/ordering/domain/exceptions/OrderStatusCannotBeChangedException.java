@@ -5,9 +5,9 @@ import com.dutra.ordering.domain.valueobjects.id.OrderId;
 
 import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_ORDER_STATUS_CANNOT_BE_CHANGED;
 
-public class OrderStatusCannotBeChangedException extends RuntimeException {
+public class OrderStatusCannotBeChangedException extends DomainException {
 
     public OrderStatusCannotBeChangedException(OrderId id, OrderStatus orderStatus, OrderStatus newOrderStatus) {
-        super(String.format(ERROR_ORDER_STATUS_CANNOT_BE_CHANGED, id, orderStatus, newOrderStatus));
+        super(ERROR_ORDER_STATUS_CANNOT_BE_CHANGED, id, orderStatus, newOrderStatus);
     }
 }
@@ -0,0 +1,12 @@
+package com.dutra.ordering.domain.exceptions;
+
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import static com.dutra.ordering.domain.exceptions.ErrorMessages.ERROR_PRODUCT_NOT_FOUND;
+
+public class ProductNotFoundException extends DomainException {
+
+    public ProductNotFoundException(ProductId id) {
+        super(ERROR_PRODUCT_NOT_FOUND, id);
+    }
+}
@@ -0,0 +1,23 @@
+package com.dutra.ordering.domain.repository;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.valueobjects.Email;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface CustomerRepository extends Repository<Customer, CustomerId> {
+
+    Optional<Customer> findByEmail(Email email);
+
+    /**
+     * Aplica a alteração em uma cópia do cliente e grava com {@link #compareAndSave}, refazendo em caso de
+     * conflito.
+     *
+     * @return o cliente gravado, ou vazio se ele não existe.
+     */
+    default Optional<Customer> update(CustomerId customerId, Consumer<Customer> mutation) {
+        return OptimisticUpdate.apply(this, customerId, Customer::copy, mutation);
+    }
+}
@@ -0,0 +1,45 @@
+package com.dutra.ordering.domain.repository;
+
+import com.dutra.ordering.domain.exceptions.ConcurrentModificationConflictException;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Laço de leitura, cópia, alteração e {@link Repository#compareAndSave}. Um conflito significa que outra
+ * alteração foi gravada, então a alteração é refeita sobre a versão nova. A alteração pode rodar mais de uma
+ * vez e não deve ter efeitos fora do agregado.
+ */
+final class OptimisticUpdate {
+
+    static final int MAX_ATTEMPTS = 64;
+
+    private OptimisticUpdate() {
+    }
+
+    static <T, ID> Optional<T> apply(Repository<T, ID> repository, ID id, UnaryOperator<T> copy,
+                                     Consumer<T> mutation) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(mutation);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<T> current = repository.findById(id);
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+
+            T changed = copy.apply(current.get());
+            mutation.accept(changed);
+
+            if (repository.compareAndSave(changed)) {
+                return Optional.of(changed);
+            }
+
+            Thread.onSpinWait();
+        }
+
+        throw new ConcurrentModificationConflictException(id, MAX_ATTEMPTS);
+    }
+}
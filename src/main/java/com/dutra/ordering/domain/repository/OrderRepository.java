@@ -0,0 +1,63 @@
+package com.dutra.ordering.domain.repository;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Como em {@link #findById}, os pedidos devolvidos pelas consultas são as instâncias gravadas: servem para
+ * leitura, e alterações passam por {@link #update}.
+ */
+public interface OrderRepository extends Repository<Order, OrderId> {
+
+    List<Order> findByCustomerId(CustomerId customerId);
+
+    /**
+     * Considera o status do pedido no momento em que foi salvo.
+     */
+    List<Order> findByStatus(OrderStatus orderStatus);
+
+    long countByStatus(OrderStatus orderStatus);
+
+    /**
+     * Página de pedidos em ordem de criação, começando depois de {@code after}. A próxima página começa depois do
+     * último pedido desta, sem passar pelos anteriores.
+     *
+     * @param orderStatus {@code null} para todos os status.
+     * @param after       {@code null} começa do pedido mais antigo.
+     */
+    List<Order> findAfter(OrderStatus orderStatus, OrderId after, int limit);
+
+    /**
+     * Como {@link #findAfter}, do mais novo para o mais antigo, começando antes de {@code before}.
+     *
+     * @param before {@code null} começa do pedido mais novo.
+     */
+    List<Order> findBefore(OrderStatus orderStatus, OrderId before, int limit);
+
+    /**
+     * Pedidos confirmados no intervalo {@code [from, to)}, em ordem de confirmação.
+     */
+    List<Order> findPlacedBetween(OffsetDateTime from, OffsetDateTime to, int limit);
+
+    /**
+     * Pedidos pagos no intervalo {@code [from, to)}, em ordem de pagamento.
+     */
+    List<Order> findPaidBetween(OffsetDateTime from, OffsetDateTime to, int limit);
+
+    /**
+     * Aplica a alteração em uma cópia do pedido e grava com {@link #compareAndSave}, refazendo em caso de
+     * conflito.
+     *
+     * @return o pedido gravado, ou vazio se ele não existe.
+     */
+    default Optional<Order> update(OrderId orderId, Consumer<Order> mutation) {
+        return OptimisticUpdate.apply(this, orderId, Order::copy, mutation);
+    }
+}
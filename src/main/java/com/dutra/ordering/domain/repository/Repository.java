@@ -0,0 +1,25 @@
+package com.dutra.ordering.domain.repository;
+
+import java.util.Optional;
+
+public interface Repository<T, ID> {
+
+    void save(T aggregate);
+
+    /**
+     * Grava o agregado somente se a versão gravada ainda é a que ele tem, ou se ele ainda não existe.
+     *
+     * @return {@code false} se outro save aconteceu desde que o agregado foi lido; nada é gravado.
+     */
+    boolean compareAndSave(T aggregate);
+
+    /**
+     * Devolve a instância gravada, compartilhada com as outras leituras, e por isso ela não deve ser alterada.
+     * Para alterar o agregado, altere uma cópia e grave com {@link #compareAndSave}.
+     */
+    Optional<T> findById(ID id);
+
+    boolean existsById(ID id);
+
+    long count();
+}
@@ -0,0 +1,55 @@
+package com.dutra.ordering.domain.service;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderChangeResult;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.service.OrderTransitionResult.Outcome;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Move lotes de pedidos para um novo status em uma única passada. Pedidos que não podem mudar
+ * são reportados no resultado, sem exceção e sem alteração no agregado.
+ */
+public class OrderStatusTransitionService {
+
+    public List<OrderTransitionResult> transition(Collection<Order> orders, OrderStatus newStatus) {
+        Objects.requireNonNull(orders);
+        Objects.requireNonNull(newStatus);
+
+        List<OrderTransitionResult> results = new ArrayList<>(orders.size());
+
+        for (Order order : orders) {
+            results.add(this.transition(order, newStatus));
+        }
+
+        return results;
+    }
+
+    public OrderTransitionResult transition(Order order, OrderStatus newStatus) {
+        OrderStatus currentStatus = order.orderStatus();
+
+        if (currentStatus.canNotChangeTo(newStatus)) {
+            return new OrderTransitionResult(order.id(), currentStatus, newStatus, Outcome.INVALID_TRANSITION);
+        }
+
+        switch (newStatus) {
+            case PLACED -> {
+                if (order.tryPlace() == OrderChangeResult.NOT_READY_TO_PLACE) {
+                    return new OrderTransitionResult(order.id(), currentStatus, newStatus, Outcome.NOT_READY_TO_PLACE);
+                }
+            }
+            case PAID -> order.markAsPaid();
+            case READY -> order.markAsReady();
+            case CANCELED -> order.cancel();
+            case DRAFT -> {
+                return new OrderTransitionResult(order.id(), currentStatus, newStatus, Outcome.INVALID_TRANSITION);
+            }
+        }
+
+        return new OrderTransitionResult(order.id(), currentStatus, newStatus, Outcome.CHANGED);
+    }
+}
@@ -0,0 +1,17 @@
+package com.dutra.ordering.domain.service;
+
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+
+public record OrderTransitionResult(OrderId orderId, OrderStatus from, OrderStatus to, Outcome outcome) {
+
+    public enum Outcome {
+        CHANGED,
+        INVALID_TRANSITION,
+        NOT_READY_TO_PLACE
+    }
+
+    public boolean isChanged() {
+        return outcome == Outcome.CHANGED;
+    }
+}
@@ -0,0 +1,187 @@
+package com.dutra.ordering.domain.utility;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.*;
+
+/**
+ * Dias úteis entre {@code from} e {@code to}, calculados uma vez: um bitset diz se o dia é útil e duas tabelas
+ * guardam quantos dias úteis há antes de cada dia e o deslocamento do n-ésimo dia útil. Assim
+ * {@link #isBusinessDay} e {@link #addBusinessDays} são O(1) dentro do intervalo. Fora dele só o fim de semana
+ * é considerado, dia a dia.
+ */
+public final class BusinessCalendar {
+
+    private static volatile BusinessCalendar current = brazil(DomainClock.today().getYear() - 1,
+            DomainClock.today().getYear() + 10, List.of());
+
+    private final long fromEpochDay;
+    private final int days;
+    private final Set<DayOfWeek> weekend;
+
+    private final long[] businessDays;
+    private final int[] businessDaysBefore;
+    private final int[] businessDayOffsets;
+
+    /**
+     * @param weekend não pode ter os sete dias: fora do intervalo ele é a única regra, e sem nenhum dia útil
+     *                {@link #addBusinessDays} não teria resposta.
+     */
+    public BusinessCalendar(LocalDate from, LocalDate to, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        Objects.requireNonNull(weekend);
+        Objects.requireNonNull(holidays);
+
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Calendar end cannot be before its start.");
+        }
+        if (weekend.size() == DayOfWeek.values().length) {
+            throw new IllegalArgumentException("Calendar weekend cannot cover the whole week.");
+        }
+
+        this.fromEpochDay = from.toEpochDay();
+        this.days = Math.toIntExact(to.toEpochDay() - fromEpochDay + 1);
+        this.weekend = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+
+        this.businessDays = new long[(days + 63) >>> 6];
+        for (int offset = 0; offset < days; offset++) {
+            if (!this.weekend.contains(from.plusDays(offset).getDayOfWeek())) {
+                businessDays[offset >>> 6] |= 1L << offset;
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            long offset = holiday.toEpochDay() - fromEpochDay;
+            if (offset >= 0 && offset < days) {
+                businessDays[(int) offset >>> 6] &= ~(1L << offset);
+            }
+        }
+
+        this.businessDaysBefore = new int[days + 1];
+        int count = 0;
+        for (int offset = 0; offset < days; offset++) {
+            businessDaysBefore[offset] = count;
+            if (isBusinessDay(offset)) {
+                count++;
+            }
+        }
+        businessDaysBefore[days] = count;
+
+        this.businessDayOffsets = new int[count];
+        for (int offset = 0, rank = 0; offset < days; offset++) {
+            if (isBusinessDay(offset)) {
+                businessDayOffsets[rank++] = offset;
+            }
+        }
+    }
+
+    /**
+     * Sábado e domingo mais os feriados nacionais (fixos e os móveis que dependem da Páscoa: carnaval, sexta-feira
+     * santa e Corpus Christi) de {@code fromYear} a {@code toYear}, e os feriados locais informados.
+     */
+    public static BusinessCalendar brazil(int fromYear, int toYear, Collection<LocalDate> localHolidays) {
+        List<LocalDate> holidays = new ArrayList<>(localHolidays);
+
+        for (int year = fromYear; year <= toYear; year++) {
+            holidays.add(LocalDate.of(year, Month.JANUARY, 1));
+            holidays.add(LocalDate.of(year, Month.APRIL, 21));
+            holidays.add(LocalDate.of(year, Month.MAY, 1));
+            holidays.add(LocalDate.of(year, Month.SEPTEMBER, 7));
+            holidays.add(LocalDate.of(year, Month.OCTOBER, 12));
+            holidays.add(LocalDate.of(year, Month.NOVEMBER, 2));
+            holidays.add(LocalDate.of(year, Month.NOVEMBER, 15));
+            if (year >= 2024) {
+                holidays.add(LocalDate.of(year, Month.NOVEMBER, 20));
+            }
+            holidays.add(LocalDate.of(year, Month.DECEMBER, 25));
+
+            LocalDate easter = easterSunday(year);
+            holidays.add(easter.minusDays(48));
+            holidays.add(easter.minusDays(47));
+            holidays.add(easter.minusDays(2));
+            holidays.add(easter.plusDays(60));
+        }
+
+        return new BusinessCalendar(LocalDate.of(fromYear, Month.JANUARY, 1), LocalDate.of(toYear, Month.DECEMBER, 31),
+                EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+    }
+
+    public static BusinessCalendar current() {
+        return current;
+    }
+
+    public static void use(BusinessCalendar calendar) {
+        current = Objects.requireNonNull(calendar);
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        long offset = date.toEpochDay() - fromEpochDay;
+        if (offset < 0 || offset >= days) {
+            return !weekend.contains(date.getDayOfWeek());
+        }
+        return isBusinessDay((int) offset);
+    }
+
+    /**
+     * Uma entrega pode ser marcada para hoje ou depois, em dia útil.
+     */
+    public boolean isValidDeliveryDate(LocalDate date, LocalDate today) {
+        return !date.isBefore(today) && isBusinessDay(date);
+    }
+
+    /**
+     * O {@code businessDays}-ésimo dia útil depois de {@code date} ({@code date} para zero).
+     */
+    public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+        Objects.requireNonNull(date);
+        if (businessDays < 0) {
+            throw new IllegalArgumentException("Business days cannot be negative.");
+        }
+        if (businessDays == 0) {
+            return date;
+        }
+
+        long offset = date.toEpochDay() - fromEpochDay;
+        if (offset >= 0 && offset < days) {
+            int rank = businessDaysBefore[(int) offset + 1] + businessDays - 1;
+            if (rank < businessDayOffsets.length) {
+                return LocalDate.ofEpochDay(fromEpochDay + businessDayOffsets[rank]);
+            }
+        }
+
+        // Fora do intervalo pré-calculado; termina porque toda semana fora dele tem ao menos um dia útil
+        LocalDate result = date;
+        for (int remaining = businessDays; remaining > 0; ) {
+            result = result.plusDays(1);
+            if (isBusinessDay(result)) {
+                remaining--;
+            }
+        }
+        return result;
+    }
+
+    // Métodos Auxiliares
+    private boolean isBusinessDay(int offset) {
+        return (businessDays[offset >>> 6] & (1L << offset)) != 0;
+    }
+
+    // Algoritmo de Meeus/Jones/Butcher para o calendário gregoriano
+    static LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(year, month, day);
+    }
+}
@@ -0,0 +1,152 @@
+package com.dutra.ordering.domain.utility;
+
+import java.time.*;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relógio usado pelo domínio no lugar de {@code OffsetDateTime.now()} e {@code LocalDate.now()}.
+ */
+public final class DomainClock {
+
+    public enum Mode {
+        /**
+         * Consulta o relógio do sistema a cada chamada.
+         */
+        SYSTEM,
+        /**
+         * Um thread atualiza o instante a cada {@code tick}; as chamadas só leem o último valor, sem consultar o
+         * relógio nem resolver o fuso. A precisão cai para o tamanho do tick.
+         */
+        COARSE
+    }
+
+    private static volatile Source source = new SystemSource(Clock.systemDefaultZone());
+
+    private DomainClock() {
+    }
+
+    public static OffsetDateTime now() {
+        return source.now();
+    }
+
+    public static LocalDate today() {
+        return source.today();
+    }
+
+    public static Instant instant() {
+        return source.instant();
+    }
+
+    public static void useSystem(ZoneId zone) {
+        replace(new SystemSource(Clock.system(zone)));
+    }
+
+    public static void useCoarse(ZoneId zone, Duration tick) {
+        replace(new CoarseSource(Clock.system(zone), tick));
+    }
+
+    /**
+     * Para testes, por exemplo com {@link Clock#fixed}.
+     */
+    public static void use(Clock clock) {
+        replace(new SystemSource(clock));
+    }
+
+    private static synchronized void replace(Source replacement) {
+        Source previous = source;
+        source = replacement;
+        previous.close();
+    }
+
+    private interface Source {
+
+        OffsetDateTime now();
+
+        LocalDate today();
+
+        Instant instant();
+
+        default void close() {
+        }
+    }
+
+    private record SystemSource(Clock clock) implements Source {
+
+        @Override
+        public OffsetDateTime now() {
+            return OffsetDateTime.now(clock);
+        }
+
+        @Override
+        public LocalDate today() {
+            return LocalDate.now(clock);
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+    }
+
+    private static final class CoarseSource implements Source {
+
+        private final Clock clock;
+        private final ScheduledExecutorService ticker;
+
+        private volatile Snapshot snapshot;
+
+        private CoarseSource(Clock clock, Duration tick) {
+            if (tick.isNegative() || tick.isZero()) {
+                throw new IllegalArgumentException("Clock tick must be positive.");
+            }
+
+            this.clock = Objects.requireNonNull(clock);
+            this.snapshot = Snapshot.of(clock);
+            this.ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("domain-clock").daemon().factory());
+
+            long nanos = tick.toNanos();
+            this.ticker.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public OffsetDateTime now() {
+            return snapshot.now();
+        }
+
+        @Override
+        public LocalDate today() {
+            return snapshot.today();
+        }
+
+        @Override
+        public Instant instant() {
+            return snapshot.instant();
+        }
+
+        @Override
+        public void close() {
+            ticker.shutdownNow();
+        }
+
+        private void tick() {
+            Snapshot previous = snapshot;
+            Snapshot next = Snapshot.of(clock);
+            // Ajustes do relógio do sistema para trás não fazem o instante retroceder
+            if (next.instant().isAfter(previous.instant())) {
+                snapshot = next;
+            }
+        }
+    }
+
+    private record Snapshot(Instant instant, OffsetDateTime now, LocalDate today) {
+
+        private static Snapshot of(Clock clock) {
+            OffsetDateTime now = OffsetDateTime.now(clock);
+            return new Snapshot(now.toInstant(), now, now.toLocalDate());
+        }
+    }
+}
@@ -3,10 +3,21 @@ package com.dutra.ordering.domain.utility;
 import com.dutra.ordering.domain.exceptions.ErrorMessages;
 import org.apache.commons.validator.routines.EmailValidator;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class FieldsValidation {
 
+    /*
+     * Cache de mapeamento direto dos últimos emails válidos: uma posição por hash, sem locks.
+     * Uma colisão apenas substitui a entrada anterior; emails inválidos não são guardados.
+     */
+    private static final String[] VALID_EMAILS = new String[
+            Integer.highestOneBit(Math.max(Integer.getInteger("ordering.email.cache.size", 4096), 1))];
+
     private FieldsValidation() {}
 
     public static void requiresValidEmail(String email) {
@@ -20,11 +31,48 @@ public class FieldsValidation {
             throw new IllegalArgumentException(ErrorMessages.VALIDATION_ERROR_EMAIL_IS_BLANK);
         }
 
-        if (!EmailValidator.getInstance().isValid(email)) {
+        if (!isValidEmail(email)) {
             throw new IllegalArgumentException(ErrorMessages.VALIDATION_ERROR_EMAIL_IS_INVALID);
         }
     }
 
+    /**
+     * Mesmo resultado de {@link EmailValidator#isValid(String)}, consultando antes o cache e uma
+     * pré-verificação sintática que só descarta o que o validador também recusaria.
+     */
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+
+        int position = email.hashCode() & (VALID_EMAILS.length - 1);
+        String cached = VALID_EMAILS[position];
+
+        if (cached != null && cached.equals(email)) {
+            return true;
+        }
+
+        if (!hasEmailShape(email) || !EmailValidator.getInstance().isValid(email)) {
+            return false;
+        }
+
+        VALID_EMAILS[position] = email;
+        return true;
+    }
+
+    /**
+     * Valida em paralelo; endereços repetidos são avaliados uma única vez.
+     *
+     * @return cada endereço distinto associado ao resultado da validação
+     */
+    public static Map<String, Boolean> validateAll(Collection<String> emails) {
+        Objects.requireNonNull(emails);
+
+        return emails.parallelStream()
+                .collect(Collectors.toConcurrentMap(Function.identity(), FieldsValidation::isValidEmail,
+                        (first, second) -> first));
+    }
+
     public static void requiresNotBlankOrNull(String value) {
         Objects.requireNonNull(value);
 
@@ -32,4 +80,31 @@ public class FieldsValidation {
             throw new IllegalArgumentException("Cannot be blank.");
         }
     }
+
+    /*
+     * Só descarta o que o EmailValidator também recusa: parte local ou domínio vazios, endereço terminado em
+     * ponto e domínio só ASCII sem ponto. Literais de IP ("[::1]") e domínios com caracteres não ASCII, em que
+     * o IDN pode converter outros caracteres em ponto, ficam para o validador.
+     */
+    private static boolean hasEmailShape(String email) {
+        int at = email.lastIndexOf('@');
+        int length = email.length();
+
+        if (at <= 0 || at == length - 1 || email.charAt(length - 1) == '.') {
+            return false;
+        }
+
+        if (email.charAt(at + 1) == '[') {
+            return true;
+        }
+
+        for (int i = at + 1; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.' || c > 0x7F) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
@@ -8,23 +8,70 @@ import java.util.UUID;
 
 public class IdGenerator {
 
-    private static final TimeBasedEpochRandomGenerator timeBasedEpochRandomGenerator
-            = Generators.timeBasedEpochRandomGenerator();
+    public enum Mode {
+        /**
+         * Fábrica TSID e gerador de UUID únicos e compartilhados pela JVM.
+         */
+        SHARED,
+        /**
+         * Geradores distribuídos em faixas por thread, com blocos de sequência pré-reservados.
+         */
+        STRIPED
+    }
 
-    private static final TSID.Factory tsidFactory = TSID.Factory.INSTANCE;
+    private static volatile Strategy strategy = new SharedStrategy();
 
     private IdGenerator() {
     }
 
     public static UUID generateTimeBasedUUID() {
-        return timeBasedEpochRandomGenerator.generate();
+        return strategy.generateTimeBasedUUID();
     }
 
     /**
      * TSID_NODE e TSID_NODE_COUNT
-     * Variáveis a serem ajustadas em produção.
+     * Variáveis a serem ajustadas em produção (ordering.id-generator.node e node-count).
      */
     public static TSID generateTSID() {
-        return tsidFactory.generate();
+        return strategy.generateTSID();
+    }
+
+    public static void useShared() {
+        strategy = new SharedStrategy();
+    }
+
+    /**
+     * @param node      nó desta instância, entre 0 e {@code nodeCount - 1}
+     * @param nodeCount quantidade de instâncias que geram ids em paralelo
+     * @param lanes     faixas de geração por instância; threads são distribuídas entre elas
+     * @param blockSize quantidade de TSIDs reservados de uma vez por thread de plataforma
+     */
+    public static void useStriped(int node, int nodeCount, int lanes, int blockSize) {
+        strategy = new StripedIdGenerator(node, nodeCount, lanes, blockSize);
+    }
+
+    interface Strategy {
+
+        UUID generateTimeBasedUUID();
+
+        TSID generateTSID();
+    }
+
+    private static final class SharedStrategy implements Strategy {
+
+        private final TimeBasedEpochRandomGenerator timeBasedEpochRandomGenerator
+                = Generators.timeBasedEpochRandomGenerator();
+
+        private final TSID.Factory tsidFactory = TSID.Factory.INSTANCE;
+
+        @Override
+        public UUID generateTimeBasedUUID() {
+            return timeBasedEpochRandomGenerator.generate();
+        }
+
+        @Override
+        public TSID generateTSID() {
+            return tsidFactory.generate();
+        }
     }
 }
@@ -0,0 +1,142 @@
+package com.dutra.ordering.domain.utility;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
+import io.hypersistence.tsid.TSID;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera TSIDs no layout da biblioteca (42 bits de tempo + 22 bits de nó/contador), reservando
+ * parte dos bits de nó para a faixa: {@code nó = node << laneBits | lane}. Cada faixa tem seu
+ * próprio contador, então faixas e nós distintos nunca colidem e threads em faixas diferentes
+ * não disputam o mesmo contador.
+ */
+final class StripedIdGenerator implements IdGenerator.Strategy {
+
+    // 2020-01-01T00:00:00Z, o mesmo epoch de TSID.Factory
+    private static final long TSID_EPOCH = 1577836800000L;
+    private static final int NODE_AND_COUNTER_BITS = 22;
+    private static final int MAX_NODE_BITS = 20;
+
+    private final Lane[] lanes;
+    private final TimeBasedEpochRandomGenerator[] uuidGenerators;
+    private final int blockSize;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    StripedIdGenerator(int node, int nodeCount, int lanes, int blockSize) {
+        if (nodeCount < 1 || node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException("Node must be between 0 and node count - 1.");
+        }
+
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lanes must be positive.");
+        }
+
+        int laneBits = bitsFor(lanes);
+        int nodeBits = bitsFor(nodeCount) + laneBits;
+
+        if (nodeBits > MAX_NODE_BITS) {
+            throw new IllegalArgumentException("Node count and lanes need more than " + MAX_NODE_BITS + " bits.");
+        }
+
+        int counterBits = NODE_AND_COUNTER_BITS - nodeBits;
+
+        if (blockSize < 1 || blockSize > (1 << counterBits)) {
+            throw new IllegalArgumentException("Block size must be between 1 and " + (1 << counterBits) + ".");
+        }
+
+        this.blockSize = blockSize;
+        this.lanes = new Lane[lanes];
+        this.uuidGenerators = new TimeBasedEpochRandomGenerator[lanes];
+
+        for (int lane = 0; lane < lanes; lane++) {
+            long nodeValue = ((long) node << laneBits) | lane;
+            this.lanes[lane] = new Lane(nodeValue << counterBits, counterBits);
+            this.uuidGenerators[lane] = Generators.timeBasedEpochRandomGenerator(new SecureRandom());
+        }
+    }
+
+    @Override
+    public UUID generateTimeBasedUUID() {
+        return uuidGenerators[laneIndex()].generate();
+    }
+
+    @Override
+    public TSID generateTSID() {
+        Lane lane = lanes[laneIndex()];
+        long now = System.currentTimeMillis() - TSID_EPOCH;
+
+        // Threads virtuais são descartáveis: um bloco por thread seria desperdiçado
+        if (blockSize == 1 || Thread.currentThread().isVirtual()) {
+            return TSID.from(lane.reserve(1, now));
+        }
+
+        Block block = blocks.get();
+
+        if (block.remaining == 0 || block.time != now) {
+            block.next = lane.reserve(blockSize, now);
+            block.remaining = blockSize;
+            block.time = now;
+        }
+
+        block.remaining--;
+        return TSID.from(block.next++);
+    }
+
+    private int laneIndex() {
+        return (int) (Thread.currentThread().threadId() % lanes.length);
+    }
+
+    private static int bitsFor(int count) {
+        return 32 - Integer.numberOfLeadingZeros(count - 1);
+    }
+
+    private static final class Lane {
+
+        private final long nodePart;
+        private final long counterMask;
+        private final AtomicLong last = new AtomicLong();
+
+        private Lane(long nodePart, int counterBits) {
+            this.nodePart = nodePart;
+            this.counterMask = (1L << counterBits) - 1;
+        }
+
+        /**
+         * Reserva {@code size} valores consecutivos do contador e devolve o primeiro TSID do bloco.
+         * Se o milissegundo corrente não comporta o bloco, avança o tempo em 1 ms, como TSID.Factory.
+         */
+        private long reserve(int size, long now) {
+            for (;;) {
+                long current = last.get();
+                long lastTime = current >>> NODE_AND_COUNTER_BITS;
+                long time = Math.max(now, lastTime);
+                long counter = 0;
+
+                if (time == lastTime) {
+                    counter = (current & counterMask) + 1;
+
+                    if (counter + size - 1 > counterMask) {
+                        time++;
+                        counter = 0;
+                    }
+                }
+
+                long first = (time << NODE_AND_COUNTER_BITS) | nodePart | counter;
+
+                if (last.compareAndSet(current, first + size - 1)) {
+                    return first;
+                }
+            }
+        }
+    }
+
+    private static final class Block {
+        private long next;
+        private int remaining;
+        private long time;
+    }
+}
@@ -1,5 +1,7 @@
 package com.dutra.ordering.domain.valueobjects;
 
+import com.dutra.ordering.domain.utility.DomainClock;
+
 import java.time.LocalDate;
 import java.util.Objects;
 
@@ -8,13 +10,13 @@ public record BirthDate(LocalDate birthDate) {
     public BirthDate {
         Objects.requireNonNull(birthDate);
 
-        if (birthDate.isAfter(LocalDate.now())) {
+        if (birthDate.isAfter(DomainClock.today())) {
             throw new IllegalArgumentException("Data de nascimento não está no passado.");
         }
     }
 
     public Integer age() {
-        return LocalDate.now().compareTo(birthDate);
+        return DomainClock.today().compareTo(birthDate);
     }
 
     @Override
@@ -0,0 +1,15 @@
+package com.dutra.ordering.domain.valueobjects;
+
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.util.Objects;
+
+public record CartItem(ProductId productId, ProductName productName, Money price, Quantity quantity) {
+
+    public CartItem {
+        Objects.requireNonNull(productId);
+        Objects.requireNonNull(productName);
+        Objects.requireNonNull(price);
+        Objects.requireNonNull(quantity);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Objects;
 
 public record LoyaltyPoints(Integer points) implements Comparable<LoyaltyPoints> {
 
+    public static final LoyaltyPoints ZERO = new LoyaltyPoints(0);
+
     public LoyaltyPoints() {
         this(0);
     }
@@ -16,8 +18,18 @@ public record LoyaltyPoints(Integer points) implements Comparable<LoyaltyPoints>
         }
     }
 
+    /**
+     * Devolve instâncias canônicas para 0 até {@code ordering.loyalty-points.cache.high} (padrão 1000).
+     */
+    public static LoyaltyPoints of(int points) {
+        if (points >= 0 && points < Cache.VALUES.length) {
+            return Cache.VALUES[points];
+        }
+        return new LoyaltyPoints(points);
+    }
+
     public LoyaltyPoints add(Integer points) {
-        return add(new LoyaltyPoints(points));
+        return add(LoyaltyPoints.of(points));
     }
 
     public LoyaltyPoints add(LoyaltyPoints loyaltyPoints) {
@@ -27,7 +39,7 @@ public record LoyaltyPoints(Integer points) implements Comparable<LoyaltyPoints>
             throw new IllegalArgumentException("Negative number informed for points is invalid.");
         }
 
-        return new LoyaltyPoints(this.points() + loyaltyPoints.points);
+        return LoyaltyPoints.of(Math.addExact(this.points(), loyaltyPoints.points));
     }
 
     @Override
@@ -39,4 +51,16 @@ public record LoyaltyPoints(Integer points) implements Comparable<LoyaltyPoints>
     public int compareTo(LoyaltyPoints object) {
         return this.points.compareTo(object.points);
     }
+
+    private static final class Cache {
+
+        private static final LoyaltyPoints[] VALUES = new LoyaltyPoints[Integer.getInteger("ordering.loyalty-points.cache.high", 1000) + 1];
+
+        static {
+            VALUES[0] = ZERO;
+            for (int i = 1; i < VALUES.length; i++) {
+                VALUES[i] = new LoyaltyPoints(i);
+            }
+        }
+    }
 }
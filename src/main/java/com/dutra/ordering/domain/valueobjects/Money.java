@@ -22,6 +22,32 @@ public record Money(BigDecimal value) implements Comparable<Money> {
         this(new BigDecimal(Objects.requireNonNull(value, "Value string cannot be null")));
     }
 
+    /**
+     * Representação em centavos para laços aritméticos: some/multiplique em {@code long}
+     * com {@link Math#addExact}/{@link Math#multiplyExact} e volte para {@link Money} só no final.
+     * <p>
+     * Valores inteiros de 0 até {@code ordering.money.cache.high} (padrão 1000) reais
+     * devolvem instâncias canônicas.
+     */
+    public static Money ofCents(long cents) {
+        if (cents < 0) {
+            throw new IllegalArgumentException("Negative value for money.");
+        }
+
+        if (cents % 100 == 0 && cents / 100 < Cache.WHOLE_UNITS.length) {
+            return Cache.WHOLE_UNITS[(int) (cents / 100)];
+        }
+
+        return new Money(BigDecimal.valueOf(cents, 2));
+    }
+
+    /**
+     * @throws ArithmeticException se o valor não couber em um {@code long} de centavos.
+     */
+    public long cents() {
+        return this.value.movePointRight(2).longValueExact();
+    }
+
     public Money multiply(Quantity quantity) {
         Objects.requireNonNull(quantity);
         if (quantity.value() < 1) {
@@ -50,4 +76,16 @@ public record Money(BigDecimal value) implements Comparable<Money> {
     public String toString() {
         return value.toString();
     }
+
+    private static final class Cache {
+
+        private static final Money[] WHOLE_UNITS = new Money[Integer.getInteger("ordering.money.cache.high", 1000) + 1];
+
+        static {
+            WHOLE_UNITS[0] = ZERO;
+            for (int i = 1; i < WHOLE_UNITS.length; i++) {
+                WHOLE_UNITS[i] = new Money(BigDecimal.valueOf(i * 100L, 2));
+            }
+        }
+    }
 }
@@ -14,9 +14,20 @@ public record Quantity(Integer value) implements Serializable, Comparable<Quanti
         }
     }
 
+    /**
+     * Como {@link Integer#valueOf(int)}: devolve instâncias canônicas para 0 até
+     * {@code ordering.quantity.cache.high} (padrão 128).
+     */
+    public static Quantity of(int value) {
+        if (value >= 0 && value < Cache.VALUES.length) {
+            return Cache.VALUES[value];
+        }
+        return new Quantity(value);
+    }
+
     public Quantity add(Quantity quantity) {
         Objects.requireNonNull(quantity);
-        return new Quantity(this.value + quantity.value());
+        return Quantity.of(Math.addExact(this.value, quantity.value()));
     }
 
     @Override
@@ -28,4 +39,16 @@ public record Quantity(Integer value) implements Serializable, Comparable<Quanti
     public int compareTo(Quantity o) {
         return this.value.compareTo(o.value);
     }
+
+    private static final class Cache {
+
+        private static final Quantity[] VALUES = new Quantity[Integer.getInteger("ordering.quantity.cache.high", 128) + 1];
+
+        static {
+            VALUES[0] = ZERO;
+            for (int i = 1; i < VALUES.length; i++) {
+                VALUES[i] = new Quantity(i);
+            }
+        }
+    }
 }
@@ -5,7 +5,11 @@ import io.hypersistence.tsid.TSID;
 
 import java.util.Objects;
 
-public record OrderId(TSID value) {
+/**
+ * Ordenável pelo TSID, que começa pelo instante de criação: a ordem dos ids é a ordem em que os pedidos foram
+ * criados.
+ */
+public record OrderId(TSID value) implements Comparable<OrderId> {
 
     public OrderId() {
         this(IdGenerator.generateTSID());
@@ -19,6 +23,11 @@ public record OrderId(TSID value) {
         this(TSID.from(value));
     }
 
+    @Override
+    public int compareTo(OrderId other) {
+        return value.compareTo(other.value);
+    }
+
     @Override
     public String toString() {
         return value.toString();
@@ -0,0 +1,135 @@
+package com.dutra.ordering.infrastructure.catalog;
+
+import com.dutra.ordering.application.catalog.CatalogProduct;
+import com.dutra.ordering.application.catalog.ProductCatalog;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.io.NioLineReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catálogo local, lido de um CSV {@code productId,price,productName} com cabeçalho, para testes e
+ * desenvolvimento. O nome é o resto da linha e pode conter vírgulas. O arquivo é relido quando a data de
+ * modificação muda, então edições aparecem nas consultas seguintes; sem o arquivo, o catálogo fica vazio.
+ * {@code latency} simula o tempo de resposta de um catálogo remoto.
+ */
+public class FileProductCatalog implements ProductCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(FileProductCatalog.class);
+
+    private final Path path;
+    private final Duration latency;
+    private final AtomicLong lookups = new AtomicLong();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public FileProductCatalog(Path path) {
+        this(path, Duration.ZERO);
+    }
+
+    public FileProductCatalog(Path path, Duration latency) {
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("Latency cannot be negative.");
+        }
+        this.path = Objects.requireNonNull(path);
+        this.latency = latency;
+        reloadIfModified();
+    }
+
+    @Override
+    public Optional<CatalogProduct> findById(ProductId productId) {
+        Objects.requireNonNull(productId);
+        lookups.incrementAndGet();
+        simulateLatency();
+
+        return Optional.ofNullable(reloadIfModified().products.get(productId));
+    }
+
+    /**
+     * Quantas consultas foram feitas ao arquivo.
+     */
+    public long lookups() {
+        return lookups.get();
+    }
+
+    // Métodos Auxiliares
+    private synchronized Snapshot reloadIfModified() {
+        FileTime modifiedAt;
+        try {
+            modifiedAt = Files.getLastModifiedTime(path);
+        } catch (NoSuchFileException e) {
+            if (snapshot != Snapshot.EMPTY) {
+                log.warn("Product catalog file {} was removed; the catalog is now empty.", path);
+            }
+            return snapshot = Snapshot.EMPTY;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!modifiedAt.equals(snapshot.modifiedAt)) {
+            snapshot = new Snapshot(modifiedAt, read());
+            log.info("Loaded {} products from {}.", snapshot.products.size(), path);
+        }
+        return snapshot;
+    }
+
+    private Map<ProductId, CatalogProduct> read() {
+        Map<ProductId, CatalogProduct> products = new HashMap<>();
+
+        try (NioLineReader reader = new NioLineReader(path)) {
+            reader.readLine();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                String[] fields = line.split(",", 3);
+                if (fields.length < 3) {
+                    throw new IllegalArgumentException("Invalid product at line " + reader.lineNumber() + ".");
+                }
+
+                CatalogProduct product = new CatalogProduct(new ProductId(UUID.fromString(fields[0].strip())),
+                        new ProductName(fields[2].strip()), new Money(fields[1].strip()));
+                products.put(product.productId(), product);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return products;
+    }
+
+    private void simulateLatency() {
+        if (latency.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Product lookup interrupted.", e);
+        }
+    }
+
+    private record Snapshot(FileTime modifiedAt, Map<ProductId, CatalogProduct> products) {
+
+        static final Snapshot EMPTY = new Snapshot(null, Map.of());
+    }
+}
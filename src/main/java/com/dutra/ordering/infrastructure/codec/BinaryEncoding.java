@@ -0,0 +1,220 @@
+package com.dutra.ordering.infrastructure.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Primitivas de codificação binária sobre {@link ByteBuffer}: inteiros como varint (LEB128), com zigzag
+ * quando podem ser negativos, strings em UTF-8 prefixadas pelo tamanho e instantes em microssegundos.
+ * <p>
+ * Campos anuláveis usam o valor 0 do prefixo como {@code null}. Escritas que não cabem no buffer lançam
+ * {@link java.nio.BufferOverflowException}; cabe a quem chama crescer o buffer e tentar de novo.
+ */
+public final class BinaryEncoding {
+
+    private static final int OFFSET_UNIT_SECONDS = 15 * 60;
+
+    private BinaryEncoding() {
+    }
+
+    // Inteiros
+    public static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static long getVarLong(ByteBuffer buffer) {
+        long result = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed varint.");
+    }
+
+    public static void putVarInt(ByteBuffer buffer, int value) {
+        putVarLong(buffer, value & 0xFFFFFFFFL);
+    }
+
+    public static int getVarInt(ByteBuffer buffer) {
+        long value = getVarLong(buffer);
+
+        if ((value >>> 32) != 0) {
+            throw new IllegalArgumentException("Varint does not fit in an int.");
+        }
+
+        return (int) value;
+    }
+
+    public static void putSignedVarLong(ByteBuffer buffer, long value) {
+        putVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    public static long getSignedVarLong(ByteBuffer buffer) {
+        long value = getVarLong(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // Strings
+    public static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            putVarInt(buffer, 0);
+            return;
+        }
+
+        putVarInt(buffer, utf8Length(value) + 1);
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    public static String getString(ByteBuffer buffer) {
+        int prefix = getVarInt(buffer);
+
+        if (prefix == 0) {
+            return null;
+        }
+
+        int length = prefix - 1;
+
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + length);
+            return new String(buffer.array(), start, length, StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Mesmo cálculo de putString, inclusive para surrogates isolados (1 byte)
+    public static int utf8Length(String value) {
+        int length = value.length();
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            } else if (c >= 0x80) {
+                length += 1;
+            }
+        }
+
+        return length;
+    }
+
+    // Identificadores
+    public static void putUuid(ByteBuffer buffer, UUID value) {
+        buffer.putLong(value.getMostSignificantBits());
+        buffer.putLong(value.getLeastSignificantBits());
+    }
+
+    public static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    // Enums
+    public static void putEnum(ByteBuffer buffer, Enum<?> value) {
+        putVarInt(buffer, value == null ? 0 : value.ordinal() + 1);
+    }
+
+    public static <E extends Enum<E>> E getEnum(ByteBuffer buffer, E[] values) {
+        int ordinal = getVarInt(buffer);
+        return ordinal == 0 ? null : values[ordinal - 1];
+    }
+
+    // Datas
+    public static void putTimestamp(ByteBuffer buffer, OffsetDateTime value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        int offsetSeconds = value.getOffset().getTotalSeconds();
+        Instant instant = value.toInstant();
+        long micros = Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L),
+                instant.getNano() / 1_000);
+
+        if (offsetSeconds % OFFSET_UNIT_SECONDS == 0) {
+            buffer.put((byte) 1);
+            putSignedVarLong(buffer, micros);
+            putSignedVarLong(buffer, offsetSeconds / OFFSET_UNIT_SECONDS);
+        } else {
+            buffer.put((byte) 2);
+            putSignedVarLong(buffer, micros);
+            putSignedVarLong(buffer, offsetSeconds);
+        }
+    }
+
+    public static OffsetDateTime getTimestamp(ByteBuffer buffer) {
+        byte kind = buffer.get();
+
+        if (kind == 0) {
+            return null;
+        }
+
+        long micros = getSignedVarLong(buffer);
+        long offset = getSignedVarLong(buffer);
+        int offsetSeconds = (int) (kind == 1 ? offset * OFFSET_UNIT_SECONDS : offset);
+
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                Math.floorMod(micros, 1_000_000L) * 1_000L);
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    public static void putDate(ByteBuffer buffer, LocalDate value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        buffer.put((byte) 1);
+        putSignedVarLong(buffer, value.toEpochDay());
+    }
+
+    public static LocalDate getDate(ByteBuffer buffer) {
+        return buffer.get() == 0 ? null : LocalDate.ofEpochDay(getSignedVarLong(buffer));
+    }
+}
@@ -0,0 +1,95 @@
+package com.dutra.ordering.infrastructure.codec;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.valueobjects.*;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import static com.dutra.ordering.infrastructure.codec.BinaryEncoding.*;
+import static com.dutra.ordering.infrastructure.codec.ValueObjectEncoding.*;
+
+/**
+ * Codec binário do agregado {@link Customer}, no mesmo formato versionado de {@link OrderCodec}. A versão 2
+ * passou a gravar a versão do agregado ({@link Customer#version()}); clientes da versão 1 voltam com versão 0.
+ */
+public final class CustomerCodec {
+
+    public static final byte VERSION = 2;
+
+    private CustomerCodec() {
+    }
+
+    public static void encode(ByteBuffer buffer, Customer customer) {
+        buffer.put(VERSION);
+
+        putCustomerId(buffer, customer.id());
+        putVarLong(buffer, customer.version());
+        putFullName(buffer, customer.fullName());
+        putDate(buffer, customer.birthDate() == null ? null : customer.birthDate().birthDate());
+        putString(buffer, customer.email() == null ? null : customer.email().email());
+        putString(buffer, customer.phone() == null ? null : customer.phone().phone());
+        putString(buffer, customer.document() == null ? null : customer.document().document());
+        buffer.put((byte) (customer.isPromotionNotificationsAllowed() ? 1 : 0));
+        buffer.put((byte) (customer.isArchived() ? 1 : 0));
+        putTimestamp(buffer, customer.registeredAt());
+        putTimestamp(buffer, customer.archivedAt());
+        putVarInt(buffer, customer.loyaltyPoints() == null ? 0 : customer.loyaltyPoints().points() + 1);
+
+        if (customer.address() == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1);
+            putAddress(buffer, customer.address());
+        }
+    }
+
+    public static Customer decode(ByteBuffer buffer) {
+        byte format = buffer.get();
+
+        if (format < 1 || format > VERSION) {
+            throw new IllegalArgumentException("Unsupported customer format version " + format + ".");
+        }
+
+        CustomerId customerId = getCustomerId(buffer);
+        long version = format == 1 ? 0 : getVarLong(buffer);
+
+        return Customer.existing(
+                customerId,
+                getFullName(buffer),
+                birthDateOrNull(getDate(buffer)),
+                emailOrNull(getString(buffer)),
+                phoneOrNull(getString(buffer)),
+                documentOrNull(getString(buffer)),
+                buffer.get() == 1,
+                buffer.get() == 1,
+                getTimestamp(buffer),
+                getTimestamp(buffer),
+                loyaltyPointsOrNull(getVarInt(buffer)),
+                buffer.get() == 0 ? null : getAddress(buffer),
+                version
+        );
+    }
+
+    // Métodos Auxiliares
+    private static BirthDate birthDateOrNull(LocalDate value) {
+        return value == null ? null : new BirthDate(value);
+    }
+
+    private static Email emailOrNull(String value) {
+        return value == null ? null : new Email(value);
+    }
+
+    private static Phone phoneOrNull(String value) {
+        return value == null ? null : new Phone(value);
+    }
+
+    private static Document documentOrNull(String value) {
+        return value == null ? null : new Document(value);
+    }
+
+    private static LoyaltyPoints loyaltyPointsOrNull(int value) {
+        return value == 0 ? null : LoyaltyPoints.of(value - 1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.dutra.ordering.infrastructure.codec;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.OrderItem;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.dutra.ordering.infrastructure.codec.BinaryEncoding.*;
+import static com.dutra.ordering.infrastructure.codec.ValueObjectEncoding.*;
+
+/**
+ * Codec binário do agregado {@link Order} completo, itens incluídos. O primeiro byte é a versão do
+ * formato; {@link #decode} continua lendo as versões antigas quando uma nova for criada. A versão 2 passou a
+ * gravar a versão do agregado ({@link Order#version()}); pedidos da versão 1 voltam com versão 0.
+ * <p>
+ * Lê e escreve direto no {@link ByteBuffer} recebido, a partir da posição atual. Se o pedido não couber,
+ * {@link #encode} lança {@link java.nio.BufferOverflowException}.
+ */
+public final class OrderCodec {
+
+    public static final byte VERSION = 2;
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final PaymentMethods[] PAYMENT_METHODS = PaymentMethods.values();
+
+    private OrderCodec() {
+    }
+
+    public static void encode(ByteBuffer buffer, Order order) {
+        buffer.put(VERSION);
+
+        putOrderId(buffer, order.id());
+        putVarLong(buffer, order.version());
+        putCustomerId(buffer, order.customerId());
+        putMoneyOrNull(buffer, order.totalAmount());
+        putQuantityOrNull(buffer, order.totalItems());
+        putTimestamp(buffer, order.placedAt());
+        putTimestamp(buffer, order.paidAt());
+        putTimestamp(buffer, order.canceledAt());
+        putTimestamp(buffer, order.readyAt());
+        putBillingOrNull(buffer, order.billing());
+        putShippingOrNull(buffer, order.shipping());
+        putEnum(buffer, order.orderStatus());
+        putEnum(buffer, order.paymentMethod());
+        putMoneyOrNull(buffer, order.shippingCost());
+        putDate(buffer, order.expectedDeliveryDate());
+
+        Set<OrderItem> items = order.items();
+        putVarInt(buffer, items.size());
+        for (OrderItem item : items) {
+            buffer.putLong(item.id().value().toLong());
+            putProductId(buffer, item.productId());
+            putString(buffer, item.productName().value());
+            putVarLong(buffer, item.price().cents());
+            putVarInt(buffer, item.quantity().value());
+        }
+    }
+
+    public static Order decode(ByteBuffer buffer) {
+        byte format = buffer.get();
+
+        if (format < 1 || format > VERSION) {
+            throw new IllegalArgumentException("Unsupported order format version " + format + ".");
+        }
+
+        Order.ExistingOrderBuilder builder = Order.existing();
+        OrderId orderId = getOrderId(buffer);
+
+        builder.id(orderId)
+                .version(format == 1 ? 0 : getVarLong(buffer))
+                .customerId(getCustomerId(buffer))
+                .totalAmount(getMoneyOrNull(buffer))
+                .totalItems(getQuantityOrNull(buffer))
+                .placedAt(getTimestamp(buffer))
+                .paidAt(getTimestamp(buffer))
+                .canceledAt(getTimestamp(buffer))
+                .readyAt(getTimestamp(buffer))
+                .billing(getBillingOrNull(buffer))
+                .shipping(getShippingOrNull(buffer))
+                .orderStatus(getEnum(buffer, ORDER_STATUSES))
+                .paymentMethod(getEnum(buffer, PAYMENT_METHODS))
+                .shippingCost(getMoneyOrNull(buffer))
+                .expectedDeliveryDate(getDate(buffer));
+
+        int size = getVarInt(buffer);
+        Set<OrderItem> items = new LinkedHashSet<>(size * 4 / 3 + 1);
+
+        for (int i = 0; i < size; i++) {
+            OrderItemId orderItemId = new OrderItemId(buffer.getLong());
+            OrderItem.ExistingOrderItem item = OrderItem.existing()
+                    .id(orderItemId)
+                    .orderId(orderId)
+                    .productId(getProductId(buffer))
+                    .productName(new ProductName(getString(buffer)));
+
+            long priceCents = getVarLong(buffer);
+            int quantity = getVarInt(buffer);
+
+            items.add(item.price(Money.ofCents(priceCents))
+                    .quantity(Quantity.of(quantity))
+                    .totalAmount(Money.ofCents(Math.multiplyExact(priceCents, quantity)))
+                    .build());
+        }
+
+        return builder.items(items).build();
+    }
+}
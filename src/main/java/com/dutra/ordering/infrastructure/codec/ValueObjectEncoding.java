@@ -0,0 +1,137 @@
+package com.dutra.ordering.infrastructure.codec;
+
+import com.dutra.ordering.domain.valueobjects.*;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+
+import java.nio.ByteBuffer;
+
+import static com.dutra.ordering.infrastructure.codec.BinaryEncoding.*;
+
+/**
+ * Codificação dos value objects do domínio sobre as primitivas de {@link BinaryEncoding}: TSIDs como
+ * {@code long}, UUIDs como dois {@code long}s e dinheiro como varint de centavos. Os métodos
+ * {@code *OrNull} aceitam {@code null}.
+ */
+public final class ValueObjectEncoding {
+
+    private ValueObjectEncoding() {
+    }
+
+    // Identificadores
+    public static void putOrderId(ByteBuffer buffer, OrderId orderId) {
+        buffer.putLong(orderId.value().toLong());
+    }
+
+    public static OrderId getOrderId(ByteBuffer buffer) {
+        return new OrderId(buffer.getLong());
+    }
+
+    public static void putCustomerId(ByteBuffer buffer, CustomerId customerId) {
+        putUuid(buffer, customerId.valueId());
+    }
+
+    public static CustomerId getCustomerId(ByteBuffer buffer) {
+        return new CustomerId(getUuid(buffer));
+    }
+
+    public static void putProductId(ByteBuffer buffer, ProductId productId) {
+        putUuid(buffer, productId.valueId());
+    }
+
+    public static ProductId getProductId(ByteBuffer buffer) {
+        return new ProductId(getUuid(buffer));
+    }
+
+    // Valores
+    public static void putMoneyOrNull(ByteBuffer buffer, Money money) {
+        putVarLong(buffer, money == null ? 0 : money.cents() + 1);
+    }
+
+    public static Money getMoneyOrNull(ByteBuffer buffer) {
+        long value = getVarLong(buffer);
+        return value == 0 ? null : Money.ofCents(value - 1);
+    }
+
+    public static void putQuantityOrNull(ByteBuffer buffer, Quantity quantity) {
+        putVarLong(buffer, quantity == null ? 0 : quantity.value() + 1L);
+    }
+
+    public static Quantity getQuantityOrNull(ByteBuffer buffer) {
+        long value = getVarLong(buffer);
+        return value == 0 ? null : Quantity.of(Math.toIntExact(value - 1));
+    }
+
+    // Contato
+    public static void putShippingOrNull(ByteBuffer buffer, ShippingInfo shipping) {
+        if (shipping == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        buffer.put((byte) 1);
+        putContact(buffer, shipping.fullName(), shipping.document(), shipping.phone(), shipping.address());
+    }
+
+    public static ShippingInfo getShippingOrNull(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+
+        return new ShippingInfo(getFullName(buffer), new Document(getString(buffer)),
+                new Phone(getString(buffer)), getAddress(buffer));
+    }
+
+    public static void putBillingOrNull(ByteBuffer buffer, BillingInfo billing) {
+        if (billing == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        buffer.put((byte) 1);
+        putContact(buffer, billing.fullName(), billing.document(), billing.phone(), billing.address());
+    }
+
+    public static BillingInfo getBillingOrNull(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+
+        return new BillingInfo(getFullName(buffer), new Document(getString(buffer)),
+                new Phone(getString(buffer)), getAddress(buffer));
+    }
+
+    public static void putFullName(ByteBuffer buffer, FullName fullName) {
+        putString(buffer, fullName.firstName());
+        putString(buffer, fullName.lastName());
+    }
+
+    public static FullName getFullName(ByteBuffer buffer) {
+        return new FullName(getString(buffer), getString(buffer));
+    }
+
+    public static void putAddress(ByteBuffer buffer, Address address) {
+        putString(buffer, address.street());
+        putString(buffer, address.number());
+        putString(buffer, address.Complement());
+        putString(buffer, address.neighborhood());
+        putString(buffer, address.city());
+        putString(buffer, address.state());
+        putString(buffer, address.zipCode().value());
+    }
+
+    public static Address getAddress(ByteBuffer buffer) {
+        return new Address(getString(buffer), getString(buffer), getString(buffer), getString(buffer),
+                getString(buffer), getString(buffer), new ZipCode(getString(buffer)));
+    }
+
+    // Métodos Auxiliares
+    private static void putContact(ByteBuffer buffer, FullName fullName, Document document,
+                                   Phone phone, Address address) {
+        putFullName(buffer, fullName);
+        putString(buffer, document.document());
+        putString(buffer, phone.phone());
+        putAddress(buffer, address);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dutra.ordering.infrastructure.concurrent;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Conjunto fixo de locks escolhidos pelo hash da chave. Usa {@link ReentrantLock} em vez de
+ * {@code synchronized} para não prender a carrier thread quando chamado de threads virtuais.
+ */
+public final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+
+    public StripedLocks(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be positive.");
+        }
+
+        this.locks = new ReentrantLock[Integer.highestOneBit(stripes * 2 - 1)];
+
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public ReentrantLock lockFor(Object key) {
+        int hash = key.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.application.archiving.CustomerArchiver;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CustomerArchivalProperties.class)
+public class CustomerArchivalConfig {
+
+    @Bean
+    public CustomerArchiver customerArchiver(CustomerApplicationService customerApplicationService,
+                                             CustomerArchivalProperties properties) {
+        return new CustomerArchiver(customerApplicationService, properties.workers(), properties.batchSize());
+    }
+}
@@ -0,0 +1,13 @@
+package com.dutra.ordering.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param workers 0 usa um thread por processador disponível.
+ */
+@ConfigurationProperties(prefix = "ordering.archival")
+public record CustomerArchivalProperties(
+        @DefaultValue("0") int workers,
+        @DefaultValue("1000") int batchSize) {
+}
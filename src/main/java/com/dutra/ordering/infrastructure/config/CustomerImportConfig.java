@@ -0,0 +1,22 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.application.importing.CustomerImporter;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CustomerImportProperties.class)
+public class CustomerImportConfig {
+
+    @Bean
+    public CustomerImporter customerImporter(CustomerApplicationService customerApplicationService,
+                                             CustomerImportProperties properties) {
+        return new CustomerImporter(customerApplicationService,
+                properties.workers(),
+                properties.batchSize(),
+                properties.queueCapacity(),
+                properties.maxErrors());
+    }
+}
@@ -0,0 +1,15 @@
+package com.dutra.ordering.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param workers 0 usa um thread por processador disponível.
+ */
+@ConfigurationProperties(prefix = "ordering.import")
+public record CustomerImportProperties(
+        @DefaultValue("0") int workers,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("1000") int maxErrors) {
+}
@@ -0,0 +1,26 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.domain.utility.BusinessCalendar;
+import com.dutra.ordering.domain.utility.DomainClock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.ZoneId;
+
+@Configuration
+@EnableConfigurationProperties(DomainClockProperties.class)
+public class DomainClockConfig {
+
+    public DomainClockConfig(DomainClockProperties properties) {
+        ZoneId zone = properties.zone() == null ? ZoneId.systemDefault() : properties.zone();
+
+        switch (properties.mode()) {
+            case SYSTEM -> DomainClock.useSystem(zone);
+            case COARSE -> DomainClock.useCoarse(zone, properties.tick());
+        }
+
+        int year = DomainClock.today().getYear();
+        BusinessCalendar.use(BusinessCalendar.brazil(year - 1, year + properties.calendarYears(),
+                properties.holidays()));
+    }
+}
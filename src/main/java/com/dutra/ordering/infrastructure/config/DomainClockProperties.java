@@ -0,0 +1,24 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.domain.utility.DomainClock;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * @param zone          fuso das datas do domínio; sem valor, o do sistema.
+ * @param calendarYears anos seguintes ao atual com dias úteis pré-calculados.
+ * @param holidays      feriados locais, além dos nacionais.
+ */
+@ConfigurationProperties(prefix = "ordering.clock")
+public record DomainClockProperties(
+        @DefaultValue("SYSTEM") DomainClock.Mode mode,
+        @DefaultValue("1ms") Duration tick,
+        ZoneId zone,
+        @DefaultValue("10") int calendarYears,
+        @DefaultValue List<LocalDate> holidays) {
+}
@@ -0,0 +1,18 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.domain.utility.IdGenerator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(IdGeneratorProperties properties) {
+        switch (properties.mode()) {
+            case SHARED -> IdGenerator.useShared();
+            case STRIPED -> IdGenerator.useStriped(properties.node(), properties.nodeCount(),
+                    properties.lanes(), properties.blockSize());
+        }
+    }
+}
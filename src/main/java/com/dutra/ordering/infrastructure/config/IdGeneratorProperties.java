@@ -0,0 +1,14 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.domain.utility.IdGenerator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "ordering.id-generator")
+public record IdGeneratorProperties(
+        @DefaultValue("SHARED") IdGenerator.Mode mode,
+        @DefaultValue("0") int node,
+        @DefaultValue("1") int nodeCount,
+        @DefaultValue("64") int lanes,
+        @DefaultValue("32") int blockSize) {
+}
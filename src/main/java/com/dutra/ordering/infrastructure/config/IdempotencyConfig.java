@@ -0,0 +1,22 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.application.idempotency.IdempotencyStore;
+import com.dutra.ordering.infrastructure.metrics.IdempotencyMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new IdempotencyStore(properties.maxEntries(), properties.ttl(), properties.segments());
+    }
+
+    @Bean
+    public IdempotencyMetrics idempotencyMetrics(IdempotencyStore idempotencyStore) {
+        return new IdempotencyMetrics(idempotencyStore);
+    }
+}
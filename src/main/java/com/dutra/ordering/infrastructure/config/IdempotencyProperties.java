@@ -0,0 +1,18 @@
+package com.dutra.ordering.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maxEntries chaves guardadas.
+ * @param ttl        por quanto tempo uma repetição devolve o resultado guardado.
+ * @param segments   0 usa quatro segmentos por processador disponível.
+ */
+@ConfigurationProperties(prefix = "ordering.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("0") int segments) {
+}
@@ -0,0 +1,21 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.application.loyalty.LoyaltyAuditTrail;
+import com.dutra.ordering.application.loyalty.LoyaltyLedger;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LoyaltyLedgerProperties.class)
+public class LoyaltyLedgerConfig {
+
+    @Bean(destroyMethod = "close")
+    public LoyaltyLedger loyaltyLedger(CustomerApplicationService customerApplicationService,
+                                       LoyaltyAuditTrail loyaltyAuditTrail,
+                                       LoyaltyLedgerProperties properties) {
+        return new LoyaltyLedger(customerApplicationService, loyaltyAuditTrail, properties.cells(),
+                properties.flushInterval());
+    }
+}
@@ -0,0 +1,16 @@
+package com.dutra.ordering.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param cells         0 usa quatro células por processador disponível.
+ * @param flushInterval 0 desliga o flush periódico.
+ */
+@ConfigurationProperties(prefix = "ordering.loyalty")
+public record LoyaltyLedgerProperties(
+        @DefaultValue("0") int cells,
+        @DefaultValue("1s") Duration flushInterval) {
+}
@@ -0,0 +1,15 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.infrastructure.metrics.DomainMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public DomainMetrics domainMetrics(MeterRegistry meterRegistry) {
+        return new DomainMetrics(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.application.projection.OrderSummaryProjection;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.repository.OrderRepository;
+import com.dutra.ordering.infrastructure.journal.OrderJournal;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(OrderJournalProperties.class)
+@ConditionalOnProperty(prefix = "ordering.journal", name = "enabled", havingValue = "true")
+public class OrderJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public OrderJournal orderJournal(OrderJournalProperties properties) {
+        return new OrderJournal(Path.of(properties.directory()),
+                Math.toIntExact(properties.segmentSize().toBytes()),
+                properties.maxBatchSize(),
+                properties.queueCapacity(),
+                properties.compactAfterSegments(),
+                properties.replayThreads());
+    }
+
+    // Roda depois que todos os singletons existem e antes do servidor web começar a aceitar requisições
+    @Bean
+    public SmartInitializingSingleton orderJournalReplay(OrderJournal orderJournal, OrderRepository orderRepository,
+                                                         OrderSummaryProjection orderSummaryProjection) {
+        return () -> {
+            List<Order> orders = orderJournal.replay();
+            orders.forEach(orderRepository::save);
+            // Pedidos reconstruídos não têm eventos pendentes, então as projeções são recalculadas de uma vez
+            orderSummaryProjection.rebuild(orders);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.dutra.ordering.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * @param replayThreads 0 usa um thread por processador disponível.
+ */
+@ConfigurationProperties(prefix = "ordering.journal")
+public record OrderJournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") String directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("1024") int maxBatchSize,
+        @DefaultValue("16384") int queueCapacity,
+        @DefaultValue("4") int compactAfterSegments,
+        @DefaultValue("0") int replayThreads) {
+}
@@ -0,0 +1,53 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.application.catalog.CachingProductCatalog;
+import com.dutra.ordering.application.catalog.ProductCatalog;
+import com.dutra.ordering.infrastructure.catalog.FileProductCatalog;
+import com.dutra.ordering.infrastructure.metrics.ProductCatalogMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Um catálogo real entra declarando um bean {@code productCatalogSource}; sem ele, usa o arquivo local.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCatalogProperties.class)
+public class ProductCatalogConfig implements DisposableBean {
+
+    // Fora do contexto, para não ocupar o lugar do executor padrão do Spring
+    private final ExecutorService refresher =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-catalog-refresh-", 0).factory());
+
+    @Bean
+    @ConditionalOnMissingBean(name = "productCatalogSource")
+    public ProductCatalog productCatalogSource(ProductCatalogProperties properties) {
+        return new FileProductCatalog(Path.of(properties.file()));
+    }
+
+    @Bean
+    @Primary
+    public CachingProductCatalog productCatalog(@Qualifier("productCatalogSource") ProductCatalog source,
+                                                ProductCatalogProperties properties) {
+        return new CachingProductCatalog(source, properties.maxEntries(), properties.refreshAfter(),
+                properties.expireAfter(), refresher);
+    }
+
+    @Override
+    public void destroy() {
+        refresher.close();
+    }
+
+    @Bean
+    public ProductCatalogMetrics productCatalogMetrics(CachingProductCatalog productCatalog) {
+        return new ProductCatalogMetrics(productCatalog);
+    }
+}
@@ -0,0 +1,20 @@
+package com.dutra.ordering.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param file         CSV do catálogo local, usado quando não há outro catálogo.
+ * @param maxEntries   produtos guardados na cópia local.
+ * @param refreshAfter idade a partir da qual uma consulta recarrega o produto em segundo plano.
+ * @param expireAfter  idade a partir da qual o produto não é mais usado sem consultar o catálogo.
+ */
+@ConfigurationProperties(prefix = "ordering.catalog")
+public record ProductCatalogProperties(
+        @DefaultValue("data/catalog/products.csv") String file,
+        @DefaultValue("50000") int maxEntries,
+        @DefaultValue("1m") Duration refreshAfter,
+        @DefaultValue("10m") Duration expireAfter) {
+}
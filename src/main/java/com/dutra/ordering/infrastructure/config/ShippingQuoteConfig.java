@@ -0,0 +1,32 @@
+package com.dutra.ordering.infrastructure.config;
+
+import com.dutra.ordering.application.shipping.CachingShippingQuoteService;
+import com.dutra.ordering.application.shipping.ShippingQuoteService;
+import com.dutra.ordering.infrastructure.shipping.StubCarrierShippingQuoteService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Uma transportadora real entra declarando um bean {@code shippingCarrier}; sem ele, usa a local.
+ */
+@Configuration
+@EnableConfigurationProperties(ShippingQuoteProperties.class)
+public class ShippingQuoteConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "shippingCarrier")
+    public ShippingQuoteService shippingCarrier() {
+        return new StubCarrierShippingQuoteService();
+    }
+
+    @Bean
+    @Primary
+    public CachingShippingQuoteService shippingQuoteService(@Qualifier("shippingCarrier") ShippingQuoteService carrier,
+                                                            ShippingQuoteProperties properties) {
+        return new CachingShippingQuoteService(carrier, properties.maxEntries(), properties.ttl());
+    }
+}
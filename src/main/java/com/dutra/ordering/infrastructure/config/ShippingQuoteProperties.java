@@ -0,0 +1,16 @@
+package com.dutra.ordering.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maxEntries cotações distintas guardadas.
+ * @param ttl        por quanto tempo uma cotação é reaproveitada.
+ */
+@ConfigurationProperties(prefix = "ordering.shipping-quote")
+public record ShippingQuoteProperties(
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("5m") Duration ttl) {
+}
@@ -0,0 +1,119 @@
+package com.dutra.ordering.infrastructure.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lê um arquivo UTF-8 linha a linha por um {@link FileChannel} com buffers de tamanho fixo. A memória usada
+ * não depende do tamanho do arquivo, só da maior linha. Aceita {@code \n} e {@code \r\n} e descarta o BOM.
+ */
+public final class NioLineReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private boolean endOfInput;
+    private long lineNumber;
+
+    public NioLineReader(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_BYTES);
+    }
+
+    public NioLineReader(Path path, int bufferBytes) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.bytes = ByteBuffer.allocateDirect(bufferBytes);
+        this.chars = CharBuffer.allocate(bufferBytes);
+        this.chars.flip();
+    }
+
+    /**
+     * @return a próxima linha, sem o terminador, ou {@code null} no fim do arquivo.
+     */
+    public String readLine() throws IOException {
+        line.setLength(0);
+
+        while (true) {
+            while (chars.hasRemaining()) {
+                char c = chars.get();
+
+                if (c == '\n') {
+                    return emit();
+                }
+                line.append(c);
+            }
+
+            if (!fill()) {
+                return line.isEmpty() ? null : emit();
+            }
+        }
+    }
+
+    /**
+     * Número da última linha devolvida por {@link #readLine()}, a partir de 1.
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Métodos Auxiliares
+    private String emit() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        if (lineNumber++ == 0 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+            line.deleteCharAt(0);
+        }
+        return line.toString();
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+
+        chars.clear();
+
+        while (chars.position() == 0) {
+            if (channel.read(bytes) < 0) {
+                endOfInput = true;
+                bytes.flip();
+                decoder.decode(bytes, chars, true);
+                decoder.flush(chars);
+                break;
+            }
+
+            bytes.flip();
+            CoderResult result = decoder.decode(bytes, chars, false);
+            bytes.compact();
+
+            if (result.isError()) {
+                result.throwException();
+            }
+        }
+
+        chars.flip();
+        return chars.hasRemaining();
+    }
+}
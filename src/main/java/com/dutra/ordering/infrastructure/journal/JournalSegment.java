@@ -0,0 +1,136 @@
+package com.dutra.ordering.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Arquivo do journal mapeado em memória. Cada registro é {@code [int tamanho][int crc32c][long orderId][payload]};
+ * o arquivo é criado com o tamanho final e preenchido com zeros, então um tamanho 0 marca o fim dos dados.
+ * <p>
+ * A leitura para no primeiro registro truncado ou com CRC inválido (o rabo de uma escrita interrompida).
+ */
+final class JournalSegment implements Closeable {
+
+    static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path path, long sequence, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(sequence, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+    }
+
+    static JournalSegment open(Path path, long sequence) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new JournalSegment(sequence, path, channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+
+    /**
+     * @return falso, sem escrever nada, se o registro não cabe no espaço restante.
+     */
+    boolean append(long orderId, ByteBuffer payload) {
+        if (buffer.remaining() < HEADER_BYTES + payload.remaining()) {
+            return false;
+        }
+
+        writeRecord(buffer, orderId, payload);
+        return true;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Visita os registros em ordem. Só o CRC dos registros aceitos por {@code filter} é verificado, para que
+     * partições do replay possam pular os registros das outras lendo apenas o cabeçalho.
+     */
+    void forEach(OrderIdFilter filter, RecordVisitor visitor) {
+        ByteBuffer view = buffer.duplicate();
+        int position = 0;
+        int limit = view.limit();
+
+        while (limit - position >= HEADER_BYTES) {
+            int length = view.getInt(position);
+
+            if (length <= 0 || length > limit - position - HEADER_BYTES) {
+                return;
+            }
+
+            int checksum = view.getInt(position + Integer.BYTES);
+            long orderId = view.getLong(position + Integer.BYTES * 2);
+            ByteBuffer payload = view.slice(position + HEADER_BYTES, length);
+
+            if (filter.accept(orderId)) {
+                if (checksum != checksum(orderId, payload.duplicate())) {
+                    return;
+                }
+                visitor.visit(orderId, payload);
+            }
+
+            position += HEADER_BYTES + length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    static void writeRecord(ByteBuffer target, long orderId, ByteBuffer payload) {
+        int length = payload.remaining();
+        int checksum = checksum(orderId, payload.duplicate());
+
+        target.putInt(length);
+        target.putInt(checksum);
+        target.putLong(orderId);
+        target.put(payload);
+    }
+
+    // Métodos Auxiliares
+    private static int checksum(long orderId, ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (orderId >>> shift));
+        }
+        crc.update(payload);
+
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    interface OrderIdFilter {
+        boolean accept(long orderId);
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(long orderId, ByteBuffer payload);
+    }
+}
@@ -0,0 +1,111 @@
+package com.dutra.ordering.infrastructure.journal;
+
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.event.*;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
+
+import java.nio.ByteBuffer;
+
+import static com.dutra.ordering.infrastructure.codec.BinaryEncoding.*;
+import static com.dutra.ordering.infrastructure.codec.ValueObjectEncoding.*;
+
+/**
+ * Payload dos registros do journal: um byte de tipo seguido dos campos do evento. O {@link OrderId}
+ * não entra no payload porque já está no cabeçalho do registro.
+ * <p>
+ * Os tipos são gravados em disco: novos eventos recebem novos números, nunca reaproveitam os existentes.
+ */
+final class OrderEventCodec {
+
+    static final byte DRAFTED = 1;
+    static final byte ITEM_ADDED = 2;
+    static final byte ITEM_QUANTITY_CHANGED = 3;
+    static final byte ITEM_REMOVED = 4;
+    static final byte SHIPPING_CHANGED = 5;
+    static final byte BILLING_CHANGED = 6;
+    static final byte PAYMENT_METHOD_CHANGED = 7;
+    static final byte STATUS_CHANGED = 8;
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final PaymentMethods[] PAYMENT_METHODS = PaymentMethods.values();
+
+    private OrderEventCodec() {
+    }
+
+    static void encode(ByteBuffer buffer, OrderEvent event) {
+        switch (event) {
+            case OrderDraftedEvent e -> {
+                buffer.put(DRAFTED);
+                putCustomerId(buffer, e.customerId());
+            }
+            case OrderItemAddedEvent e -> {
+                buffer.put(ITEM_ADDED);
+                buffer.putLong(e.orderItemId().value().toLong());
+                putProductId(buffer, e.productId());
+                putString(buffer, e.productName().value());
+                putMoneyOrNull(buffer, e.price());
+                putQuantityOrNull(buffer, e.quantity());
+            }
+            case OrderItemQuantityChangedEvent e -> {
+                buffer.put(ITEM_QUANTITY_CHANGED);
+                putProductId(buffer, e.productId());
+                putQuantityOrNull(buffer, e.quantity());
+            }
+            case OrderItemRemovedEvent e -> {
+                buffer.put(ITEM_REMOVED);
+                putProductId(buffer, e.productId());
+            }
+            case OrderShippingChangedEvent e -> {
+                buffer.put(SHIPPING_CHANGED);
+                putShippingOrNull(buffer, e.shipping());
+                putMoneyOrNull(buffer, e.shippingCost());
+                putDate(buffer, e.expectedDeliveryDate());
+            }
+            case OrderBillingChangedEvent e -> {
+                buffer.put(BILLING_CHANGED);
+                putBillingOrNull(buffer, e.billing());
+            }
+            case OrderPaymentMethodChangedEvent e -> {
+                buffer.put(PAYMENT_METHOD_CHANGED);
+                putEnum(buffer, e.paymentMethod());
+            }
+            case OrderStatusChangedEvent e -> {
+                buffer.put(STATUS_CHANGED);
+                putCustomerId(buffer, e.customerId());
+                putEnum(buffer, e.from());
+                putEnum(buffer, e.to());
+                putMoneyOrNull(buffer, e.totalAmount());
+                putQuantityOrNull(buffer, e.totalItems());
+            }
+        }
+
+        putTimestamp(buffer, event.occurredAt());
+    }
+
+    static OrderEvent decode(OrderId orderId, ByteBuffer buffer) {
+        byte type = buffer.get();
+
+        return switch (type) {
+            case DRAFTED -> new OrderDraftedEvent(orderId, getCustomerId(buffer), getTimestamp(buffer));
+            case ITEM_ADDED -> new OrderItemAddedEvent(orderId, new OrderItemId(buffer.getLong()),
+                    getProductId(buffer), new ProductName(getString(buffer)), getMoneyOrNull(buffer),
+                    getQuantityOrNull(buffer), getTimestamp(buffer));
+            case ITEM_QUANTITY_CHANGED -> new OrderItemQuantityChangedEvent(orderId, getProductId(buffer),
+                    getQuantityOrNull(buffer), getTimestamp(buffer));
+            case ITEM_REMOVED -> new OrderItemRemovedEvent(orderId, getProductId(buffer), getTimestamp(buffer));
+            case SHIPPING_CHANGED -> new OrderShippingChangedEvent(orderId, getShippingOrNull(buffer),
+                    getMoneyOrNull(buffer), getDate(buffer), getTimestamp(buffer));
+            case BILLING_CHANGED -> new OrderBillingChangedEvent(orderId, getBillingOrNull(buffer),
+                    getTimestamp(buffer));
+            case PAYMENT_METHOD_CHANGED -> new OrderPaymentMethodChangedEvent(orderId,
+                    getEnum(buffer, PAYMENT_METHODS), getTimestamp(buffer));
+            case STATUS_CHANGED -> new OrderStatusChangedEvent(orderId, getCustomerId(buffer),
+                    getEnum(buffer, ORDER_STATUSES), getEnum(buffer, ORDER_STATUSES), getMoneyOrNull(buffer),
+                    getQuantityOrNull(buffer), getTimestamp(buffer));
+            default -> throw new IllegalArgumentException("Unknown order event type " + type + ".");
+        };
+    }
+}
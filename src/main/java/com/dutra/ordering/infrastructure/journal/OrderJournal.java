@@ -0,0 +1,515 @@
+package com.dutra.ordering.infrastructure.journal;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.event.OrderDraftedEvent;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.event.OrderEventListener;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.infrastructure.codec.OrderCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Journal append-only dos eventos de pedido em segmentos mapeados em memória.
+ * <p>
+ * Gravação: {@link #on} só enfileira; um único thread escritor drena até {@code maxBatchSize} lotes,
+ * grava todos e faz um {@code force()} por drenagem (group commit) antes de completar os futuros. A fila é
+ * limitada, então produtores mais rápidos que o disco ficam bloqueados em vez de acumular memória. Se a
+ * gravação falha, todos os lotes da drenagem falham junto; os eventos de um lote são codificados antes de o
+ * primeiro ir para o segmento, então um lote nunca fica gravado pela metade.
+ * <p>
+ * Snapshots: a cada {@code compactAfterSegments} segmentos fechados, um thread em segundo plano aplica os
+ * segmentos fechados sobre o snapshot anterior, grava o novo snapshot e apaga o que ele cobre. O tempo de
+ * replay passa a depender do número de pedidos, não do tamanho do histórico. Cada registro do snapshot é um
+ * pedido no formato de {@link OrderCodec}.
+ * <p>
+ * Replay: os pedidos são divididos em partições pelo hash do {@link OrderId}; cada partição percorre os
+ * arquivos em paralelo com as outras, decodificando só os seus registros, o que preserva a ordem dos eventos
+ * de cada pedido sem coordenação entre threads. Os eventos são reaplicados por {@link Order#apply}.
+ */
+public final class OrderJournal implements OrderEventListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final int SNAPSHOT_WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxBatchSize;
+    private final int compactAfterSegments;
+    private final int replayThreads;
+
+    private final BlockingQueue<Pending> queue;
+    private final NavigableSet<Long> sealedSegments = new ConcurrentSkipListSet<>();
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+    // Enfileirar usa a leitura; close() usa a escrita, então nenhum lote entra na fila depois do fechamento
+    private final ReadWriteLock enqueueLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+    private JournalSegment active;
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    public OrderJournal(Path directory, int segmentBytes, int maxBatchSize, int queueCapacity,
+                        int compactAfterSegments, int replayThreads) {
+        Objects.requireNonNull(directory);
+
+        if (segmentBytes <= JournalSegment.HEADER_BYTES || maxBatchSize < 1 || queueCapacity < 1
+                || compactAfterSegments < 1 || replayThreads < 0) {
+            throw new IllegalArgumentException("Invalid journal settings.");
+        }
+
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBatchSize = maxBatchSize;
+        this.compactAfterSegments = compactAfterSegments;
+        this.replayThreads = replayThreads == 0 ? Runtime.getRuntime().availableProcessors() : replayThreads;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        try {
+            Files.createDirectories(directory);
+            deleteTemporaryFiles();
+
+            long snapshotSequence = latestSnapshot().orElse(-1L);
+            long lastSequence = snapshotSequence;
+            for (long sequence : segmentSequences()) {
+                if (sequence > snapshotSequence) {
+                    sealedSegments.add(sequence);
+                } else {
+                    // Já coberto pelo snapshot; sobrou de uma compactação interrompida
+                    Files.delete(segmentPath(sequence));
+                }
+                lastSequence = Math.max(lastSequence, sequence);
+            }
+
+            // Nunca continua um segmento antigo: o rabo dele pode ter ficado truncado
+            this.active = JournalSegment.create(segmentPath(lastSequence + 1), lastSequence + 1, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.compactor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("order-journal-compactor")
+                .daemon().factory());
+        this.writer = Thread.ofPlatform().name("order-journal-writer").start(this::writeLoop);
+    }
+
+    /**
+     * O futuro completa quando os eventos estão em disco.
+     */
+    @Override
+    public CompletableFuture<Void> on(List<OrderEvent> events) {
+        Objects.requireNonNull(events);
+
+        return enqueue(new Pending(events, new CompletableFuture<>()));
+    }
+
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+
+    /**
+     * Reconstrói os pedidos a partir do último snapshot e dos segmentos gravados depois dele.
+     * Pedidos cujo journal não contém o {@code OrderDraftedEvent} são ignorados.
+     */
+    public List<Order> replay() {
+        maintenanceLock.lock();
+        try {
+            long snapshotSequence = latestSnapshot().orElse(-1L);
+            Path snapshot = snapshotSequence < 0 ? null : snapshotPath(snapshotSequence);
+            List<Long> segments = List.copyOf(sealedSegments.tailSet(snapshotSequence, false));
+
+            if (replayThreads == 1) {
+                return replayPartition(snapshot, segments, 0, 1);
+            }
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(replayThreads,
+                    Thread.ofPlatform().name("order-journal-replay-", 0).factory())) {
+                List<Future<List<Order>>> partitions = new ArrayList<>(replayThreads);
+
+                for (int partition = 0; partition < replayThreads; partition++) {
+                    int current = partition;
+                    partitions.add(executor.submit(() -> replayPartition(snapshot, segments, current, replayThreads)));
+                }
+
+                List<Order> orders = new ArrayList<>();
+                for (Future<List<Order>> partition : partitions) {
+                    orders.addAll(partition.get());
+                }
+                return orders;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Order journal replay was interrupted.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Order journal replay failed.", e.getCause());
+            }
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Fecha o segmento atual e gera um snapshot de todos os segmentos fechados, sem esperar o limite
+     * de {@code compactAfterSegments}.
+     */
+    public CompletableFuture<Void> compact() {
+        return enqueue(new Pending(null, new CompletableFuture<>())).thenRunAsync(() -> {
+            compacting.set(true);
+            compactSealedSegments();
+        }, compactor);
+    }
+
+    @Override
+    public void close() {
+        enqueueLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            enqueueLock.writeLock().unlock();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        compactor.close();
+
+        try {
+            active.force();
+            active.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Escrita
+    private CompletableFuture<Void> enqueue(Pending pending) {
+        enqueueLock.readLock().lock();
+        try {
+            if (!running) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Order journal is closed."));
+            }
+
+            queue.put(pending);
+            return pending.written();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            enqueueLock.readLock().unlock();
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue;
+            }
+
+            queue.drainTo(batch, maxBatchSize - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.written().completeExceptionally(new IllegalStateException("Order journal is closed."));
+        }
+    }
+
+    private void writeBatch(List<Pending> batch) {
+        List<Pending> written = new ArrayList<>(batch.size());
+
+        try {
+            for (Pending pending : batch) {
+                if (pending.events() == null) {
+                    roll();
+                    written.add(pending);
+                } else if (append(pending)) {
+                    written.add(pending);
+                }
+            }
+
+            active.force();
+        } catch (IOException | RuntimeException e) {
+            // Nada da drenagem tem garantia de estar em disco; os lotes que já falharam sozinhos ficam como estão
+            for (Pending pending : batch) {
+                pending.written().completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (Pending pending : written) {
+            pending.written().complete(null);
+        }
+    }
+
+    // Um lote que não pode ser codificado falha sozinho, sem derrubar os outros da drenagem
+    private boolean append(Pending pending) throws IOException {
+        List<OrderEvent> events = pending.events();
+        int[] ends = new int[events.size()];
+
+        try {
+            encode(events, ends);
+        } catch (RuntimeException e) {
+            pending.written().completeExceptionally(e);
+            return false;
+        }
+
+        int start = 0;
+        for (int i = 0; i < ends.length; i++) {
+            ByteBuffer payload = scratch.slice(start, ends[i] - start);
+            long orderId = events.get(i).orderId().value().toLong();
+
+            if (!active.append(orderId, payload)) {
+                roll();
+                active.append(orderId, payload);
+            }
+            start = ends[i];
+        }
+
+        return true;
+    }
+
+    // Codifica os eventos em sequência no scratch; ends[i] é onde termina o payload do evento i
+    private void encode(List<OrderEvent> events, int[] ends) {
+        while (true) {
+            scratch.clear();
+            try {
+                for (int i = 0; i < ends.length; i++) {
+                    int start = scratch.position();
+                    OrderEventCodec.encode(scratch, events.get(i));
+                    if (JournalSegment.HEADER_BYTES + scratch.position() - start > segmentBytes) {
+                        throw new IllegalArgumentException("Order event does not fit in a journal segment.");
+                    }
+                    ends[i] = scratch.position();
+                }
+                return;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        active.force();
+        active.close();
+        sealedSegments.add(active.sequence());
+
+        long next = active.sequence() + 1;
+        active = JournalSegment.create(segmentPath(next), next, segmentBytes);
+
+        if (sealedSegments.size() >= compactAfterSegments && compacting.compareAndSet(false, true)) {
+            compactor.execute(this::compactSealedSegments);
+        }
+    }
+
+    // Snapshot
+    private void compactSealedSegments() {
+        maintenanceLock.lock();
+        try {
+            if (sealedSegments.isEmpty()) {
+                return;
+            }
+
+            long upTo = sealedSegments.last();
+            long previousSnapshot = latestSnapshot().orElse(-1L);
+            Map<Long, Order> orders = new HashMap<>();
+
+            if (previousSnapshot >= 0) {
+                readSnapshot(snapshotPath(previousSnapshot), orderId -> true, orders);
+            }
+            for (long sequence : sealedSegments.headSet(upTo, true)) {
+                readSegment(segmentPath(sequence), sequence, orderId -> true, orders);
+            }
+
+            writeSnapshot(upTo, orders.values());
+
+            for (long sequence : List.copyOf(sealedSegments.headSet(upTo, true))) {
+                Files.deleteIfExists(segmentPath(sequence));
+                sealedSegments.remove(sequence);
+            }
+            if (previousSnapshot >= 0) {
+                Files.deleteIfExists(snapshotPath(previousSnapshot));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Order journal compaction failed; segments were kept.", e);
+        } finally {
+            compacting.set(false);
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void writeSnapshot(long sequence, Collection<Order> orders) throws IOException {
+        Path target = snapshotPath(sequence);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        ByteBuffer payload = ByteBuffer.allocate(4096);
+        ByteBuffer output = ByteBuffer.allocateDirect(SNAPSHOT_WRITE_BUFFER_BYTES);
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Order order : orders) {
+                while (true) {
+                    payload.clear();
+                    try {
+                        OrderCodec.encode(payload, order);
+                        payload.flip();
+                        break;
+                    } catch (BufferOverflowException e) {
+                        payload = ByteBuffer.allocate(payload.capacity() * 2);
+                    }
+                }
+
+                int recordBytes = JournalSegment.HEADER_BYTES + payload.remaining();
+                if (output.remaining() < recordBytes) {
+                    drain(channel, output);
+                    if (output.capacity() < recordBytes) {
+                        output = ByteBuffer.allocateDirect(recordBytes);
+                    }
+                }
+                JournalSegment.writeRecord(output, order.id().value().toLong(), payload);
+            }
+
+            drain(channel, output);
+            channel.force(true);
+        }
+
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Leitura
+    private List<Order> replayPartition(Path snapshot, List<Long> segments, int partition, int partitions) {
+        JournalSegment.OrderIdFilter filter = orderId -> partitionOf(orderId, partitions) == partition;
+        Map<Long, Order> orders = new HashMap<>();
+
+        try {
+            if (snapshot != null) {
+                readSnapshot(snapshot, filter, orders);
+            }
+            for (long sequence : segments) {
+                readSegment(segmentPath(sequence), sequence, filter, orders);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new ArrayList<>(orders.values());
+    }
+
+    private void readSnapshot(Path path, JournalSegment.OrderIdFilter filter,
+                              Map<Long, Order> orders) throws IOException {
+        try (JournalSegment snapshot = JournalSegment.open(path, -1)) {
+            snapshot.forEach(filter, (orderId, payload) -> orders.put(orderId, OrderCodec.decode(payload)));
+        }
+    }
+
+    // Eventos de um pedido sem OrderDraftedEvent no journal (criado fora de Order#draft, ou salvo antes de o
+    // journal existir) não têm de onde partir e são descartados
+    private void readSegment(Path path, long sequence, JournalSegment.OrderIdFilter filter,
+                             Map<Long, Order> orders) throws IOException {
+        Set<Long> skipped = new HashSet<>();
+
+        try (JournalSegment segment = JournalSegment.open(path, sequence)) {
+            segment.forEach(filter, (orderId, payload) -> {
+                Order order = orders.get(orderId);
+                OrderEvent event = OrderEventCodec.decode(order == null ? new OrderId(orderId) : order.id(), payload);
+
+                if (order != null) {
+                    order.apply(event);
+                } else if (event instanceof OrderDraftedEvent drafted) {
+                    orders.put(orderId, Order.drafted(drafted));
+                } else if (skipped.add(orderId)) {
+                    log.warn("Skipping order {}: journal does not contain its draft.", event.orderId());
+                }
+            });
+        }
+    }
+
+    // Métodos Auxiliares
+    static int partitionOf(long orderId, int partitions) {
+        return Math.floorMod(Long.hashCode(orderId * 0x9E3779B97F4A7C15L), partitions);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer output) throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+        output.clear();
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(SEGMENT_PREFIX + "%019d".formatted(sequence) + SEGMENT_SUFFIX);
+    }
+
+    private Path snapshotPath(long sequence) {
+        return directory.resolve(SNAPSHOT_PREFIX + "%019d".formatted(sequence) + SNAPSHOT_SUFFIX);
+    }
+
+    private List<Long> segmentSequences() throws IOException {
+        return sequences(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+    }
+
+    private Optional<Long> latestSnapshot() {
+        try {
+            List<Long> snapshots = sequences(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            return snapshots.isEmpty() ? Optional.empty() : Optional.of(snapshots.getLast());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Long> sequences(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name, prefix.length(), name.length() - suffix.length(), 10))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void deleteTemporaryFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(path -> path.toString().endsWith(TEMPORARY_SUFFIX)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    // Um lote sem eventos pede ao escritor para fechar o segmento atual
+    private record Pending(List<OrderEvent> events, CompletableFuture<Void> written) {
+    }
+}
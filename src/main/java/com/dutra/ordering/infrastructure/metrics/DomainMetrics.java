@@ -0,0 +1,61 @@
+package com.dutra.ordering.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Timers das operações dos agregados e contagem das exceções lançadas por elas. Os medidores são criados uma vez e
+ * guardados, então medir custa duas leituras de {@link System#nanoTime()} e a gravação no timer.
+ */
+public final class DomainMetrics {
+
+    /**
+     * Sem registro: os medidores não fazem nada. Usado quando não há Micrometer configurado (testes, benchmarks).
+     */
+    public static final DomainMetrics NOOP = new DomainMetrics(new CompositeMeterRegistry());
+
+    static final String OPERATION_TIMER = "ordering.operation";
+    static final String EXCEPTION_COUNTER = "ordering.domain.exceptions";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, Counter> exceptions = new ConcurrentHashMap<>();
+
+    public DomainMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    public Timer operationTimer(String aggregate, String operation) {
+        return Timer.builder(OPERATION_TIMER)
+                .description("Time spent inside an aggregate operation")
+                .tag("aggregate", aggregate)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    public <T> Consumer<T> timed(Timer timer, Consumer<T> operation) {
+        return aggregate -> {
+            long startedAt = System.nanoTime();
+            try {
+                operation.accept(aggregate);
+            } finally {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    public void exceptionThrown(RuntimeException exception) {
+        exceptions.computeIfAbsent(exception.getClass(), type -> Counter.builder(EXCEPTION_COUNTER)
+                        .description("Exceptions thrown by aggregate operations")
+                        .tag("exception", type.getSimpleName())
+                        .register(registry))
+                .increment();
+    }
+}
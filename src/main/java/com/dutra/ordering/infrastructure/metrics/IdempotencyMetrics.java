@@ -0,0 +1,34 @@
+package com.dutra.ordering.infrastructure.metrics;
+
+import com.dutra.ordering.application.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Objects;
+
+/**
+ * Expõe quantos comandos com chave de idempotência foram executados e quantos foram repetições atendidas pelo
+ * {@link IdempotencyStore}.
+ */
+public class IdempotencyMetrics implements MeterBinder {
+
+    static final String REQUESTS = "ordering.idempotency.requests";
+
+    private final IdempotencyStore store;
+
+    public IdempotencyMetrics(IdempotencyStore store) {
+        this.store = Objects.requireNonNull(store);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(REQUESTS, store, IdempotencyStore::executions)
+                .description("Commands sent with an idempotency key, by whether they ran or were replayed")
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder(REQUESTS, store, IdempotencyStore::replays)
+                .tag("result", "replayed")
+                .register(registry);
+    }
+}
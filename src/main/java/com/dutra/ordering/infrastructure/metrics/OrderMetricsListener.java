@@ -0,0 +1,80 @@
+package com.dutra.ordering.infrastructure.metrics;
+
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.event.OrderDraftedEvent;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.event.OrderEventListener;
+import com.dutra.ordering.domain.event.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Conta pedidos criados e transições de status (tags {@code from} e {@code to}) e registra o tamanho do
+ * carrinho e o valor de cada pedido confirmado. Os contadores de todas as transições válidas são criados no
+ * início, então cada evento só indexa uma matriz.
+ */
+@Component
+public class OrderMetricsListener implements OrderEventListener {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Counter drafted;
+    private final Counter[][] transitions = new Counter[STATUSES.length][STATUSES.length];
+    private final DistributionSummary cartSize;
+    private final DistributionSummary orderValue;
+
+    public OrderMetricsListener(MeterRegistry registry) {
+        this.drafted = Counter.builder("ordering.order.drafted")
+                .description("Orders created")
+                .register(registry);
+
+        for (OrderStatus from : STATUSES) {
+            for (OrderStatus to : STATUSES) {
+                if (from.canChangeTo(to)) {
+                    transitions[from.ordinal()][to.ordinal()] = Counter.builder("ordering.order.transitions")
+                            .description("Order status changes")
+                            .tag("from", from.name())
+                            .tag("to", to.name())
+                            .register(registry);
+                }
+            }
+        }
+
+        this.cartSize = DistributionSummary.builder("ordering.order.cart.size")
+                .description("Items in each placed order")
+                .baseUnit("items")
+                .register(registry);
+        this.orderValue = DistributionSummary.builder("ordering.order.value")
+                .description("Total amount of each placed order")
+                .baseUnit("BRL")
+                .register(registry);
+    }
+
+    @Override
+    public CompletableFuture<Void> on(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            switch (event) {
+                case OrderDraftedEvent ignored -> drafted.increment();
+                case OrderStatusChangedEvent statusChanged -> statusChanged(statusChanged);
+                default -> {
+                }
+            }
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void statusChanged(OrderStatusChangedEvent event) {
+        transitions[event.from().ordinal()][event.to().ordinal()].increment();
+
+        if (event.to() == OrderStatus.PLACED) {
+            cartSize.record(event.totalItems().value());
+            orderValue.record(event.totalAmount().cents() / 100.0);
+        }
+    }
+}
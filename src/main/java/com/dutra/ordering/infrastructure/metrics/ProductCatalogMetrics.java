@@ -0,0 +1,46 @@
+package com.dutra.ordering.infrastructure.metrics;
+
+import com.dutra.ordering.application.catalog.CachingProductCatalog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Objects;
+
+/**
+ * Expõe os contadores do {@link CachingProductCatalog}. Os medidores leem os contadores do catálogo na coleta,
+ * então as consultas não pagam nada a mais.
+ */
+public class ProductCatalogMetrics implements MeterBinder {
+
+    static final String REQUESTS = "ordering.catalog.requests";
+    static final String HIT_RATE = "ordering.catalog.hit.rate";
+
+    private final CachingProductCatalog catalog;
+
+    public ProductCatalogMetrics(CachingProductCatalog catalog) {
+        this.catalog = Objects.requireNonNull(catalog);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(REQUESTS, catalog, CachingProductCatalog::hits)
+                .description("Product lookups answered by the near-cache or by the catalog")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(REQUESTS, catalog, CachingProductCatalog::misses)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("ordering.catalog.refreshes", catalog, CachingProductCatalog::refreshes)
+                .description("Background reloads of products close to expiring")
+                .register(registry);
+        FunctionCounter.builder("ordering.catalog.evictions", catalog, CachingProductCatalog::evictions)
+                .register(registry);
+        Gauge.builder(HIT_RATE, catalog, CachingProductCatalog::hitRate)
+                .description("Fraction of product lookups answered by the near-cache since startup")
+                .register(registry);
+        Gauge.builder("ordering.catalog.size", catalog, CachingProductCatalog::size)
+                .register(registry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.dutra.ordering.infrastructure.persistence.memory;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.repository.CustomerRepository;
+import com.dutra.ordering.domain.valueobjects.Email;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.infrastructure.concurrent.StripedLocks;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Repository
+public class InMemoryCustomerRepository implements CustomerRepository {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<CustomerId, Entry> customers = new ConcurrentHashMap<>();
+    private final Map<Email, CustomerId> byEmail = new ConcurrentHashMap<>();
+    private final StripedLocks locks = new StripedLocks(LOCK_STRIPES);
+
+    @Override
+    public void save(Customer customer) {
+        write(customer, false);
+    }
+
+    @Override
+    public boolean compareAndSave(Customer customer) {
+        return write(customer, true);
+    }
+
+    @Override
+    public Optional<Customer> findById(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        Entry entry = customers.get(customerId);
+        return entry == null ? Optional.empty() : Optional.of(entry.customer());
+    }
+
+    @Override
+    public boolean existsById(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        return customers.containsKey(customerId);
+    }
+
+    @Override
+    public long count() {
+        return customers.size();
+    }
+
+    @Override
+    public Optional<Customer> findByEmail(Email email) {
+        Objects.requireNonNull(email);
+        CustomerId customerId = byEmail.get(email);
+        return customerId == null ? Optional.empty() : findById(customerId);
+    }
+
+    private boolean write(Customer customer, boolean checkVersion) {
+        Objects.requireNonNull(customer);
+
+        ReentrantLock lock = locks.lockFor(customer.id());
+        lock.lock();
+        try {
+            if (checkVersion) {
+                Entry current = customers.get(customer.id());
+                if (current != null && current.customer().version() != customer.version()) {
+                    return false;
+                }
+            }
+
+            customer.incrementVersion();
+
+            Email email = customer.email();
+            Entry previous = customers.put(customer.id(), new Entry(customer, email));
+
+            if (previous != null && !Objects.equals(previous.email(), email)) {
+                byEmail.remove(previous.email(), customer.id());
+            }
+
+            // Clientes arquivados compartilham o mesmo email anonimizado
+            if (email != null && !customer.isArchived()) {
+                byEmail.put(email, customer.id());
+            }
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    private record Entry(Customer customer, Email email) {
+    }
+}
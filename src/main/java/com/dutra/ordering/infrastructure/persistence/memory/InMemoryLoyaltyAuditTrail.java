@@ -0,0 +1,54 @@
+package com.dutra.ordering.infrastructure.persistence.memory;
+
+import com.dutra.ordering.application.loyalty.LoyaltyAccrual;
+import com.dutra.ordering.application.loyalty.LoyaltyAuditTrail;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Repository
+public class InMemoryLoyaltyAuditTrail implements LoyaltyAuditTrail {
+
+    private final Map<CustomerId, List<LoyaltyAccrual>> byCustomer = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long count;
+
+    @Override
+    public void append(List<LoyaltyAccrual> accruals) {
+        Objects.requireNonNull(accruals);
+
+        lock.lock();
+        try {
+            for (LoyaltyAccrual accrual : accruals) {
+                byCustomer.computeIfAbsent(accrual.customerId(), customerId -> new ArrayList<>()).add(accrual);
+            }
+            count += accruals.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<LoyaltyAccrual> findByCustomerId(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+
+        lock.lock();
+        try {
+            return List.copyOf(byCustomer.getOrDefault(customerId, List.of()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.dutra.ordering.infrastructure.persistence.memory;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.event.OrderEventListener;
+import com.dutra.ordering.domain.repository.OrderRepository;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.infrastructure.concurrent.StripedLocks;
+import io.hypersistence.tsid.TSID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Leituras sem lock sobre {@link ConcurrentHashMap}s; gravações do mesmo pedido são serializadas por
+ * lock listrado para manter os índices secundários (por cliente e por status) coerentes entre si.
+ * <p>
+ * Os índices por id, por status e pelos instantes de confirmação e pagamento são {@link ConcurrentSkipListSet}s
+ * ordenados pelo {@link OrderId}, que segue a ordem de criação. Páginas e intervalos de tempo partem da posição
+ * do cursor e param no limite, sem percorrer os demais pedidos.
+ * <p>
+ * Os eventos pendentes do pedido são entregues aos {@link OrderEventListener}s dentro do mesmo lock, o que
+ * mantém a ordem por pedido; {@code save} só retorna depois que os futuros devolvidos por eles completam.
+ * Os duráveis (o journal) vêm primeiro e são aguardados antes de o pedido ser publicado: se a gravação falha,
+ * o save falha sem mudar o mapa, os índices, a versão nem os eventos pendentes do pedido.
+ * <p>
+ * O lock só cobre a gravação: quem usa {@link #compareAndSave} (ou {@code update}) lê e altera uma cópia sem
+ * lock, e a gravação confere se a versão ainda é a lida. As consultas devolvem as instâncias gravadas, sem
+ * cópia; alterar uma delas no lugar pularia a conferência de versão e deixaria os índices desatualizados.
+ */
+@Repository
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<OrderId, Entry> orders = new ConcurrentHashMap<>();
+    private final Map<CustomerId, Set<OrderId>> byCustomer = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, NavigableSet<OrderId>> byStatus = new EnumMap<>(OrderStatus.class);
+    private final NavigableSet<OrderId> byId = new ConcurrentSkipListSet<>();
+    private final NavigableSet<TimeKey> byPlacedAt = new ConcurrentSkipListSet<>();
+    private final NavigableSet<TimeKey> byPaidAt = new ConcurrentSkipListSet<>();
+    private final StripedLocks locks = new StripedLocks(LOCK_STRIPES);
+    private final List<OrderEventListener> durableListeners;
+    private final List<OrderEventListener> listeners;
+
+    public InMemoryOrderRepository() {
+        this(List.of());
+    }
+
+    @Autowired
+    public InMemoryOrderRepository(ObjectProvider<OrderEventListener> listeners) {
+        this(listeners.orderedStream().toList());
+    }
+
+    public InMemoryOrderRepository(List<OrderEventListener> listeners) {
+        this.durableListeners = listeners.stream().filter(OrderEventListener::isDurable).toList();
+        this.listeners = listeners.stream().filter(listener -> !listener.isDurable()).toList();
+
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            byStatus.put(orderStatus, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    @Override
+    public void save(Order order) {
+        write(order, false);
+    }
+
+    @Override
+    public boolean compareAndSave(Order order) {
+        return write(order, true);
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+        Entry entry = orders.get(orderId);
+        return entry == null ? Optional.empty() : Optional.of(entry.order());
+    }
+
+    @Override
+    public boolean existsById(OrderId orderId) {
+        Objects.requireNonNull(orderId);
+        return orders.containsKey(orderId);
+    }
+
+    @Override
+    public long count() {
+        return orders.size();
+    }
+
+    @Override
+    public List<Order> findByCustomerId(CustomerId customerId) {
+        Objects.requireNonNull(customerId);
+        return resolve(byCustomer.getOrDefault(customerId, Set.of()), null);
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus orderStatus) {
+        Objects.requireNonNull(orderStatus);
+        return resolve(byStatus.get(orderStatus), orderStatus);
+    }
+
+    @Override
+    public long countByStatus(OrderStatus orderStatus) {
+        Objects.requireNonNull(orderStatus);
+        return byStatus.get(orderStatus).size();
+    }
+
+    @Override
+    public List<Order> findAfter(OrderStatus orderStatus, OrderId after, int limit) {
+        NavigableSet<OrderId> index = orderStatus == null ? byId : byStatus.get(orderStatus);
+        return page(after == null ? index : index.tailSet(after, false), orderStatus, limit);
+    }
+
+    @Override
+    public List<Order> findBefore(OrderStatus orderStatus, OrderId before, int limit) {
+        NavigableSet<OrderId> index = orderStatus == null ? byId : byStatus.get(orderStatus);
+        return page((before == null ? index : index.headSet(before, false)).descendingSet(), orderStatus, limit);
+    }
+
+    @Override
+    public List<Order> findPlacedBetween(OffsetDateTime from, OffsetDateTime to, int limit) {
+        return between(byPlacedAt, from, to, limit, Entry::placedAt);
+    }
+
+    @Override
+    public List<Order> findPaidBetween(OffsetDateTime from, OffsetDateTime to, int limit) {
+        return between(byPaidAt, from, to, limit, Entry::paidAt);
+    }
+
+    // A versão é conferida e incrementada sob o mesmo lock que mantém os índices e a ordem dos eventos
+    private boolean write(Order order, boolean checkVersion) {
+        Objects.requireNonNull(order);
+
+        List<OrderEvent> events;
+        List<CompletableFuture<Void>> published = List.of();
+
+        ReentrantLock lock = locks.lockFor(order.id());
+        lock.lock();
+        try {
+            if (checkVersion) {
+                Entry current = orders.get(order.id());
+                if (current != null && current.order().version() != order.version()) {
+                    return false;
+                }
+            }
+
+            if (!durableListeners.isEmpty() && !order.domainEvents().isEmpty()) {
+                awaitAll(publish(durableListeners, order.domainEvents()));
+            }
+
+            events = order.pullDomainEvents();
+            order.incrementVersion();
+
+            OrderStatus orderStatus = order.orderStatus();
+            Entry entry = new Entry(order, orderStatus, instantOf(order.placedAt()), instantOf(order.paidAt()));
+            Entry previous = orders.put(order.id(), entry);
+
+            if (previous == null) {
+                byCustomer.computeIfAbsent(order.customerId(), customerId -> ConcurrentHashMap.newKeySet())
+                        .add(order.id());
+                byId.add(order.id());
+            } else if (previous.orderStatus() != orderStatus) {
+                byStatus.get(previous.orderStatus()).remove(order.id());
+            }
+
+            byStatus.get(orderStatus).add(order.id());
+            reindex(byPlacedAt, order.id(), previous == null ? null : previous.placedAt(), entry.placedAt());
+            reindex(byPaidAt, order.id(), previous == null ? null : previous.paidAt(), entry.paidAt());
+
+            if (!events.isEmpty() && !listeners.isEmpty()) {
+                published = publish(listeners, events);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        awaitAll(published);
+        return true;
+    }
+
+    private static List<CompletableFuture<Void>> publish(List<OrderEventListener> listeners,
+                                                         List<OrderEvent> events) {
+        List<CompletableFuture<Void>> published = new ArrayList<>(listeners.size());
+        for (OrderEventListener listener : listeners) {
+            published.add(listener.on(events));
+        }
+        return published;
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> futures) {
+        for (CompletableFuture<Void> future : futures) {
+            future.join();
+        }
+    }
+
+    // O índice pode estar um passo à frente do mapa principal durante uma gravação concorrente
+    private List<Order> resolve(Set<OrderId> orderIds, OrderStatus orderStatus) {
+        List<Order> result = new ArrayList<>(orderIds.size());
+
+        for (OrderId orderId : orderIds) {
+            Entry entry = orders.get(orderId);
+            if (entry != null && (orderStatus == null || entry.orderStatus() == orderStatus)) {
+                result.add(entry.order());
+            }
+        }
+
+        return result;
+    }
+
+    private List<Order> page(NavigableSet<OrderId> orderIds, OrderStatus orderStatus, int limit) {
+        requirePositive(limit);
+        List<Order> result = new ArrayList<>(Math.min(limit, 64));
+
+        for (Iterator<OrderId> iterator = orderIds.iterator(); iterator.hasNext() && result.size() < limit; ) {
+            Entry entry = orders.get(iterator.next());
+            if (entry != null && (orderStatus == null || entry.orderStatus() == orderStatus)) {
+                result.add(entry.order());
+            }
+        }
+
+        return result;
+    }
+
+    private List<Order> between(NavigableSet<TimeKey> index, OffsetDateTime from, OffsetDateTime to, int limit,
+                                Function<Entry, Instant> instant) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        requirePositive(limit);
+
+        Instant start = from.toInstant();
+        Instant end = to.toInstant();
+        if (!start.isBefore(end)) {
+            return List.of();
+        }
+
+        List<Order> result = new ArrayList<>(Math.min(limit, 64));
+        NavigableSet<TimeKey> range = index.subSet(TimeKey.first(start), true, TimeKey.first(end), false);
+
+        for (Iterator<TimeKey> iterator = range.iterator(); iterator.hasNext() && result.size() < limit; ) {
+            TimeKey key = iterator.next();
+            Entry entry = orders.get(key.orderId());
+            if (entry != null && key.at().equals(instant.apply(entry))) {
+                result.add(entry.order());
+            }
+        }
+
+        return result;
+    }
+
+    private static void reindex(NavigableSet<TimeKey> index, OrderId orderId, Instant previous, Instant current) {
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        if (previous != null) {
+            index.remove(new TimeKey(previous, orderId));
+        }
+        if (current != null) {
+            index.add(new TimeKey(current, orderId));
+        }
+    }
+
+    private static Instant instantOf(OffsetDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toInstant();
+    }
+
+    private static void requirePositive(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive.");
+        }
+    }
+
+    // Os instantes ficam na entrada porque o pedido gravado pode ser alterado por quem o salvou
+    private record Entry(Order order, OrderStatus orderStatus, Instant placedAt, Instant paidAt) {
+    }
+
+    // Pedidos no mesmo instante ficam em ordem de id
+    private record TimeKey(Instant at, OrderId orderId) implements Comparable<TimeKey> {
+
+        private static final OrderId FIRST_ID = new OrderId(TSID.from(0L));
+
+        static TimeKey first(Instant at) {
+            return new TimeKey(at, FIRST_ID);
+        }
+
+        @Override
+        public int compareTo(TimeKey other) {
+            int byInstant = at.compareTo(other.at);
+            return byInstant != 0 ? byInstant : orderId.compareTo(other.orderId);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dutra.ordering.infrastructure.shipping;
+
+import com.dutra.ordering.application.shipping.ShippingQuote;
+import com.dutra.ordering.application.shipping.ShippingQuoteRequest;
+import com.dutra.ordering.application.shipping.ShippingQuoteService;
+import com.dutra.ordering.domain.utility.BusinessCalendar;
+import com.dutra.ordering.domain.valueobjects.Money;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transportadora local, sem chamadas externas, para testes e desenvolvimento. O preço e o prazo dependem só
+ * do pedido de cotação: a região (primeiro dígito do CEP) e a faixa de itens encarecem e atrasam a entrega,
+ * contada em dias úteis do {@link BusinessCalendar}.
+ * {@code latency} simula o tempo de resposta de uma transportadora real.
+ */
+public class StubCarrierShippingQuoteService implements ShippingQuoteService {
+
+    private static final long BASE_COST_CENTS = 1_500;
+    private static final long REGION_COST_CENTS = 200;
+    private static final long ITEMS_BAND_COST_CENTS = 300;
+
+    private final Duration latency;
+    private final AtomicLong quotes = new AtomicLong();
+
+    public StubCarrierShippingQuoteService() {
+        this(Duration.ZERO);
+    }
+
+    public StubCarrierShippingQuoteService(Duration latency) {
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("Latency cannot be negative.");
+        }
+        this.latency = latency;
+    }
+
+    @Override
+    public ShippingQuote quote(ShippingQuoteRequest request) {
+        quotes.incrementAndGet();
+        simulateLatency();
+
+        int region = request.zipCodePrefix().charAt(0) - '0';
+        long cents = BASE_COST_CENTS + region * REGION_COST_CENTS + request.itemsBand() * ITEMS_BAND_COST_CENTS;
+        int businessDays = 2 + region / 2 + (request.itemsBand() > 4 ? 1 : 0);
+
+        return new ShippingQuote(Money.ofCents(cents),
+                BusinessCalendar.current().addBusinessDays(request.date(), businessDays));
+    }
+
+    /**
+     * Quantas cotações foram calculadas.
+     */
+    public long quotes() {
+        return quotes.get();
+    }
+
+    // Métodos Auxiliares
+    private void simulateLatency() {
+        if (latency.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Shipping quote interrupted.", e);
+        }
+    }
+}
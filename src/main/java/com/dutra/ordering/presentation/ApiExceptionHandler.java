@@ -0,0 +1,39 @@
+package com.dutra.ordering.presentation;
+
+import com.dutra.ordering.domain.exceptions.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+/**
+ * Traduz as exceções de domínio para respostas {@code application/problem+json}.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler({OrderNotFoundException.class, CustomerNotFoundException.class})
+    public ProblemDetail handleNotFound(DomainException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler({OrderStatusCannotBeChangedException.class, OrderCannotBeEditedException.class,
+            CustomerEmailAlreadyInUseException.class, CustomerArchivedException.class,
+            ConcurrentModificationConflictException.class})
+    public ProblemDetail handleConflict(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler({OrderCannotBePlacedException.class, OrderDoesNotContainProductException.class,
+            OrderInvalidShippingDeliveryDateException.class, ProductNotFoundException.class,
+            IdempotencyKeyReusedException.class})
+    public ProblemDetail handleUnprocessable(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleBadRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
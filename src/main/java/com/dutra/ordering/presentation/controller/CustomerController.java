@@ -0,0 +1,56 @@
+package com.dutra.ordering.presentation.controller;
+
+import com.dutra.ordering.application.model.CustomerInput;
+import com.dutra.ordering.application.model.CustomerOutput;
+import com.dutra.ordering.application.model.CustomerUpdateInput;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/customers")
+public class CustomerController {
+
+    static final int MAX_IDS_PER_REQUEST = 100;
+
+    private final CustomerApplicationService customerApplicationService;
+
+    public CustomerController(CustomerApplicationService customerApplicationService) {
+        this.customerApplicationService = customerApplicationService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CustomerOutput create(@RequestBody @Valid CustomerInput input) {
+        return customerApplicationService.create(input);
+    }
+
+    @GetMapping("/{customerId}")
+    public CustomerOutput findById(@PathVariable UUID customerId) {
+        return customerApplicationService.findById(new CustomerId(customerId));
+    }
+
+    @GetMapping
+    public List<CustomerOutput> findAllById(@RequestParam List<UUID> ids) {
+        if (ids.size() > MAX_IDS_PER_REQUEST) {
+            throw new IllegalArgumentException("At most " + MAX_IDS_PER_REQUEST + " ids per request.");
+        }
+        return customerApplicationService.findAllById(ids.stream().map(CustomerId::new).toList());
+    }
+
+    @PatchMapping("/{customerId}")
+    public CustomerOutput update(@PathVariable UUID customerId, @RequestBody @Valid CustomerUpdateInput input) {
+        return customerApplicationService.update(new CustomerId(customerId), input);
+    }
+
+    @DeleteMapping("/{customerId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void archive(@PathVariable UUID customerId) {
+        customerApplicationService.archive(new CustomerId(customerId));
+    }
+}
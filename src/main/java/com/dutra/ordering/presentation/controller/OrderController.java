@@ -0,0 +1,183 @@
+package com.dutra.ordering.presentation.controller;
+
+import com.dutra.ordering.application.model.*;
+import com.dutra.ordering.application.service.OrderApplicationService;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.ZipCode;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import io.hypersistence.tsid.TSID;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/orders")
+public class OrderController {
+
+    static final int MAX_IDS_PER_REQUEST = 100;
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Repetições de criação, confirmação e pagamento com o mesmo valor devolvem a primeira resposta
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final OrderApplicationService orderApplicationService;
+
+    public OrderController(OrderApplicationService orderApplicationService) {
+        this.orderApplicationService = orderApplicationService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public OrderOutput draft(@RequestBody @Valid DraftOrderInput input,
+                             @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return orderApplicationService.draft(input, idempotencyKey);
+    }
+
+    @GetMapping("/{orderId}")
+    public OrderOutput findById(@PathVariable String orderId) {
+        return orderApplicationService.findById(toOrderId(orderId));
+    }
+
+    /**
+     * {@code GET /orders?ids=a,b,c} devolve vários pedidos em uma ida; {@code GET /orders?customerId=} os de um
+     * cliente.
+     */
+    @GetMapping
+    public List<OrderOutput> find(@RequestParam(required = false) List<String> ids,
+                                  @RequestParam(required = false) UUID customerId) {
+        if (ids != null) {
+            if (ids.size() > MAX_IDS_PER_REQUEST) {
+                throw new IllegalArgumentException("At most " + MAX_IDS_PER_REQUEST + " ids per request.");
+            }
+            return orderApplicationService.findAllById(ids.stream().map(OrderController::toOrderId).toList());
+        }
+
+        if (customerId != null) {
+            return orderApplicationService.findByCustomerId(new CustomerId(customerId));
+        }
+
+        throw new IllegalArgumentException("Inform ids or customerId.");
+    }
+
+    /**
+     * Listagem do back-office por cursor: sem {@code after}, do pedido mais novo para o mais antigo a partir de
+     * {@code before}; com {@code after}, do mais antigo para o mais novo. O campo {@code next} da resposta é o
+     * cursor da página seguinte, no mesmo sentido.
+     */
+    @GetMapping("/page")
+    public OrderPageOutput findPage(@RequestParam(required = false) OrderStatus status,
+                                    @RequestParam(required = false) String after,
+                                    @RequestParam(required = false) String before,
+                                    @RequestParam(defaultValue = "20") int limit) {
+        checkPageSize(limit);
+
+        if (after != null) {
+            if (before != null) {
+                throw new IllegalArgumentException("Inform after or before, not both.");
+            }
+            return orderApplicationService.findCreatedAfter(status, toOrderId(after), limit);
+        }
+
+        return orderApplicationService.findRecent(status, before == null ? null : toOrderId(before), limit);
+    }
+
+    /**
+     * Pedidos confirmados em {@code [from, to)}.
+     */
+    @GetMapping("/placed")
+    public List<OrderOutput> findPlaced(@RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime from,
+                                        @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime to,
+                                        @RequestParam(defaultValue = "20") int limit) {
+        checkPageSize(limit);
+        return orderApplicationService.findPlacedBetween(from, to, limit);
+    }
+
+    /**
+     * Pedidos pagos em {@code [from, to)}.
+     */
+    @GetMapping("/paid")
+    public List<OrderOutput> findPaid(@RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime from,
+                                      @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime to,
+                                      @RequestParam(defaultValue = "20") int limit) {
+        checkPageSize(limit);
+        return orderApplicationService.findPaidBetween(from, to, limit);
+    }
+
+    @PostMapping("/{orderId}/items")
+    public OrderOutput addItem(@PathVariable String orderId, @RequestBody @Valid OrderItemInput input) {
+        return orderApplicationService.addItem(toOrderId(orderId), input);
+    }
+
+    @PutMapping("/{orderId}/items/{productId}")
+    public OrderOutput changeItemQuantity(@PathVariable String orderId, @PathVariable UUID productId,
+                                          @RequestBody @Valid QuantityInput input) {
+        return orderApplicationService.changeItemQuantity(toOrderId(orderId), new ProductId(productId), input);
+    }
+
+    @DeleteMapping("/{orderId}/items/{productId}")
+    public OrderOutput removeItem(@PathVariable String orderId, @PathVariable UUID productId) {
+        return orderApplicationService.removeItem(toOrderId(orderId), new ProductId(productId));
+    }
+
+    @PutMapping("/{orderId}/shipping")
+    public OrderOutput changeShipping(@PathVariable String orderId, @RequestBody @Valid ShippingInput input) {
+        return orderApplicationService.changeShipping(toOrderId(orderId), input);
+    }
+
+    @GetMapping("/{orderId}/shipping-quote")
+    public ShippingQuoteOutput quoteShipping(@PathVariable String orderId, @RequestParam String zipCode) {
+        return orderApplicationService.quoteShipping(toOrderId(orderId), new ZipCode(zipCode));
+    }
+
+    @PutMapping("/{orderId}/billing")
+    public OrderOutput changeBilling(@PathVariable String orderId, @RequestBody @Valid ContactInput input) {
+        return orderApplicationService.changeBilling(toOrderId(orderId), input);
+    }
+
+    @PutMapping("/{orderId}/payment-method")
+    public OrderOutput changePaymentMethod(@PathVariable String orderId,
+                                           @RequestBody @Valid PaymentMethodInput input) {
+        return orderApplicationService.changePaymentMethod(toOrderId(orderId), input);
+    }
+
+    @PostMapping("/{orderId}/place")
+    public OrderOutput place(@PathVariable String orderId,
+                             @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return orderApplicationService.place(toOrderId(orderId), idempotencyKey);
+    }
+
+    @PostMapping("/{orderId}/pay")
+    public OrderOutput markAsPaid(@PathVariable String orderId,
+                                  @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return orderApplicationService.markAsPaid(toOrderId(orderId), idempotencyKey);
+    }
+
+    @PostMapping("/{orderId}/ready")
+    public OrderOutput markAsReady(@PathVariable String orderId) {
+        return orderApplicationService.markAsReady(toOrderId(orderId));
+    }
+
+    @PostMapping("/{orderId}/cancel")
+    public OrderOutput cancel(@PathVariable String orderId) {
+        return orderApplicationService.cancel(toOrderId(orderId));
+    }
+
+    private static void checkPageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+    }
+
+    // O TSID aparece na API como texto (Crockford base32), o mesmo do toString de OrderId
+    private static OrderId toOrderId(String value) {
+        return new OrderId(TSID.from(value));
+    }
+}
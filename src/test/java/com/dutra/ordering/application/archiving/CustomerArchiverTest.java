@@ -0,0 +1,96 @@
+package com.dutra.ordering.application.archiving;
+
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.entity.builder.CustomerTestDataBuilder;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class CustomerArchiverTest {
+
+    private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+    private final CustomerArchiver archiver =
+            new CustomerArchiver(new CustomerApplicationService(customerRepository), 3, 7);
+
+    @Test
+    void givenActiveArchivedAndUnknownCustomersShouldReportEachOutcome() {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Customer customer = CustomerTestDataBuilder.aCustomer().build();
+            if (i % 10 == 0) {
+                customer.archive();
+            }
+            customerRepository.save(customer);
+            customers.add(customer);
+        }
+
+        List<CustomerId> ids = new ArrayList<>(customers.stream().map(Customer::id).toList());
+        ids.add(new CustomerId());
+        ids.add(new CustomerId());
+
+        CustomerArchivalReport report = archiver.archiveAll(ids);
+
+        Assertions.assertThat(report.requested()).isEqualTo(102);
+        Assertions.assertThat(report.archived()).isEqualTo(90);
+        Assertions.assertThat(report.alreadyArchived()).isEqualTo(10);
+        Assertions.assertThat(report.notFound()).isEqualTo(2);
+        Assertions.assertThat(customers)
+                .allMatch(customer -> customerRepository.findById(customer.id()).orElseThrow().isArchived());
+    }
+
+    @Test
+    void givenCustomerAlwaysConflictingShouldCountItAndArchiveTheOthers() {
+        Customer contended = CustomerTestDataBuilder.aCustomer().build();
+        InMemoryCustomerRepository conflictingRepository = new InMemoryCustomerRepository() {
+            @Override
+            public boolean compareAndSave(Customer customer) {
+                return !customer.id().equals(contended.id()) && super.compareAndSave(customer);
+            }
+        };
+        conflictingRepository.save(contended);
+        List<CustomerId> ids = new ArrayList<>(List.of(contended.id()));
+        for (int i = 0; i < 20; i++) {
+            Customer customer = CustomerTestDataBuilder.aCustomer().build();
+            conflictingRepository.save(customer);
+            ids.add(customer.id());
+        }
+
+        CustomerArchivalReport report = new CustomerArchiver(new CustomerApplicationService(conflictingRepository),
+                3, 7).archiveAll(ids);
+
+        Assertions.assertThat(report.conflicted()).isEqualTo(1);
+        Assertions.assertThat(report.archived()).isEqualTo(20);
+        Assertions.assertThat(conflictingRepository.findById(contended.id()).orElseThrow().isArchived()).isFalse();
+    }
+
+    @Test
+    void givenArchivedInBulkShouldMatchSingleArchive() {
+        Customer bulk = CustomerTestDataBuilder.aCustomer().build();
+        Customer single = CustomerTestDataBuilder.aCustomer().build();
+        customerRepository.save(bulk);
+
+        archiver.archiveAll(List.of(bulk.id()));
+        single.archive();
+        bulk = customerRepository.findById(bulk.id()).orElseThrow();
+
+        Assertions.assertThat(bulk)
+                .usingRecursiveComparison()
+                .ignoringFields("id", "archivedAt", "registeredAt", "version")
+                .isEqualTo(single);
+        Assertions.assertThat(bulk.archivedAt()).isNotNull();
+        Assertions.assertThat(bulk.email()).isSameAs(single.email());
+    }
+
+    @Test
+    void givenNoCustomersShouldReturnEmptyReport() {
+        CustomerArchivalReport report = archiver.archiveAll(List.of());
+
+        Assertions.assertThat(report.requested()).isZero();
+        Assertions.assertThat(report.archived()).isZero();
+    }
+}
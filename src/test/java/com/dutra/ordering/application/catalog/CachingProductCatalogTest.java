@@ -0,0 +1,233 @@
+package com.dutra.ordering.application.catalog;
+
+import com.dutra.ordering.application.idempotency.IdempotencyStore;
+import com.dutra.ordering.application.model.OrderOutput;
+import com.dutra.ordering.application.service.OrderApplicationService;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.exceptions.ProductNotFoundException;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.metrics.DomainMetrics;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import com.dutra.ordering.infrastructure.shipping.StubCarrierShippingQuoteService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CachingProductCatalogTest {
+
+    private final Map<ProductId, CatalogProduct> products = new ConcurrentHashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final ProductCatalog source = productId -> {
+        lookups.incrementAndGet();
+        return Optional.ofNullable(products.get(productId));
+    };
+
+    @Test
+    void givenRepeatedLookupShouldQueryCatalogOnce() {
+        CatalogProduct notebook = aProduct("Notebook", "4500.00");
+        CachingProductCatalog catalog = aCache(100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+        catalog.findById(notebook.productId());
+        catalog.findById(notebook.productId());
+        catalog.findById(notebook.productId());
+
+        Assertions.assertThat(catalog.findById(notebook.productId())).contains(notebook);
+        Assertions.assertThat(lookups).hasValue(1);
+        Assertions.assertThat(catalog.hits()).isEqualTo(3);
+        Assertions.assertThat(catalog.misses()).isEqualTo(1);
+        Assertions.assertThat(catalog.hitRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    void givenUnknownProductShouldCacheAbsence() {
+        CachingProductCatalog catalog = aCache(100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+        ProductId unknown = new ProductId();
+
+        Assertions.assertThat(catalog.findById(unknown)).isEmpty();
+        Assertions.assertThat(catalog.findById(unknown)).isEmpty();
+        Assertions.assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void givenEntryOlderThanRefreshAfterShouldServeItAndReloadInBackground() throws Exception {
+        CatalogProduct notebook = aProduct("Notebook", "4500.00");
+        CachingProductCatalog catalog = aCache(100, Duration.ofMillis(20), Duration.ofMinutes(10));
+        catalog.findById(notebook.productId());
+
+        CatalogProduct repriced = new CatalogProduct(notebook.productId(), notebook.productName(),
+                new Money("3999.90"));
+        products.put(repriced.productId(), repriced);
+        Thread.sleep(30);
+
+        // O refresher roda na própria chamada, então a recarga já terminou quando ela retorna
+        Assertions.assertThat(catalog.findById(notebook.productId())).contains(notebook);
+        Assertions.assertThat(catalog.findById(notebook.productId())).contains(repriced);
+        Assertions.assertThat(catalog.refreshes()).isEqualTo(1);
+        Assertions.assertThat(catalog.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void givenRefreshFailingWithErrorShouldTryAgainOnNextLookup() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CatalogProduct notebook = aProduct("Notebook", "4500.00");
+        ProductCatalog brokenSource = productId -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new AssertionError("Catalog client broken.");
+            }
+            return Optional.ofNullable(products.get(productId));
+        };
+        // Como um pool de threads, o refresher não repassa a falha para quem consultou
+        Executor refresher = task -> {
+            try {
+                task.run();
+            } catch (AssertionError ignored) {
+            }
+        };
+        CachingProductCatalog catalog = new CachingProductCatalog(brokenSource, 100, Duration.ofMillis(20),
+                Duration.ofMinutes(10), refresher);
+        catalog.findById(notebook.productId());
+
+        CatalogProduct repriced = new CatalogProduct(notebook.productId(), notebook.productName(),
+                new Money("3999.90"));
+        products.put(repriced.productId(), repriced);
+        Thread.sleep(30);
+
+        Assertions.assertThat(catalog.findById(notebook.productId())).contains(notebook);
+        Assertions.assertThat(catalog.findById(notebook.productId())).contains(notebook);
+        Assertions.assertThat(catalog.findById(notebook.productId())).contains(repriced);
+        Assertions.assertThat(catalog.refreshes()).isEqualTo(1);
+        Assertions.assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void givenExpiredEntryShouldWaitForCatalog() throws Exception {
+        CatalogProduct notebook = aProduct("Notebook", "4500.00");
+        CachingProductCatalog catalog = aCache(100, Duration.ofMillis(10), Duration.ofMillis(10));
+        catalog.findById(notebook.productId());
+
+        products.remove(notebook.productId());
+        Thread.sleep(20);
+
+        Assertions.assertThat(catalog.findById(notebook.productId())).isEmpty();
+        Assertions.assertThat(catalog.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void givenFullCacheShouldEvictProductsNotLookedUpSinceLastPass() {
+        CachingProductCatalog catalog = aCache(32, Duration.ofMinutes(1), Duration.ofMinutes(10));
+        CatalogProduct hot = aProduct("Notebook", "4500.00");
+        catalog.findById(hot.productId());
+
+        for (int i = 0; i < 200; i++) {
+            catalog.findById(aProduct("Mouse " + i, "99.90").productId());
+            catalog.findById(hot.productId());
+        }
+
+        Assertions.assertThat(catalog.size()).isLessThanOrEqualTo(32);
+        Assertions.assertThat(catalog.evictions()).isGreaterThan(0);
+        int before = lookups.get();
+        catalog.findById(hot.productId());
+        Assertions.assertThat(lookups).hasValue(before);
+    }
+
+    @Test
+    void givenConcurrentLookupsForMissingProductShouldQueryCatalogOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CatalogProduct notebook = aProduct("Notebook", "4500.00");
+        ProductCatalog slowSource = productId -> {
+            lookups.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.ofNullable(products.get(productId));
+        };
+        CachingProductCatalog catalog = new CachingProductCatalog(slowSource, 100, Duration.ofMinutes(1),
+                Duration.ofMinutes(10), Runnable::run);
+
+        int threads = 16;
+        List<Future<Optional<CatalogProduct>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> catalog.findById(notebook.productId())));
+            }
+
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Optional<CatalogProduct>> result : results) {
+                Assertions.assertThat(result.get()).contains(notebook);
+            }
+        }
+
+        Assertions.assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void givenFailingCatalogShouldNotCacheFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        CatalogProduct notebook = aProduct("Notebook", "4500.00");
+        ProductCatalog flakySource = productId -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Catalog unavailable.");
+            }
+            return Optional.ofNullable(products.get(productId));
+        };
+        CachingProductCatalog catalog = new CachingProductCatalog(flakySource, 100, Duration.ofMinutes(1),
+                Duration.ofMinutes(10), Runnable::run);
+
+        Assertions.assertThatThrownBy(() -> catalog.findById(notebook.productId()))
+                .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(catalog.findById(notebook.productId())).contains(notebook);
+    }
+
+    @Test
+    void givenProductIdShouldAddItemWithCatalogNameAndPrice() {
+        CatalogProduct notebook = aProduct("Notebook", "4500.00");
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        OrderApplicationService orderService = new OrderApplicationService(orderRepository,
+                new InMemoryCustomerRepository(), new StubCarrierShippingQuoteService(),
+                aCache(100, Duration.ofMinutes(1), Duration.ofMinutes(10)),
+                new IdempotencyStore(100, Duration.ofMinutes(1), 1), DomainMetrics.NOOP);
+        Order order = OrderTestDataBuilder.anOrder().setWithItems(false).build();
+        orderRepository.save(order);
+
+        OrderOutput output = orderService.addItem(order.id(), notebook.productId(), Quantity.of(2));
+
+        Assertions.assertThat(output.items()).singleElement().satisfies(item -> {
+            Assertions.assertThat(item.productName()).isEqualTo("Notebook");
+            Assertions.assertThat(item.price()).isEqualByComparingTo("4500.00");
+        });
+        Assertions.assertThatExceptionOfType(ProductNotFoundException.class)
+                .isThrownBy(() -> orderService.addItem(order.id(), new ProductId(), Quantity.of(1)));
+    }
+
+    // Métodos Auxiliares
+    private CachingProductCatalog aCache(int maxEntries, Duration refreshAfter, Duration expireAfter) {
+        return new CachingProductCatalog(source, maxEntries, refreshAfter, expireAfter, Runnable::run);
+    }
+
+    private CatalogProduct aProduct(String name, String price) {
+        CatalogProduct product = new CatalogProduct(new ProductId(), new ProductName(name), new Money(price));
+        products.put(product.productId(), product);
+        return product;
+    }
+}
@@ -0,0 +1,133 @@
+package com.dutra.ordering.application.idempotency;
+
+import com.dutra.ordering.domain.exceptions.IdempotencyKeyReusedException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class IdempotencyStoreTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void givenRepeatedKeyShouldReturnFirstResultWithoutExecutingAgain() {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1), 4);
+
+        String first = store.execute("key-1", "place:1", () -> "result-" + calls.incrementAndGet());
+        String second = store.execute("key-1", "place:1", () -> "result-" + calls.incrementAndGet());
+
+        Assertions.assertThat(second).isEqualTo(first);
+        Assertions.assertThat(calls).hasValue(1);
+        Assertions.assertThat(store.executions()).isEqualTo(1);
+        Assertions.assertThat(store.replays()).isEqualTo(1);
+    }
+
+    @Test
+    void givenKeyReusedForAnotherCommandShouldReject() {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1), 4);
+        store.execute("key-1", "place:1", calls::incrementAndGet);
+
+        Assertions.assertThatExceptionOfType(IdempotencyKeyReusedException.class)
+                .isThrownBy(() -> store.execute("key-1", "pay:1", calls::incrementAndGet));
+        Assertions.assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void givenConcurrentDuplicatesShouldExecuteOnce() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1), 4);
+        CountDownLatch release = new CountDownLatch(1);
+
+        int threads = 16;
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> store.execute("key-1", "place:1", () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return calls.incrementAndGet();
+                })));
+            }
+
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                Assertions.assertThat(result.get()).isEqualTo(1);
+            }
+        }
+
+        Assertions.assertThat(calls).hasValue(1);
+        Assertions.assertThat(store.replays()).isEqualTo(threads - 1);
+    }
+
+    @Test
+    void givenFailedCommandShouldExecuteAgainOnRetry() {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1), 4);
+
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> store.execute("key-1", "place:1", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Unavailable.");
+        }));
+        Integer result = store.execute("key-1", "place:1", calls::incrementAndGet);
+
+        Assertions.assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void givenCommandFailingWithErrorShouldExecuteAgainOnRetry() {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1), 4);
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> store.execute("key-1", "place:1", () -> {
+                    calls.incrementAndGet();
+                    throw new AssertionError("Broken.");
+                }));
+        Integer result = store.execute("key-1", "place:1", calls::incrementAndGet);
+
+        Assertions.assertThat(result).isEqualTo(2);
+        Assertions.assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void givenExpiredKeyShouldExecuteAgain() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMillis(10), 1);
+        store.execute("key-1", "place:1", calls::incrementAndGet);
+
+        Thread.sleep(20);
+
+        Assertions.assertThat(store.execute("key-1", "place:1", calls::incrementAndGet)).isEqualTo(2);
+        Assertions.assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFullStoreShouldDiscardOldestKeys() {
+        IdempotencyStore store = new IdempotencyStore(8, Duration.ofMinutes(1), 1);
+
+        for (int i = 0; i < 20; i++) {
+            store.execute("key-" + i, "place:" + i, calls::incrementAndGet);
+        }
+
+        Assertions.assertThat(store.size()).isEqualTo(8);
+        Assertions.assertThat(store.execute("key-19", "place:19", calls::incrementAndGet)).isEqualTo(20);
+        Assertions.assertThat(store.execute("key-0", "place:0", calls::incrementAndGet)).isEqualTo(21);
+    }
+
+    @Test
+    void givenBlankKeyShouldReject() {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1), 1);
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> store.execute(" ", "place:1", calls::incrementAndGet));
+    }
+}
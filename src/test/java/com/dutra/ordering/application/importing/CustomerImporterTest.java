@@ -0,0 +1,125 @@
+package com.dutra.ordering.application.importing;
+
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.valueobjects.Email;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+class CustomerImporterTest {
+
+    private static final String HEADER = "firstName,lastName,birthDate,email,phone,document,"
+            + "promotionNotificationsAllowed,street,number,complement,neighborhood,city,state,zipCode";
+
+    @TempDir
+    Path directory;
+
+    private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+    private final CustomerImporter importer =
+            new CustomerImporter(new CustomerApplicationService(customerRepository), 3, 7, 2, 10);
+
+    @Test
+    void givenCsvFileShouldImportEveryValidRow() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < 100; i++) {
+            lines.add(csvRow("customer" + i + "@email.com", "88000000"));
+        }
+        lines.add("\"Maria, \"\"Mari\"\"\",Souza,,maria@email.com,48999999999,123,false,Rua A,10,,Centro,"
+                + "Florianópolis,SC,88000000");
+
+        CustomerImportReport report = importer.importFile(write("customers.csv", lines));
+
+        Assertions.assertThat(report.rowsRead()).isEqualTo(101);
+        Assertions.assertThat(report.imported()).isEqualTo(101);
+        Assertions.assertThat(report.rejected()).isZero();
+        Assertions.assertThat(report.rowsPerSecond()).isPositive();
+        Assertions.assertThat(customerRepository.count()).isEqualTo(101);
+
+        Customer maria = customerRepository.findByEmail(new Email("maria@email.com")).orElseThrow();
+        Assertions.assertThat(maria.fullName().firstName()).isEqualTo("Maria, \"Mari\"");
+        Assertions.assertThat(maria.birthDate()).isNull();
+    }
+
+    @Test
+    void givenInvalidRowsShouldReportThemAndImportTheRest() throws IOException {
+        List<String> lines = List.of(
+                HEADER,
+                csvRow("valid@email.com", "88000000"),
+                csvRow("not-an-email", "88000000"),
+                "",
+                csvRow("other@email.com", "123"),
+                csvRow("valid@email.com", "88000000"),
+                "\"unterminated,Souza"
+        );
+
+        CustomerImportReport report = importer.importFile(write("customers.csv", lines));
+
+        Assertions.assertThat(report.imported()).isEqualTo(1);
+        Assertions.assertThat(report.rejected()).isEqualTo(4);
+        Assertions.assertThat(report.errors())
+                .extracting(CustomerImportError::line)
+                .containsExactlyInAnyOrder(3L, 5L, 6L, 7L);
+        Assertions.assertThat(customerRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenNdjsonFileShouldImportIt() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            lines.add("""
+                    {"firstName":"João","lastName":"Silva","birthDate":"1990-05-20","email":"joao%d@email.com",\
+                    "phone":"48999999999","document":"123","promotionNotificationsAllowed":"true","street":"Rua A",\
+                    "number":"10","neighborhood":"Centro","city":"Florianópolis","state":"SC","zipCode":"88000000",\
+                    "ignored":1}""".formatted(i));
+        }
+        lines.add("{\"firstName\":");
+
+        CustomerImportReport report = importer.importFile(write("customers.ndjson", lines));
+
+        Assertions.assertThat(report.imported()).isEqualTo(20);
+        Assertions.assertThat(report.errors()).extracting(CustomerImportError::line).containsExactly(21L);
+        Assertions.assertThat(customerRepository.findByEmail(new Email("joao0@email.com")))
+                .get()
+                .extracting(Customer::isPromotionNotificationsAllowed)
+                .isEqualTo(true);
+    }
+
+    @Test
+    void givenMoreErrorsThanTheLimitShouldCountAllButKeepOnlyTheLimit() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < 50; i++) {
+            lines.add(csvRow("invalid" + i, "88000000"));
+        }
+
+        CustomerImportReport report = importer.importFile(write("customers.csv", lines));
+
+        Assertions.assertThat(report.rejected()).isEqualTo(50);
+        Assertions.assertThat(report.errors()).hasSize(10);
+    }
+
+    @Test
+    void givenUnknownExtensionShouldFail() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> importer.importFile(directory.resolve("customers.xml")));
+    }
+
+    private static String csvRow(String email, String zipCode) {
+        return "João,Silva,1990-05-20," + email + ",48999999999,123,true,Rua A,10,Apto 1,Centro,Florianópolis,SC,"
+                + zipCode;
+    }
+
+    private Path write(String fileName, List<String> lines) throws IOException {
+        return Files.write(directory.resolve(fileName), lines, StandardCharsets.UTF_8);
+    }
+}
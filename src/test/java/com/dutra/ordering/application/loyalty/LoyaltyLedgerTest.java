@@ -0,0 +1,181 @@
+package com.dutra.ordering.application.loyalty;
+
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.entity.builder.CustomerTestDataBuilder;
+import com.dutra.ordering.domain.exceptions.ConcurrentModificationConflictException;
+import com.dutra.ordering.domain.valueobjects.LoyaltyPoints;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryLoyaltyAuditTrail;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+class LoyaltyLedgerTest {
+
+    private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+    private final InMemoryLoyaltyAuditTrail auditTrail = new InMemoryLoyaltyAuditTrail();
+    private final LoyaltyLedger ledger = new LoyaltyLedger(new CustomerApplicationService(customerRepository),
+            auditTrail, 4, Duration.ZERO);
+
+    @Test
+    void givenConcurrentAccrualsShouldApplyEveryPointOnFlush() {
+        Customer popular = save(CustomerTestDataBuilder.aCustomer().build());
+        Customer other = save(CustomerTestDataBuilder.aCustomer().build());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ledger.accrue(popular.id(), LoyaltyPoints.of(2), "campaign");
+                        ledger.accrue(other.id(), LoyaltyPoints.of(1), "campaign");
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        Assertions.assertThat(ledger.pendingPoints(popular.id())).isEqualTo(160_000);
+        Assertions.assertThat(pointsOf(popular)).isZero();
+
+        LoyaltyFlushResult result = ledger.flush();
+
+        Assertions.assertThat(result).isEqualTo(new LoyaltyFlushResult(2, 160_000, 0, 0));
+        Assertions.assertThat(pointsOf(popular)).isEqualTo(160_000);
+        Assertions.assertThat(pointsOf(other)).isEqualTo(80_000);
+        Assertions.assertThat(ledger.pendingPoints(popular.id())).isZero();
+        Assertions.assertThat(auditTrail.count()).isEqualTo(160_000);
+        Assertions.assertThat(ledger.flush()).isEqualTo(LoyaltyFlushResult.EMPTY);
+    }
+
+    @Test
+    void givenArchivedOrUnknownCustomerShouldDiscardOnlyTheirAccruals() {
+        Customer active = save(CustomerTestDataBuilder.aCustomer().build());
+        Customer archived = CustomerTestDataBuilder.aCustomer().build();
+        archived.archive();
+        save(archived);
+
+        ledger.accrue(active.id(), LoyaltyPoints.of(10), "order");
+        ledger.accrue(archived.id(), LoyaltyPoints.of(10), "order");
+        ledger.accrue(new CustomerId(), LoyaltyPoints.of(10), "order");
+        ledger.accrue(active.id(), LoyaltyPoints.of(5), "review");
+
+        LoyaltyFlushResult result = ledger.flush();
+
+        Assertions.assertThat(result).isEqualTo(new LoyaltyFlushResult(1, 2, 2, 0));
+        Assertions.assertThat(pointsOf(active)).isEqualTo(15);
+        Assertions.assertThat(auditTrail.findByCustomerId(active.id()))
+                .extracting(LoyaltyAccrual::reason)
+                .containsExactly("order", "review");
+        Assertions.assertThat(auditTrail.findByCustomerId(archived.id())).isEmpty();
+    }
+
+    @Test
+    void givenConflictOrUnexpectedFailureShouldKeepAccrualsPendingAndAuditTheApplied() {
+        Customer conflicted = save(CustomerTestDataBuilder.aCustomer().build());
+        Customer failing = save(CustomerTestDataBuilder.aCustomer().build());
+        Customer credited = save(CustomerTestDataBuilder.aCustomer().build());
+        Set<CustomerId> failedOnce = ConcurrentHashMap.newKeySet();
+
+        LoyaltyLedger flaky = new LoyaltyLedger(new CustomerApplicationService(customerRepository) {
+            @Override
+            public void addLoyaltyPoints(CustomerId customerId, LoyaltyPoints loyaltyPoints) {
+                if (customerId.equals(conflicted.id()) && failedOnce.add(customerId)) {
+                    throw new ConcurrentModificationConflictException(customerId, 1);
+                }
+                if (customerId.equals(failing.id()) && failedOnce.add(customerId)) {
+                    throw new IllegalStateException("Unavailable.");
+                }
+                super.addLoyaltyPoints(customerId, loyaltyPoints);
+            }
+        }, auditTrail, 4, Duration.ZERO);
+
+        flaky.accrue(conflicted.id(), LoyaltyPoints.of(10), "order");
+        flaky.accrue(failing.id(), LoyaltyPoints.of(20), "order");
+        flaky.accrue(credited.id(), LoyaltyPoints.of(30), "order");
+
+        Assertions.assertThat(flaky.flush()).isEqualTo(new LoyaltyFlushResult(1, 1, 0, 2));
+        Assertions.assertThat(pointsOf(credited)).isEqualTo(30);
+        Assertions.assertThat(auditTrail.count()).isEqualTo(1);
+        Assertions.assertThat(flaky.pendingPoints(conflicted.id())).isEqualTo(10);
+        Assertions.assertThat(flaky.pendingPoints(failing.id())).isEqualTo(20);
+
+        Assertions.assertThat(flaky.flush()).isEqualTo(new LoyaltyFlushResult(2, 2, 0, 0));
+        Assertions.assertThat(pointsOf(conflicted)).isEqualTo(10);
+        Assertions.assertThat(pointsOf(failing)).isEqualTo(20);
+        Assertions.assertThat(auditTrail.count()).isEqualTo(3);
+    }
+
+    @Test
+    void givenAccrualsRacingCloseShouldApplyOrRejectEachOne() throws Exception {
+        Customer customer = save(CustomerTestDataBuilder.aCustomer().build());
+        LongAdder accepted = new LongAdder();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        while (true) {
+                            ledger.accrue(customer.id(), LoyaltyPoints.of(1), "campaign");
+                            accepted.increment();
+                        }
+                    } catch (IllegalStateException e) {
+                        // Fechado
+                    }
+                }));
+            }
+
+            Thread.sleep(20);
+            ledger.close();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Assertions.assertThat(pointsOf(customer)).isEqualTo(accepted.intValue());
+        Assertions.assertThat(ledger.pendingPoints(customer.id())).isZero();
+    }
+
+    @Test
+    void givenNonPositivePointsShouldRejectAccrual() {
+        CustomerId customerId = new CustomerId();
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> ledger.accrue(customerId, LoyaltyPoints.ZERO, "none"));
+    }
+
+    @Test
+    void givenClosedLedgerShouldFlushPendingAndRejectNewAccruals() {
+        Customer customer = save(CustomerTestDataBuilder.aCustomer().build());
+        ledger.accrue(customer.id(), LoyaltyPoints.of(7), "order");
+
+        ledger.close();
+
+        Assertions.assertThat(pointsOf(customer)).isEqualTo(7);
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> ledger.accrue(customer.id(), LoyaltyPoints.of(1), "late"));
+    }
+
+    // Cada flush grava uma cópia nova do cliente
+    private int pointsOf(Customer customer) {
+        return customerRepository.findById(customer.id()).orElseThrow().loyaltyPoints().points();
+    }
+
+    private Customer save(Customer customer) {
+        customerRepository.save(customer);
+        return customer;
+    }
+}
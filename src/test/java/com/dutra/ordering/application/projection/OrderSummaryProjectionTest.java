@@ -0,0 +1,98 @@
+package com.dutra.ordering.application.projection;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class OrderSummaryProjectionTest {
+
+    private final OrderSummaryProjection projection = new OrderSummaryProjection();
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository(List.of(projection));
+
+    @Test
+    void givenOrderLifecycleShouldUpdateCustomerSummary() {
+        CustomerId customerId = new CustomerId();
+        Order paid = save(OrderTestDataBuilder.anOrder().setCustomerId(customerId).setOrderStatus(OrderStatus.PAID).build());
+        Order ready = save(OrderTestDataBuilder.anOrder().setCustomerId(customerId).setOrderStatus(OrderStatus.READY).build());
+        save(OrderTestDataBuilder.anOrder().setCustomerId(customerId).setOrderStatus(OrderStatus.PLACED).build());
+        save(OrderTestDataBuilder.anOrder().setCustomerId(customerId).build());
+
+        ready.cancel();
+        save(ready);
+
+        CustomerOrderSummary summary = projection.customerSummary(customerId);
+
+        Assertions.assertThat(summary.orders()).isEqualTo(4);
+        Assertions.assertThat(summary.placedOrders()).isEqualTo(3);
+        Assertions.assertThat(summary.canceledOrders()).isEqualTo(1);
+        Assertions.assertThat(summary.lifetimeSpend()).isEqualTo(paid.totalAmount());
+    }
+
+    @Test
+    void givenOrdersInEveryStatusShouldCountThemByStatus() {
+        List<Order> orders = new ArrayList<>();
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            for (int i = 0; i < 3; i++) {
+                orders.add(save(OrderTestDataBuilder.anOrder().setOrderStatus(orderStatus).build()));
+            }
+        }
+
+        Money total = orders.getFirst().totalAmount();
+
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            OrderStatusSummary summary = projection.statusSummary(orderStatus);
+
+            Assertions.assertThat(summary.orders()).isEqualTo(3);
+            Assertions.assertThat(summary.orders()).isEqualTo(orderRepository.countByStatus(orderStatus));
+            Assertions.assertThat(summary.totalAmount().cents())
+                    .isEqualTo(orderStatus == OrderStatus.DRAFT ? 0 : 3 * total.cents());
+        }
+    }
+
+    @Test
+    void givenRebuildShouldMatchIncrementalState() {
+        List<Order> orders = new ArrayList<>();
+        List<CustomerId> customers = List.of(new CustomerId(), new CustomerId(), new CustomerId());
+        OrderStatus[] statuses = OrderStatus.values();
+
+        for (int i = 0; i < 300; i++) {
+            Order order = OrderTestDataBuilder.anOrder()
+                    .setCustomerId(customers.get(i % customers.size()))
+                    .setOrderStatus(statuses[i % statuses.length])
+                    .build();
+            if (order.orderStatus() == OrderStatus.PAID && i % 2 == 0) {
+                order.cancel();
+            }
+            orders.add(save(order));
+        }
+
+        OrderSummaryProjection rebuilt = new OrderSummaryProjection();
+        rebuilt.rebuild(orders);
+
+        Assertions.assertThat(rebuilt.statusSummaries()).isEqualTo(projection.statusSummaries());
+        for (CustomerId customerId : customers) {
+            Assertions.assertThat(rebuilt.customerSummary(customerId)).isEqualTo(projection.customerSummary(customerId));
+        }
+    }
+
+    @Test
+    void givenUnknownCustomerShouldReturnEmptySummary() {
+        CustomerId customerId = new CustomerId();
+
+        Assertions.assertThat(projection.customerSummary(customerId))
+                .isEqualTo(new CustomerOrderSummary(customerId, 0, 0, 0, Money.ZERO));
+    }
+
+    private Order save(Order order) {
+        orderRepository.save(order);
+        return order;
+    }
+}
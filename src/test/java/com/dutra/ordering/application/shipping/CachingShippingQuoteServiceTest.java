@@ -0,0 +1,188 @@
+package com.dutra.ordering.application.shipping;
+
+import com.dutra.ordering.application.catalog.ProductCatalog;
+import com.dutra.ordering.application.idempotency.IdempotencyStore;
+import com.dutra.ordering.application.model.AddressInput;
+import com.dutra.ordering.application.model.ContactInput;
+import com.dutra.ordering.application.model.OrderOutput;
+import com.dutra.ordering.application.model.ShippingInput;
+import com.dutra.ordering.application.service.OrderApplicationService;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.ZipCode;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import com.dutra.ordering.infrastructure.metrics.DomainMetrics;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import com.dutra.ordering.infrastructure.shipping.StubCarrierShippingQuoteService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CachingShippingQuoteServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Test
+    void givenSameZipCodePrefixAndBandsShouldShareRequest() {
+        ShippingQuoteRequest first = ShippingQuoteRequest.of(new ZipCode("88010100"), Quantity.of(5),
+                new Money("150.00"), TODAY);
+        ShippingQuoteRequest second = ShippingQuoteRequest.of(new ZipCode("88010999"), Quantity.of(7),
+                new Money("250.00"), TODAY);
+        ShippingQuoteRequest otherBand = ShippingQuoteRequest.of(new ZipCode("88010100"), Quantity.of(8),
+                new Money("150.00"), TODAY);
+
+        Assertions.assertThat(first).isEqualTo(second);
+        Assertions.assertThat(first).isNotEqualTo(otherBand);
+    }
+
+    @Test
+    void givenRepeatedRequestShouldQuoteCarrierOnce() {
+        StubCarrierShippingQuoteService carrier = new StubCarrierShippingQuoteService();
+        CachingShippingQuoteService cache = new CachingShippingQuoteService(carrier, 100, Duration.ofMinutes(5));
+
+        ShippingQuote first = cache.quote(aRequest("88010"));
+        ShippingQuote second = cache.quote(aRequest("88010"));
+        cache.quote(aRequest("01310"));
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(carrier.quotes()).isEqualTo(2);
+    }
+
+    @Test
+    void givenConcurrentRequestsForMissingQuoteShouldQuoteCarrierOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ShippingQuoteService slowCarrier = request -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ShippingQuote(new Money("20.00"), request.date().plusDays(3));
+        };
+        CachingShippingQuoteService cache = new CachingShippingQuoteService(slowCarrier, 100, Duration.ofMinutes(5));
+
+        int threads = 16;
+        List<Future<ShippingQuote>> quotes = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                quotes.add(executor.submit(() -> cache.quote(aRequest("88010"))));
+            }
+
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<ShippingQuote> quote : quotes) {
+                Assertions.assertThat(quote.get().cost()).isEqualTo(new Money("20.00"));
+            }
+        }
+
+        Assertions.assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void givenExpiredQuoteShouldQuoteCarrierAgain() throws InterruptedException {
+        StubCarrierShippingQuoteService carrier = new StubCarrierShippingQuoteService();
+        CachingShippingQuoteService cache = new CachingShippingQuoteService(carrier, 100, Duration.ofMillis(1));
+
+        cache.quote(aRequest("88010"));
+        Thread.sleep(10);
+        cache.quote(aRequest("88010"));
+
+        Assertions.assertThat(carrier.quotes()).isEqualTo(2);
+    }
+
+    @Test
+    void givenCarrierFailureShouldNotCacheIt() {
+        AtomicInteger calls = new AtomicInteger();
+        ShippingQuoteService flakyCarrier = request -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Carrier unavailable.");
+            }
+            return new ShippingQuote(new Money("20.00"), request.date().plusDays(3));
+        };
+        CachingShippingQuoteService cache = new CachingShippingQuoteService(flakyCarrier, 100, Duration.ofMinutes(5));
+
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> cache.quote(aRequest("88010")));
+        Assertions.assertThat(cache.quote(aRequest("88010")).cost()).isEqualTo(new Money("20.00"));
+        Assertions.assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void givenCarrierErrorShouldNotLeaveQuotePending() {
+        AtomicInteger calls = new AtomicInteger();
+        ShippingQuoteService brokenCarrier = request -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new AssertionError("Carrier client broken.");
+            }
+            return new ShippingQuote(new Money("20.00"), request.date().plusDays(3));
+        };
+        CachingShippingQuoteService cache = new CachingShippingQuoteService(brokenCarrier, 100, Duration.ofMinutes(5));
+
+        Assertions.assertThatThrownBy(() -> cache.quote(aRequest("88010"))).isInstanceOf(AssertionError.class);
+        Assertions.assertThat(cache.size()).isZero();
+        Assertions.assertThat(cache.quote(aRequest("88010")).cost()).isEqualTo(new Money("20.00"));
+        Assertions.assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void givenMoreRequestsThanMaxEntriesShouldStayBounded() {
+        CachingShippingQuoteService cache = new CachingShippingQuoteService(new StubCarrierShippingQuoteService(),
+                10, Duration.ofMinutes(5));
+
+        for (int i = 0; i < 1000; i++) {
+            cache.quote(aRequest("%05d".formatted(i)));
+        }
+
+        Assertions.assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void givenItemsAddedWhileQuotingShouldQuoteShippingForTheStoredItems() {
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        Order order = OrderTestDataBuilder.anOrder().setWithItems(false).build();
+        orderRepository.save(order);
+        List<ShippingQuoteRequest> requests = new ArrayList<>();
+        ShippingQuoteService racingCarrier = request -> {
+            if (requests.isEmpty()) {
+                orderRepository.update(order.id(), changed -> changed.addItem(new ProductId(),
+                        new ProductName("Notebook"), new Money("4500.00"), Quantity.of(4)));
+            }
+            requests.add(request);
+            return new ShippingQuote(Money.ofCents(1000L * request.itemsBand()), request.date().plusDays(3));
+        };
+        OrderApplicationService orderService = new OrderApplicationService(orderRepository,
+                new InMemoryCustomerRepository(), racingCarrier, ProductCatalog.EMPTY,
+                new IdempotencyStore(100, Duration.ofMinutes(1), 1), DomainMetrics.NOOP);
+
+        OrderOutput output = orderService.changeShipping(order.id(), new ShippingInput(aRecipient(), null, null));
+
+        Assertions.assertThat(requests).hasSize(2);
+        Assertions.assertThat(requests.getLast().itemsBand()).isEqualTo(3);
+        Assertions.assertThat(output.shippingCost()).isEqualByComparingTo("30.00");
+    }
+
+    // Métodos Auxiliares
+    private static ContactInput aRecipient() {
+        return new ContactInput("Fulano", "de Tal", "xxxxxx", "098765432", new AddressInput("Rua de Teste",
+                "100", null, "Pantanal", "São José", "SC", "88010100"));
+    }
+
+    private static ShippingQuoteRequest aRequest(String zipCodePrefix) {
+        return new ShippingQuoteRequest(zipCodePrefix, 2, 7, TODAY);
+    }
+}
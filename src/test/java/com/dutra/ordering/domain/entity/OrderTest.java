@@ -1,19 +1,33 @@
 package com.dutra.ordering.domain.entity;
 
 import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.entity.enums.OrderChangeResult;
 import com.dutra.ordering.domain.entity.enums.OrderStatus;
 import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.event.OrderItemAddedEvent;
+import com.dutra.ordering.domain.event.OrderStatusChangedEvent;
+import com.dutra.ordering.domain.exceptions.OrderCannotBeEditedException;
+import com.dutra.ordering.domain.exceptions.OrderCannotBePlacedException;
+import com.dutra.ordering.domain.exceptions.OrderDoesNotContainProductException;
 import com.dutra.ordering.domain.exceptions.OrderInvalidShippingDeliveryDateException;
 import com.dutra.ordering.domain.exceptions.OrderStatusCannotBeChangedException;
+import com.dutra.ordering.domain.utility.DomainClock;
 import com.dutra.ordering.domain.valueobjects.*;
 import com.dutra.ordering.domain.valueobjects.id.CustomerId;
 import com.dutra.ordering.domain.valueobjects.id.OrderItemId;
 import com.dutra.ordering.domain.valueobjects.id.ProductId;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.internal.matchers.Or;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -87,6 +101,208 @@ class OrderTest {
         Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("200"));
     }
 
+    @Test
+    void shouldCalculateSameTotalsWhenAddingItemsInBulk() {
+        List<CartItem> cartItems = List.of(
+                new CartItem(new ProductId(), new ProductName("Mouse pad"), new Money("100"), new Quantity(1)),
+                new CartItem(new ProductId(), new ProductName("RAM Memory"), new Money("50.35"), new Quantity(3)),
+                new CartItem(new ProductId(), new ProductName("Cable"), new Money("9.99"), new Quantity(7))
+        );
+
+        Order oneByOne = Order.draft(new CustomerId());
+        cartItems.forEach(item -> oneByOne.addItem(item.productId(), item.productName(), item.price(), item.quantity()));
+
+        Order bulk = Order.draft(new CustomerId());
+        bulk.addItems(cartItems);
+
+        Assertions.assertThat(bulk.items()).hasSize(3);
+        Assertions.assertThat(bulk.totalAmount()).isEqualTo(new Money("320.98"));
+        Assertions.assertThat(bulk.totalAmount()).isEqualTo(oneByOne.totalAmount());
+        Assertions.assertThat(bulk.totalItems()).isEqualTo(new Quantity(11));
+        Assertions.assertThat(bulk.totalItems()).isEqualTo(oneByOne.totalItems());
+    }
+
+    @Test
+    void shouldKeepItemDataAndIdsBetweenItemsViews() {
+        Order order = Order.draft(new CustomerId());
+        ProductId productId = new ProductId();
+        order.addItem(productId, new ProductName("Mouse pad"), new Money("12.34"), new Quantity(3));
+
+        OrderItem item = order.items().iterator().next();
+
+        Assertions.assertWith(item,
+                i -> Assertions.assertThat(i.orderId()).isEqualTo(order.id()),
+                i -> Assertions.assertThat(i.productId()).isEqualTo(productId),
+                i -> Assertions.assertThat(i.productName()).isEqualTo(new ProductName("Mouse pad")),
+                i -> Assertions.assertThat(i.price()).isEqualTo(new Money("12.34")),
+                i -> Assertions.assertThat(i.quantity()).isEqualTo(new Quantity(3)),
+                i -> Assertions.assertThat(i.totalAmount()).isEqualTo(new Money("37.02"))
+        );
+
+        order.addItem(new ProductId(), new ProductName("RAM Memory"), new Money("50"), new Quantity(1));
+
+        Assertions.assertThat(order.items()).hasSize(2).contains(item);
+    }
+
+    @Test
+    void shouldRebuildExistingOrderFromItems() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        Order existing = Order.existing()
+                .id(order.id())
+                .customerId(order.customerId())
+                .totalAmount(order.totalAmount())
+                .totalItems(order.totalItems())
+                .orderStatus(order.orderStatus())
+                .shippingCost(order.shippingCost())
+                .items(order.items())
+                .build();
+
+        Assertions.assertThat(existing.items()).containsExactlyInAnyOrderElementsOf(order.items());
+
+        existing.addItem(new ProductId(), new ProductName("Cable"), new Money("5"), new Quantity(2));
+
+        Assertions.assertThat(existing.totalAmount()).isEqualTo(order.totalAmount().add(new Money("10")));
+        Assertions.assertThat(existing.totalItems()).isEqualTo(order.totalItems().add(new Quantity(2)));
+    }
+
+    @Test
+    void givenSameProductWhenAddItemShouldMergeLines() {
+        Order order = Order.draft(new CustomerId());
+        ProductId productId = new ProductId();
+
+        order.addItem(productId, new ProductName("Mouse pad"), new Money("100"), new Quantity(1));
+        order.addItem(productId, new ProductName("Mouse pad"), new Money("100"), new Quantity(2));
+
+        Assertions.assertThat(order.items()).hasSize(1);
+        Assertions.assertThat(order.items().iterator().next().quantity()).isEqualTo(new Quantity(3));
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("300"));
+        Assertions.assertThat(order.totalItems()).isEqualTo(new Quantity(3));
+    }
+
+    @Test
+    void givenDraftOrderWhenChangeItemQuantityShouldRecalculateTotals() {
+        Order order = Order.draft(new CustomerId());
+        ProductId mousePad = new ProductId();
+        order.addItem(mousePad, new ProductName("Mouse pad"), new Money("100"), new Quantity(1));
+        order.addItem(new ProductId(), new ProductName("RAM Memory"), new Money("50"), new Quantity(2));
+
+        order.changeItemQuantity(mousePad, new Quantity(4));
+
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("500"));
+        Assertions.assertThat(order.totalItems()).isEqualTo(new Quantity(6));
+        Assertions.assertThat(order.items())
+                .filteredOn(item -> item.productId().equals(mousePad))
+                .singleElement()
+                .extracting(OrderItem::totalAmount)
+                .isEqualTo(new Money("400"));
+    }
+
+    @Test
+    void givenDraftOrderWhenRemoveItemShouldRecalculateTotals() {
+        Order order = Order.draft(new CustomerId());
+        List<ProductId> productIds = List.of(new ProductId(), new ProductId(), new ProductId(), new ProductId());
+        for (ProductId productId : productIds) {
+            order.addItem(productId, new ProductName("Product"), new Money("10"), new Quantity(1));
+        }
+
+        order.removeItem(productIds.get(1));
+        order.removeItem(productIds.get(3));
+
+        Assertions.assertThat(order.items()).extracting(OrderItem::productId)
+                .containsExactlyInAnyOrder(productIds.get(0), productIds.get(2));
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("20"));
+        Assertions.assertThat(order.totalItems()).isEqualTo(new Quantity(2));
+
+        order.changeItemQuantity(productIds.get(2), new Quantity(5));
+        order.addItem(productIds.get(1), new ProductName("Product"), new Money("10"), new Quantity(1));
+
+        Assertions.assertThat(order.items()).hasSize(3);
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("70"));
+    }
+
+    @Test
+    void givenManyProductsWhenRemovingShouldKeepIndexConsistent() {
+        Order order = Order.draft(new CustomerId());
+        List<ProductId> productIds = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ProductId productId = new ProductId();
+            productIds.add(productId);
+            order.addItem(productId, new ProductName("Product " + i), new Money("1"), new Quantity(1));
+        }
+
+        for (int i = 0; i < 500; i += 2) {
+            order.removeItem(productIds.get(i));
+        }
+
+        for (int i = 1; i < 500; i += 2) {
+            order.changeItemQuantity(productIds.get(i), new Quantity(2));
+        }
+
+        Assertions.assertThat(order.items()).hasSize(250);
+        Assertions.assertThat(order.totalItems()).isEqualTo(new Quantity(500));
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("500"));
+    }
+
+    @Test
+    void givenUnknownProductWhenRemoveItemShouldGenerateException() {
+        Order order = Order.draft(new CustomerId());
+
+        Assertions.assertThatExceptionOfType(OrderDoesNotContainProductException.class)
+                .isThrownBy(() -> order.removeItem(new ProductId()));
+        Assertions.assertThatExceptionOfType(OrderDoesNotContainProductException.class)
+                .isThrownBy(() -> order.changeItemQuantity(new ProductId(), new Quantity(1)));
+    }
+
+    @Test
+    void givenPlacedOrderWhenChangeItemsShouldGenerateException() {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build();
+        ProductId productId = order.items().iterator().next().productId();
+
+        Assertions.assertThatExceptionOfType(OrderCannotBeEditedException.class)
+                .isThrownBy(() -> order.removeItem(productId));
+        Assertions.assertThatExceptionOfType(OrderCannotBeEditedException.class)
+                .isThrownBy(() -> order.changeItemQuantity(productId, new Quantity(3)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OrderStatus.class, names = {"PLACED", "PAID", "READY", "CANCELED"})
+    void givenNonDraftOrderWhenAddItemShouldGenerateExceptionWithoutChangingTotals(OrderStatus orderStatus) {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(orderStatus).build();
+        OrderItem existing = order.items().iterator().next();
+        Money totalAmount = order.totalAmount();
+
+        Assertions.assertThatExceptionOfType(OrderCannotBeEditedException.class)
+                .isThrownBy(() -> order.addItem(existing.productId(), existing.productName(), existing.price(),
+                        new Quantity(5)));
+        Assertions.assertThatExceptionOfType(OrderCannotBeEditedException.class)
+                .isThrownBy(() -> order.addItems(List.of(new CartItem(new ProductId(), new ProductName("Mouse"),
+                        new Money("10"), new Quantity(1)))));
+
+        Assertions.assertThat(order.totalAmount()).isEqualTo(totalAmount);
+        Assertions.assertThat(order.items()).hasSize(2);
+    }
+
+    @Test
+    void givenBatchFailingPartwayWhenAddItemsShouldLeaveOrderUnchanged() {
+        Order order = Order.draft(new CustomerId());
+        order.addItem(new ProductId(), new ProductName("Keyboard"), new Money("100"), new Quantity(1));
+        order.pullDomainEvents();
+        Set<OrderItem> items = order.items();
+
+        List<CartItem> cartItems = List.of(
+                new CartItem(new ProductId(), new ProductName("Mouse"), new Money("10"), new Quantity(2)),
+                new CartItem(new ProductId(), new ProductName("Mouse pad"), new Money("5"), Quantity.ZERO));
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> order.addItems(cartItems));
+
+        Assertions.assertThat(order.items()).isEqualTo(items);
+        Assertions.assertThat(order.itemsAmount()).isEqualTo(new Money("100"));
+        Assertions.assertThat(order.totalAmount()).isEqualTo(new Money("100"));
+        Assertions.assertThat(order.totalItems()).isEqualTo(new Quantity(1));
+        Assertions.assertThat(order.domainEvents()).isEmpty();
+    }
+
     @Test
     void givenDraftOrderWhenPlaceShouldChangeToPlaced() {
         Order order = OrderTestDataBuilder.anOrder().build();
@@ -103,6 +319,80 @@ class OrderTest {
                 .isThrownBy(order::place);
     }
 
+    @Test
+    void givenOrderWithoutItemsWhenTryPlaceShouldReturnNotReadyWithoutChanges() {
+        Order order = OrderTestDataBuilder.anOrder().setWithItems(false).build();
+        order.pullDomainEvents();
+
+        Assertions.assertThat(order.tryPlace()).isEqualTo(OrderChangeResult.NOT_READY_TO_PLACE);
+        Assertions.assertThat(order.isDraft()).isTrue();
+        Assertions.assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    void givenDraftWithoutCheckoutDataWhenPlaceShouldGenerateException() {
+        Order order = Order.draft(new CustomerId());
+        order.addItem(new ProductId(), new ProductName("Mouse"), new Money("80"), new Quantity(1));
+
+        Assertions.assertThatExceptionOfType(OrderCannotBePlacedException.class)
+                .isThrownBy(order::place);
+        Assertions.assertThat(order.isDraft()).isTrue();
+    }
+
+    @Test
+    void givenPlacedOrderWhenTryPlaceShouldReturnInvalidTransition() {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build();
+
+        Assertions.assertThat(order.tryPlace()).isEqualTo(OrderChangeResult.INVALID_TRANSITION);
+        Assertions.assertThat(order.isPlaced()).isTrue();
+    }
+
+    @Test
+    void givenDraftOrderWhenTryMarkAsPaidShouldReturnInvalidTransition() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        Assertions.assertThat(order.tryMarkAsPaid()).isEqualTo(OrderChangeResult.INVALID_TRANSITION);
+        Assertions.assertThat(order.paidAt()).isNull();
+
+        order.place();
+        Assertions.assertThat(order.tryMarkAsPaid()).isEqualTo(OrderChangeResult.CHANGED);
+        Assertions.assertThat(order.isPaid()).isTrue();
+    }
+
+    @Test
+    void givenPastDeliveryDateWhenTryChangeShippingShouldKeepShipping() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        ShippingInfo shipping = order.shipping();
+
+        OrderChangeResult result = order.tryChangeShipping(OrderTestDataBuilder.aValidShippingInfo(), Money.ZERO,
+                LocalDate.now().minusDays(1));
+
+        Assertions.assertThat(result).isEqualTo(OrderChangeResult.DELIVERY_DATE_IN_PAST);
+        Assertions.assertThat(order.shipping()).isSameAs(shipping);
+    }
+
+    @Test
+    void givenDeliveryDateOnWeekendShouldRejectShipping() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        LocalDate sunday = DomainClock.today().with(TemporalAdjusters.next(DayOfWeek.SUNDAY));
+
+        Assertions.assertThat(order.tryChangeShipping(OrderTestDataBuilder.aValidShippingInfo(), Money.ZERO, sunday))
+                .isEqualTo(OrderChangeResult.DELIVERY_DATE_NOT_BUSINESS_DAY);
+        Assertions.assertThatExceptionOfType(OrderInvalidShippingDeliveryDateException.class)
+                .isThrownBy(() -> order.changeShipping(OrderTestDataBuilder.aValidShippingInfo(), Money.ZERO, sunday))
+                .withMessageContaining("is not a business day");
+    }
+
+    @Test
+    void givenRejectedChangeShouldThrowExceptionWithoutStackTrace() {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build();
+
+        Assertions.assertThatExceptionOfType(OrderStatusCannotBeChangedException.class)
+                .isThrownBy(order::place)
+                .withMessage("Cannot change order %s status from PLACED to PLACED.", order.id())
+                .satisfies(e -> Assertions.assertThat(e.getStackTrace()).isEmpty());
+    }
+
     @Test
     void givenDraftOrderWhenChangePaymentShouldAllowChange() {
         Order order = Order.draft(new CustomerId());
@@ -171,7 +461,7 @@ class OrderTest {
 
         Order order = Order.draft(new CustomerId());
         Money shippingCost = Money.ZERO;
-        LocalDate expectedDelivery = LocalDate.now().plusDays(5);
+        LocalDate expectedDelivery = OrderTestDataBuilder.aValidDeliveryDate();
 
         order.changeShipping(shippingInfo, shippingCost, expectedDelivery);
 
@@ -226,4 +516,107 @@ class OrderTest {
         Assertions.assertThat(order.isPaid()).isTrue();
         Assertions.assertThat(order.paidAt()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenPaidOrderWhenMarkedAsReadyShouldChangeToReady() {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PAID).build();
+        order.markAsReady();
+
+        Assertions.assertThat(order.isReady()).isTrue();
+        Assertions.assertThat(order.readyAt()).isNotNull();
+    }
+
+    @Test
+    void givenPlacedOrderWhenCanceledShouldChangeToCanceled() {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build();
+        order.cancel();
+
+        Assertions.assertThat(order.isCanceled()).isTrue();
+        Assertions.assertThat(order.canceledAt()).isNotNull();
+    }
+
+    @Test
+    void givenDraftOrderWhenMarkedAsPaidShouldNotChangePaidAt() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        Assertions.assertThatExceptionOfType(OrderStatusCannotBeChangedException.class)
+                .isThrownBy(order::markAsPaid);
+        Assertions.assertThat(order.paidAt()).isNull();
+    }
+
+    @Test
+    void givenOrderLifecycleShouldRecordEventsInOrder() {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PAID).build();
+
+        List<OrderEvent> events = order.pullDomainEvents();
+
+        Assertions.assertThat(events).extracting(event -> event.getClass().getSimpleName()).containsExactly(
+                "OrderDraftedEvent",
+                "OrderShippingChangedEvent",
+                "OrderBillingChangedEvent",
+                "OrderPaymentMethodChangedEvent",
+                "OrderItemAddedEvent",
+                "OrderItemAddedEvent",
+                "OrderStatusChangedEvent",
+                "OrderStatusChangedEvent");
+        Assertions.assertThat(events).allMatch(event -> event.orderId().equals(order.id()));
+        Assertions.assertThat(order.pullDomainEvents()).isEmpty();
+    }
+
+    @Test
+    void givenStatusChangeShouldRecordTransitionAndTotals() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        order.pullDomainEvents();
+
+        order.place();
+
+        Assertions.assertThat(order.pullDomainEvents()).singleElement()
+                .isInstanceOfSatisfying(OrderStatusChangedEvent.class, event -> {
+                    Assertions.assertThat(event.from()).isEqualTo(OrderStatus.DRAFT);
+                    Assertions.assertThat(event.to()).isEqualTo(OrderStatus.PLACED);
+                    Assertions.assertThat(event.totalAmount()).isEqualTo(order.totalAmount());
+                    Assertions.assertThat(event.occurredAt()).isEqualTo(order.placedAt());
+                });
+    }
+
+    @Test
+    void givenRepeatedProductShouldRecordExistingLineId() {
+        Order order = Order.draft(new CustomerId());
+        ProductId productId = new ProductId();
+
+        order.addItem(productId, new ProductName("Mouse pad"), new Money("100"), new Quantity(1));
+        order.addItem(productId, new ProductName("Mouse pad"), new Money("100"), new Quantity(2));
+
+        OrderItemId orderItemId = order.items().iterator().next().id();
+        Assertions.assertThat(order.pullDomainEvents()).filteredOn(OrderItemAddedEvent.class::isInstance)
+                .extracting(event -> ((OrderItemAddedEvent) event).orderItemId())
+                .containsExactly(orderItemId, orderItemId);
+    }
+
+    @Test
+    void givenInvalidTransitionShouldNotRecordEvent() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        order.pullDomainEvents();
+
+        Assertions.assertThatExceptionOfType(OrderStatusCannotBeChangedException.class)
+                .isThrownBy(order::markAsPaid);
+        Assertions.assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    void givenCopyWhenChangedShouldNotAffectOriginal() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        ProductId productId = order.items().iterator().next().productId();
+
+        Order copy = order.copy();
+        copy.changeItemQuantity(productId, new Quantity(10));
+        copy.addItem(new ProductId(), new ProductName("Mouse pad"), new Money("100"), new Quantity(1));
+
+        Assertions.assertThat(copy.domainEvents()).hasSize(2);
+        Assertions.assertThat(copy.version()).isEqualTo(order.version());
+        Assertions.assertThat(copy.items()).hasSize(3);
+        Assertions.assertThat(order.items()).hasSize(2);
+        Assertions.assertThat(order.totalAmount()).isNotEqualTo(copy.totalAmount());
+        Assertions.assertThat(order.items()).extracting(OrderItem::quantity).doesNotContain(new Quantity(10));
+    }
+}
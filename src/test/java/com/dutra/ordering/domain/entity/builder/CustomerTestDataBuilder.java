@@ -0,0 +1,64 @@
+package com.dutra.ordering.domain.entity.builder;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.valueobjects.*;
+
+import java.time.LocalDate;
+
+public class CustomerTestDataBuilder {
+
+    private FullName fullName = new FullName("João", "da Silva");
+    private BirthDate birthDate = new BirthDate(LocalDate.of(1990, 5, 20));
+    private Email email = new Email("joao@email.com");
+    private Phone phone = new Phone("48999999999");
+    private Document document = new Document("12345678900");
+    private Boolean promotionNotificationsAllowed = true;
+    private Address address = OrderTestDataBuilder.anAddress();
+
+    private CustomerTestDataBuilder() {
+    }
+
+    public static CustomerTestDataBuilder aCustomer() {
+        return new CustomerTestDataBuilder();
+    }
+
+    public Customer build() {
+        return Customer.brandNew(fullName, birthDate, email, phone, document, promotionNotificationsAllowed, address);
+    }
+
+    // Setters
+    public CustomerTestDataBuilder setFullName(FullName fullName) {
+        this.fullName = fullName;
+        return this;
+    }
+
+    public CustomerTestDataBuilder setBirthDate(BirthDate birthDate) {
+        this.birthDate = birthDate;
+        return this;
+    }
+
+    public CustomerTestDataBuilder setEmail(Email email) {
+        this.email = email;
+        return this;
+    }
+
+    public CustomerTestDataBuilder setPhone(Phone phone) {
+        this.phone = phone;
+        return this;
+    }
+
+    public CustomerTestDataBuilder setDocument(Document document) {
+        this.document = document;
+        return this;
+    }
+
+    public CustomerTestDataBuilder setPromotionNotificationsAllowed(Boolean promotionNotificationsAllowed) {
+        this.promotionNotificationsAllowed = promotionNotificationsAllowed;
+        return this;
+    }
+
+    public CustomerTestDataBuilder setAddress(Address address) {
+        this.address = address;
+        return this;
+    }
+}
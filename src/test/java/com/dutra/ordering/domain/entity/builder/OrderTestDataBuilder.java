@@ -3,6 +3,8 @@ package com.dutra.ordering.domain.entity.builder;
 import com.dutra.ordering.domain.entity.Order;
 import com.dutra.ordering.domain.entity.enums.OrderStatus;
 import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.utility.BusinessCalendar;
+import com.dutra.ordering.domain.utility.DomainClock;
 import com.dutra.ordering.domain.valueobjects.*;
 import com.dutra.ordering.domain.valueobjects.id.CustomerId;
 import com.dutra.ordering.domain.valueobjects.id.ProductId;
@@ -14,13 +16,20 @@ public class OrderTestDataBuilder {
     private CustomerId customerId = new CustomerId();
     private PaymentMethods paymentMethod = PaymentMethods.GATEWAY_BALANCE;
     private Money shippingCost = new Money("10");
-    private LocalDate expectedDeliveryDate = LocalDate.now().plusDays(7);
+    private LocalDate expectedDeliveryDate = aValidDeliveryDate();
     private ShippingInfo shippingInfo = aValidShippingInfo();
     private BillingInfo billingInfo = aValidBillingInfo();
 
     private boolean withItems = true;
     private OrderStatus orderStatus = OrderStatus.DRAFT;
 
+    /**
+     * Cinco dias úteis a partir de hoje.
+     */
+    public static LocalDate aValidDeliveryDate() {
+        return BusinessCalendar.current().addBusinessDays(DomainClock.today(), 5);
+    }
+
     public static ShippingInfo aValidShippingInfo() {
         return new ShippingInfo(
                 new FullName("Fulano", "de Tal"),
@@ -89,10 +98,12 @@ public class OrderTestDataBuilder {
                 order.markAsPaid();
             }
             case READY -> {
-
+                order.place();
+                order.markAsPaid();
+                order.markAsReady();
             }
             case CANCELED -> {
-
+                order.cancel();
             }
         }
 
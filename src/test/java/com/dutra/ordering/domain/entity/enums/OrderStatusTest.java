@@ -4,6 +4,10 @@ package com.dutra.ordering.domain.entity.enums;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 
 class OrderStatusTest {
 
@@ -14,6 +18,25 @@ class OrderStatusTest {
         Assertions.assertThat(OrderStatus.PAID.canChangeTo(OrderStatus.DRAFT)).isFalse();
     }
 
+    @Test
+    void shouldAllowOnlyDeclaredTransitions() {
+        Map<OrderStatus, Set<OrderStatus>> allowed = Map.of(
+                OrderStatus.DRAFT, EnumSet.of(OrderStatus.PLACED, OrderStatus.CANCELED),
+                OrderStatus.PLACED, EnumSet.of(OrderStatus.PAID, OrderStatus.CANCELED),
+                OrderStatus.PAID, EnumSet.of(OrderStatus.READY, OrderStatus.CANCELED),
+                OrderStatus.READY, EnumSet.of(OrderStatus.CANCELED),
+                OrderStatus.CANCELED, EnumSet.noneOf(OrderStatus.class)
+        );
+
+        for (OrderStatus from : OrderStatus.values()) {
+            for (OrderStatus to : OrderStatus.values()) {
+                Assertions.assertThat(from.canChangeTo(to))
+                        .as("%s -> %s", from, to)
+                        .isEqualTo(allowed.get(from).contains(to));
+            }
+        }
+    }
+
     @Test
     void canNotChangeTo() {
         Assertions.assertThat(OrderStatus.PLACED.canNotChangeTo(OrderStatus.DRAFT)).isTrue();
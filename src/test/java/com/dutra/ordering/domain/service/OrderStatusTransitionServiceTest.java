@@ -0,0 +1,59 @@
+package com.dutra.ordering.domain.service;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.service.OrderTransitionResult.Outcome;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class OrderStatusTransitionServiceTest {
+
+    private final OrderStatusTransitionService service = new OrderStatusTransitionService();
+
+    @Test
+    void givenPlacedOrdersWhenTransitionToPaidShouldMarkAllAsPaid() {
+        List<Order> orders = List.of(
+                OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build(),
+                OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build()
+        );
+
+        List<OrderTransitionResult> results = service.transition(orders, OrderStatus.PAID);
+
+        Assertions.assertThat(results).allMatch(OrderTransitionResult::isChanged);
+        Assertions.assertThat(orders).allMatch(Order::isPaid);
+        Assertions.assertThat(orders).allMatch(order -> order.paidAt() != null);
+    }
+
+    @Test
+    void givenMixedOrdersWhenTransitionShouldReportEachResultWithoutThrowing() {
+        Order placed = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build();
+        Order draft = OrderTestDataBuilder.anOrder().build();
+        Order canceled = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.CANCELED).build();
+
+        List<OrderTransitionResult> results = service.transition(List.of(placed, draft, canceled), OrderStatus.PAID);
+
+        Assertions.assertThat(results).extracting(OrderTransitionResult::outcome)
+                .containsExactly(Outcome.CHANGED, Outcome.INVALID_TRANSITION, Outcome.INVALID_TRANSITION);
+        Assertions.assertThat(results).extracting(OrderTransitionResult::orderId)
+                .containsExactly(placed.id(), draft.id(), canceled.id());
+        Assertions.assertThat(draft.orderStatus()).isEqualTo(OrderStatus.DRAFT);
+        Assertions.assertThat(draft.paidAt()).isNull();
+    }
+
+    @Test
+    void givenIncompleteDraftWhenTransitionToPlacedShouldReportNotReady() {
+        Order incomplete = Order.draft(new CustomerId());
+        Order complete = OrderTestDataBuilder.anOrder().build();
+
+        List<OrderTransitionResult> results = service.transition(List.of(incomplete, complete), OrderStatus.PLACED);
+
+        Assertions.assertThat(results).extracting(OrderTransitionResult::outcome)
+                .containsExactly(Outcome.NOT_READY_TO_PLACE, Outcome.CHANGED);
+        Assertions.assertThat(incomplete.isDraft()).isTrue();
+        Assertions.assertThat(complete.isPlaced()).isTrue();
+    }
+}
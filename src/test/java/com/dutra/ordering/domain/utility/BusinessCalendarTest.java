@@ -0,0 +1,94 @@
+package com.dutra.ordering.domain.utility;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+class BusinessCalendarTest {
+
+    private final BusinessCalendar calendar = BusinessCalendar.brazil(2025, 2027, List.of(LocalDate.of(2026, 3, 19)));
+
+    @Test
+    void givenEasterShouldMatchKnownDates() {
+        Assertions.assertThat(BusinessCalendar.easterSunday(2025)).isEqualTo(LocalDate.of(2025, 4, 20));
+        Assertions.assertThat(BusinessCalendar.easterSunday(2026)).isEqualTo(LocalDate.of(2026, 4, 5));
+        Assertions.assertThat(BusinessCalendar.easterSunday(2027)).isEqualTo(LocalDate.of(2027, 3, 28));
+    }
+
+    @Test
+    void givenWeekendsAndHolidaysShouldNotBeBusinessDays() {
+        Assertions.assertThat(calendar.isBusinessDay(LocalDate.of(2026, 10, 16))).isTrue();
+        Assertions.assertThat(calendar.isBusinessDay(LocalDate.of(2026, 10, 17))).isFalse();
+        Assertions.assertThat(calendar.isBusinessDay(LocalDate.of(2026, 10, 12))).isFalse();
+        Assertions.assertThat(calendar.isBusinessDay(LocalDate.of(2026, 2, 17))).isFalse();
+        Assertions.assertThat(calendar.isBusinessDay(LocalDate.of(2026, 4, 3))).isFalse();
+        Assertions.assertThat(calendar.isBusinessDay(LocalDate.of(2026, 6, 4))).isFalse();
+        Assertions.assertThat(calendar.isBusinessDay(LocalDate.of(2026, 3, 19))).isFalse();
+    }
+
+    @Test
+    void givenBusinessDaysToAddShouldSkipWeekendsAndHolidays() {
+        // Sexta, 9 de outubro de 2026: segunda 12 é feriado
+        LocalDate friday = LocalDate.of(2026, 10, 9);
+
+        Assertions.assertThat(calendar.addBusinessDays(friday, 0)).isEqualTo(friday);
+        Assertions.assertThat(calendar.addBusinessDays(friday, 1)).isEqualTo(LocalDate.of(2026, 10, 13));
+        Assertions.assertThat(calendar.addBusinessDays(friday, 5)).isEqualTo(LocalDate.of(2026, 10, 19));
+        Assertions.assertThat(calendar.addBusinessDays(LocalDate.of(2026, 10, 10), 1))
+                .isEqualTo(LocalDate.of(2026, 10, 13));
+    }
+
+    @Test
+    void givenDatesOutsideRangeShouldMatchDayByDayCount() {
+        BusinessCalendar weekendsOnly = new BusinessCalendar(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31),
+                EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), List.of());
+
+        for (LocalDate date = LocalDate.of(2026, 12, 1); date.isBefore(LocalDate.of(2027, 1, 10)); date = date.plusDays(1)) {
+            for (int days = 0; days < 30; days++) {
+                Assertions.assertThat(weekendsOnly.addBusinessDays(date, days)).isEqualTo(countDayByDay(date, days));
+            }
+        }
+    }
+
+    @Test
+    void givenWeekendCoveringWholeWeekShouldRejectCalendar() {
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> new BusinessCalendar(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), EnumSet.allOf(DayOfWeek.class), List.of()));
+    }
+
+    @Test
+    void givenEveryDayInRangeIsHolidayShouldFindBusinessDayAfterIt() {
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 31);
+        BusinessCalendar closedMonth = new BusinessCalendar(from, to, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+                from.datesUntil(to.plusDays(1)).toList());
+
+        Assertions.assertThat(closedMonth.addBusinessDays(LocalDate.of(2026, 10, 14), 2))
+                .isEqualTo(LocalDate.of(2026, 11, 3));
+    }
+
+    @Test
+    void givenDeliveryDateShouldRequireBusinessDayFromToday() {
+        LocalDate today = LocalDate.of(2026, 10, 14);
+
+        Assertions.assertThat(calendar.isValidDeliveryDate(today, today)).isTrue();
+        Assertions.assertThat(calendar.isValidDeliveryDate(LocalDate.of(2026, 10, 13), today)).isFalse();
+        Assertions.assertThat(calendar.isValidDeliveryDate(LocalDate.of(2026, 10, 18), today)).isFalse();
+    }
+
+    // Métodos Auxiliares
+    private static LocalDate countDayByDay(LocalDate date, int days) {
+        LocalDate result = date;
+        while (days > 0) {
+            result = result.plusDays(1);
+            if (result.getDayOfWeek() != DayOfWeek.SATURDAY && result.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days--;
+            }
+        }
+        return result;
+    }
+}
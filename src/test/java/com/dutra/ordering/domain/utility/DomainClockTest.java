@@ -0,0 +1,37 @@
+package com.dutra.ordering.domain.utility;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+class DomainClockTest {
+
+    @AfterEach
+    void tearDown() {
+        DomainClock.useSystem(ZoneId.systemDefault());
+    }
+
+    @Test
+    void givenFixedClockShouldReturnItsTime() {
+        Instant instant = Instant.parse("2026-03-10T12:00:00Z");
+        DomainClock.use(Clock.fixed(instant, ZoneOffset.ofHours(-3)));
+
+        Assertions.assertThat(DomainClock.instant()).isEqualTo(instant);
+        Assertions.assertThat(DomainClock.now()).isEqualTo(OffsetDateTime.of(2026, 3, 10, 9, 0, 0, 0, ZoneOffset.ofHours(-3)));
+        Assertions.assertThat(DomainClock.today()).isEqualTo(LocalDate.of(2026, 3, 10));
+    }
+
+    @Test
+    void givenCoarseClockShouldAdvanceByTicks() throws InterruptedException {
+        DomainClock.useCoarse(ZoneId.systemDefault(), Duration.ofMillis(1));
+        Instant start = DomainClock.instant();
+
+        Thread.sleep(50);
+
+        Assertions.assertThat(DomainClock.instant()).isAfter(start);
+        Assertions.assertThat(Duration.between(DomainClock.instant(), Instant.now()))
+                .isLessThan(Duration.ofSeconds(1));
+    }
+}
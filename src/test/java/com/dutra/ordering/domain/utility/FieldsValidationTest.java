@@ -0,0 +1,72 @@
+package com.dutra.ordering.domain.utility;
+
+import org.apache.commons.validator.routines.EmailValidator;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class FieldsValidationTest {
+
+    private static final List<String> EMAILS = List.of(
+            "joao@email.com",
+            "joao.silva+compras@email.com.br",
+            "\"joao silva\"@email.com",
+            "joao@[127.0.0.1]",
+            "joao@[::1]",
+            "joao@[IPv6:::1]",
+            "joao@email\u3002com",
+            "joao@email\uFF0Ecom",
+            "joao@email\u2024com",
+            "xxx@xxx.xxx",
+            "joaoemail.com",
+            "@email.com",
+            "joao@",
+            "joao@email",
+            "joao@email.",
+            "joao@.com",
+            "joao@email.invalidtld",
+            "jo ao@email.com",
+            "joao@@email.com",
+            "a@b.co"
+    );
+
+    @Test
+    void shouldAgreeWithEmailValidator() {
+        EmailValidator validator = EmailValidator.getInstance();
+
+        for (String email : EMAILS) {
+            Assertions.assertThat(FieldsValidation.isValidEmail(email)).as(email).isEqualTo(validator.isValid(email));
+            // Segunda chamada pode vir do cache
+            Assertions.assertThat(FieldsValidation.isValidEmail(email)).as(email).isEqualTo(validator.isValid(email));
+        }
+    }
+
+    @Test
+    void shouldAcceptIpv6DomainLiteral() {
+        Assertions.assertThat(FieldsValidation.isValidEmail("a@[::1]")).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidEmail() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> FieldsValidation.requiresValidEmail("joaoemail.com"))
+                .withMessage("Email is invalid.");
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> FieldsValidation.requiresValidEmail(" "))
+                .withMessage("Email is blank.");
+    }
+
+    @Test
+    void shouldValidateAllDistinctEmails() {
+        Map<String, Boolean> results = FieldsValidation.validateAll(List.of(
+                "joao@email.com", "maria@email.com", "joao@email.com", "invalid"));
+
+        Assertions.assertThat(results).containsOnly(
+                Map.entry("joao@email.com", true),
+                Map.entry("maria@email.com", true),
+                Map.entry("invalid", false)
+        );
+    }
+}
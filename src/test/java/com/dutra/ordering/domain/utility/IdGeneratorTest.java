@@ -0,0 +1,110 @@
+package com.dutra.ordering.domain.utility;
+
+import io.hypersistence.tsid.TSID;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+class IdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @AfterEach
+    void restoreSharedMode() {
+        IdGenerator.useShared();
+    }
+
+    @Test
+    void givenStripedModeWhenGeneratingConcurrentlyShouldNeverDuplicate() throws Exception {
+        IdGenerator.useStriped(3, 4, 4, 32);
+
+        Set<Long> tsids = ConcurrentHashMap.newKeySet();
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                tsids.add(IdGenerator.generateTSID().toLong());
+                uuids.add(IdGenerator.generateTimeBasedUUID());
+            }
+        });
+
+        Assertions.assertThat(tsids).hasSize(THREADS * IDS_PER_THREAD);
+        Assertions.assertThat(uuids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    void givenStripedModeShouldGenerateIncreasingIdsPerThread() {
+        IdGenerator.useStriped(0, 1, 4, 16);
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long current = IdGenerator.generateTSID().toLong();
+            Assertions.assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    void givenStripedModeShouldKeepTimeComponent() {
+        IdGenerator.useStriped(1, 2, 8, 1);
+
+        long before = System.currentTimeMillis();
+        TSID tsid = IdGenerator.generateTSID();
+
+        Assertions.assertThat(tsid.getUnixMilliseconds()).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void givenDistinctNodesShouldNeverCollide() throws Exception {
+        IdGenerator.useStriped(0, 2, 1, 1);
+        List<Long> first = new ArrayList<>();
+        for (int i = 0; i < IDS_PER_THREAD; i++) {
+            first.add(IdGenerator.generateTSID().toLong());
+        }
+
+        IdGenerator.useStriped(1, 2, 1, 1);
+        Set<Long> all = ConcurrentHashMap.newKeySet();
+        all.addAll(first);
+        for (int i = 0; i < IDS_PER_THREAD; i++) {
+            all.add(IdGenerator.generateTSID().toLong());
+        }
+
+        Assertions.assertThat(all).hasSize(2 * IDS_PER_THREAD);
+    }
+
+    @Test
+    void shouldRejectInvalidNode() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> IdGenerator.useStriped(4, 4, 1, 1));
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> IdGenerator.useStriped(0, 1 << 12, 1 << 12, 1));
+    }
+
+    private static void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -19,6 +19,12 @@ class LoyaltyPointsTest {
         Assertions.assertThat(loyaltyPoints.add(5).points()).isEqualTo(15);
     }
 
+    @Test
+    void shouldReturnCachedInstanceForSmallValues() {
+        Assertions.assertThat(LoyaltyPoints.of(0)).isSameAs(LoyaltyPoints.ZERO);
+        Assertions.assertThat(LoyaltyPoints.of(10).add(5)).isSameAs(LoyaltyPoints.of(15));
+    }
+
     @Test
     void shouldNotAddValue() {
         LoyaltyPoints loyaltyPoints = new LoyaltyPoints(10);
@@ -0,0 +1,44 @@
+package com.dutra.ordering.domain.valueobjects;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertToCents() {
+        Assertions.assertThat(new Money("129.90").cents()).isEqualTo(12990L);
+        Assertions.assertThat(new Money("0.005").cents()).isEqualTo(0L);
+        Assertions.assertThat(Money.ZERO.cents()).isZero();
+    }
+
+    @Test
+    void shouldCreateFromCents() {
+        Assertions.assertThat(Money.ofCents(12990)).isEqualTo(new Money("129.90"));
+        Assertions.assertThat(Money.ofCents(12990).value().scale()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnCachedInstanceForWholeUnits() {
+        Assertions.assertThat(Money.ofCents(0)).isSameAs(Money.ZERO);
+        Assertions.assertThat(Money.ofCents(10000)).isSameAs(Money.ofCents(10000));
+        Assertions.assertThat(Money.ofCents(10000)).isEqualTo(new Money("100"));
+        Assertions.assertThat(Money.ofCents(10050)).isNotSameAs(Money.ofCents(10050));
+    }
+
+    @Test
+    void shouldNotCreateFromNegativeCents() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Money.ofCents(-1));
+    }
+
+    @Test
+    void shouldNotConvertWhenCentsOverflow() {
+        Money huge = new Money(BigDecimal.valueOf(Long.MAX_VALUE));
+
+        Assertions.assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(huge::cents);
+    }
+}
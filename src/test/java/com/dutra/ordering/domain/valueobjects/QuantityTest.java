@@ -0,0 +1,31 @@
+package com.dutra.ordering.domain.valueobjects;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class QuantityTest {
+
+    @Test
+    void shouldReturnCachedInstanceForSmallValues() {
+        Assertions.assertThat(Quantity.of(0)).isSameAs(Quantity.ZERO);
+        Assertions.assertThat(Quantity.of(42)).isSameAs(Quantity.of(42));
+        Assertions.assertThat(Quantity.of(42)).isEqualTo(new Quantity(42));
+    }
+
+    @Test
+    void shouldCreateNewInstanceOutsideCachedRange() {
+        Assertions.assertThat(Quantity.of(100_000)).isEqualTo(new Quantity(100_000));
+        Assertions.assertThat(Quantity.of(100_000)).isNotSameAs(Quantity.of(100_000));
+    }
+
+    @Test
+    void shouldNotCreateNegative() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Quantity.of(-1));
+    }
+
+    @Test
+    void shouldAdd() {
+        Assertions.assertThat(Quantity.of(3).add(Quantity.of(4))).isSameAs(Quantity.of(7));
+    }
+}
@@ -0,0 +1,63 @@
+package com.dutra.ordering.infrastructure.catalog;
+
+import com.dutra.ordering.application.catalog.CatalogProduct;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.UUID;
+
+class FileProductCatalogTest {
+
+    private static final UUID NOTEBOOK = UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenCsvShouldFindProductsById() throws Exception {
+        Path file = Files.writeString(directory.resolve("products.csv"), """
+                productId,price,productName
+                %s,4500.00,Notebook 14", 16GB, SSD
+
+                """.formatted(NOTEBOOK));
+
+        FileProductCatalog catalog = new FileProductCatalog(file);
+
+        Assertions.assertThat(catalog.findById(new ProductId(NOTEBOOK))).contains(new CatalogProduct(
+                new ProductId(NOTEBOOK), new ProductName("Notebook 14\", 16GB, SSD"), new Money("4500.00")));
+        Assertions.assertThat(catalog.findById(new ProductId())).isEmpty();
+    }
+
+    @Test
+    void givenModifiedFileShouldReload() throws Exception {
+        Path file = Files.writeString(directory.resolve("products.csv"), """
+                productId,price,productName
+                %s,4500.00,Notebook
+                """.formatted(NOTEBOOK));
+        FileProductCatalog catalog = new FileProductCatalog(file);
+
+        Files.writeString(file, """
+                productId,price,productName
+                %s,3999.90,Notebook
+                """.formatted(NOTEBOOK));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+
+        Assertions.assertThat(catalog.findById(new ProductId(NOTEBOOK)))
+                .hasValueSatisfying(product -> Assertions.assertThat(product.price()).isEqualTo(new Money("3999.90")));
+    }
+
+    @Test
+    void givenMissingFileShouldBeEmpty() {
+        FileProductCatalog catalog = new FileProductCatalog(directory.resolve("missing.csv"));
+
+        Assertions.assertThat(catalog.findById(new ProductId(NOTEBOOK))).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.dutra.ordering.infrastructure.codec;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+class BinaryEncodingTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE})
+    void givenLongShouldRoundTripAsVarint(long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+
+        BinaryEncoding.putVarLong(buffer, value);
+        BinaryEncoding.putSignedVarLong(buffer, value);
+        buffer.flip();
+
+        Assertions.assertThat(BinaryEncoding.getVarLong(buffer)).isEqualTo(value);
+        Assertions.assertThat(BinaryEncoding.getSignedVarLong(buffer)).isEqualTo(value);
+    }
+
+    @Test
+    void givenSmallValuesShouldUseOneByte() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+
+        BinaryEncoding.putVarLong(buffer, 127);
+        BinaryEncoding.putSignedVarLong(buffer, -64);
+
+        Assertions.assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Mouse pad", "João Ávila", "日本語", "emoji 😀 ok"})
+    void givenStringShouldRoundTripAsUtf8(String value) {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        BinaryEncoding.putString(buffer, value);
+
+        Assertions.assertThat(BinaryEncoding.utf8Length(value)).isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(BinaryEncoding.getString(buffer.flip())).isEqualTo(value);
+    }
+
+    @Test
+    void givenNullsShouldRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        BinaryEncoding.putString(buffer, null);
+        BinaryEncoding.putTimestamp(buffer, null);
+        BinaryEncoding.putDate(buffer, null);
+        buffer.flip();
+
+        Assertions.assertThat(BinaryEncoding.getString(buffer)).isNull();
+        Assertions.assertThat(BinaryEncoding.getTimestamp(buffer)).isNull();
+        Assertions.assertThat(BinaryEncoding.getDate(buffer)).isNull();
+    }
+
+    @Test
+    void givenTimestampsShouldKeepMicrosAndOffset() {
+        OffsetDateTime brazil = OffsetDateTime.of(2024, 3, 10, 14, 30, 15, 123_456_000, ZoneOffset.ofHours(-3));
+        OffsetDateTime odd = OffsetDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000, ZoneOffset.ofHoursMinutesSeconds(0, 17, 30));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        BinaryEncoding.putTimestamp(buffer, brazil);
+        BinaryEncoding.putTimestamp(buffer, odd);
+        BinaryEncoding.putDate(buffer, LocalDate.of(1900, 1, 1));
+        buffer.flip();
+
+        Assertions.assertThat(BinaryEncoding.getTimestamp(buffer)).isEqualTo(brazil);
+        Assertions.assertThat(BinaryEncoding.getTimestamp(buffer)).isEqualTo(odd);
+        Assertions.assertThat(BinaryEncoding.getDate(buffer)).isEqualTo(LocalDate.of(1900, 1, 1));
+    }
+}
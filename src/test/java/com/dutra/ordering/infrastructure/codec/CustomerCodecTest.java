@@ -0,0 +1,70 @@
+package com.dutra.ordering.infrastructure.codec;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.entity.builder.CustomerTestDataBuilder;
+import com.dutra.ordering.domain.valueobjects.LoyaltyPoints;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+class CustomerCodecTest {
+
+    @Test
+    void givenCustomerShouldRoundTrip() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().build();
+        customer.addLoyaltyPoints(new LoyaltyPoints(1_500));
+
+        assertSameCustomer(roundTrip(customer), customer);
+    }
+
+    @Test
+    void givenArchivedCustomerShouldRoundTrip() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().setPromotionNotificationsAllowed(false).build();
+        customer.archive();
+
+        Customer decoded = roundTrip(customer);
+
+        assertSameCustomer(decoded, customer);
+        Assertions.assertThat(decoded.isArchived()).isTrue();
+    }
+
+    @Test
+    void givenSavedCustomerShouldKeepItsVersion() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().build();
+        customer.incrementVersion();
+        customer.incrementVersion();
+
+        Assertions.assertThat(roundTrip(customer).version()).isEqualTo(2);
+    }
+
+    @Test
+    void givenUnknownVersionShouldReject() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        CustomerCodec.encode(buffer, CustomerTestDataBuilder.aCustomer().build());
+        buffer.put(0, (byte) 0).flip();
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> CustomerCodec.decode(buffer));
+    }
+
+    private static Customer roundTrip(Customer customer) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        CustomerCodec.encode(buffer, customer);
+        buffer.flip();
+
+        Customer decoded = CustomerCodec.decode(buffer);
+
+        Assertions.assertThat(buffer.hasRemaining()).isFalse();
+        return decoded;
+    }
+
+    private static void assertSameCustomer(Customer actual, Customer expected) {
+        Assertions.assertThat(actual)
+                .usingRecursiveComparison()
+                .withEqualsForType((a, b) -> a.truncatedTo(ChronoUnit.MICROS).isEqual(b.truncatedTo(ChronoUnit.MICROS)),
+                        OffsetDateTime.class)
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,98 @@
+package com.dutra.ordering.infrastructure.codec;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.OrderItem;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+class OrderCodecTest {
+
+    @ParameterizedTest
+    @EnumSource(OrderStatus.class)
+    void givenOrderShouldRoundTrip(OrderStatus orderStatus) {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(orderStatus).build();
+
+        Order decoded = roundTrip(order, ByteBuffer.allocate(1024));
+
+        assertSameOrder(decoded, order);
+    }
+
+    @Test
+    void givenDirectBufferAndDraftWithoutDetailsShouldRoundTrip() {
+        Order order = Order.draft(new CustomerId());
+        order.addItem(new ProductId(), new ProductName("Café ☕ especial"), new Money("19.99"), new Quantity(2));
+
+        Order decoded = roundTrip(order, ByteBuffer.allocateDirect(1024));
+
+        assertSameOrder(decoded, order);
+        Assertions.assertThat(decoded.shipping()).isNull();
+        Assertions.assertThat(decoded.items().iterator().next().productName().value()).isEqualTo("Café ☕ especial");
+    }
+
+    @Test
+    void givenSavedOrderShouldKeepItsVersion() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        order.incrementVersion();
+        order.incrementVersion();
+
+        Assertions.assertThat(roundTrip(order, ByteBuffer.allocate(1024)).version()).isEqualTo(2);
+    }
+
+    @Test
+    void givenSmallBufferShouldThrowOverflow() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        Assertions.assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> OrderCodec.encode(ByteBuffer.allocate(16), order));
+    }
+
+    @Test
+    void givenUnknownVersionShouldReject() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        OrderCodec.encode(buffer, order);
+        buffer.put(0, (byte) 99).flip();
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> OrderCodec.decode(buffer));
+    }
+
+    private static Order roundTrip(Order order, ByteBuffer buffer) {
+        OrderCodec.encode(buffer, order);
+        buffer.flip();
+
+        Order decoded = OrderCodec.decode(buffer);
+
+        Assertions.assertThat(buffer.hasRemaining()).isFalse();
+        return decoded;
+    }
+
+    private static void assertSameOrder(Order actual, Order expected) {
+        Assertions.assertThat(actual)
+                .usingRecursiveComparison()
+                .withEqualsForType((a, b) -> a.truncatedTo(ChronoUnit.MICROS).isEqual(b.truncatedTo(ChronoUnit.MICROS)),
+                        OffsetDateTime.class)
+                .ignoringFields("items", "domainEvents")
+                .isEqualTo(expected);
+        Assertions.assertThat(actual.items())
+                .extracting(OrderItem::id, OrderItem::productId, OrderItem::productName, OrderItem::price,
+                        OrderItem::quantity, OrderItem::totalAmount)
+                .containsExactlyElementsOf(expected.items().stream()
+                        .map(item -> Assertions.tuple(item.id(), item.productId(), item.productName(), item.price(),
+                                item.quantity(), item.totalAmount()))
+                        .toList());
+    }
+}
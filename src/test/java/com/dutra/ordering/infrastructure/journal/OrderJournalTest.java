@@ -0,0 +1,242 @@
+package com.dutra.ordering.infrastructure.journal;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.OrderItem;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.entity.enums.PaymentMethods;
+import com.dutra.ordering.domain.valueobjects.Money;
+import com.dutra.ordering.domain.valueobjects.ProductName;
+import com.dutra.ordering.domain.valueobjects.Quantity;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.ProductId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class OrderJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenJournaledOrdersWhenReopenedShouldReplayThem() {
+        List<Order> orders = new ArrayList<>();
+
+        try (OrderJournal journal = open(1 << 20, 4)) {
+            for (OrderStatus orderStatus : OrderStatus.values()) {
+                orders.add(write(journal, OrderTestDataBuilder.anOrder().setOrderStatus(orderStatus).build()));
+            }
+            orders.add(write(journal, anEditedCart()));
+        }
+
+        try (OrderJournal journal = open(1 << 20, 4)) {
+            assertSameOrders(journal.replay(), orders);
+        }
+    }
+
+    @Test
+    void givenEventsWrittenInSeveralSavesShouldFoldThemInOrder() {
+        Order order = Order.draft(new CustomerId());
+
+        try (OrderJournal journal = open(1 << 20, 4)) {
+            write(journal, order);
+
+            ProductId productId = new ProductId();
+            order.addItem(productId, new ProductName("Notebook"), new Money("4500"), new Quantity(1));
+            write(journal, order);
+
+            order.changeShipping(OrderTestDataBuilder.aValidShippingInfo(), new Money("25"),
+                    OrderTestDataBuilder.aValidDeliveryDate());
+            order.changeBillingInfo(OrderTestDataBuilder.aValidBillingInfo());
+            order.changePaymentMethod(PaymentMethods.GATEWAY_BALANCE);
+            order.changeItemQuantity(productId, new Quantity(2));
+            order.place();
+            write(journal, order);
+        }
+
+        try (OrderJournal journal = open(1 << 20, 4)) {
+            assertSameOrders(journal.replay(), List.of(order));
+        }
+    }
+
+    @Test
+    void givenManySegmentsWhenCompactedShouldReplayFromSnapshot() throws IOException {
+        List<Order> orders = new ArrayList<>();
+
+        try (OrderJournal journal = open(4096, 1_000)) {
+            for (int i = 0; i < 200; i++) {
+                orders.add(write(journal, OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PAID).build()));
+            }
+            Assertions.assertThat(files(".log")).hasSizeGreaterThan(10);
+
+            journal.compact().join();
+
+            Assertions.assertThat(files(".snap")).hasSize(1);
+            Assertions.assertThat(files(".log")).hasSize(1);
+
+            Order order = orders.getFirst();
+            order.markAsReady();
+            write(journal, order);
+        }
+
+        try (OrderJournal journal = open(4096, 1_000)) {
+            assertSameOrders(journal.replay(), orders);
+        }
+    }
+
+    @Test
+    void givenSegmentThresholdShouldCompactInBackground() throws Exception {
+        List<Order> orders = new ArrayList<>();
+
+        try (OrderJournal journal = open(4096, 2)) {
+            for (int i = 0; i < 100; i++) {
+                orders.add(write(journal, OrderTestDataBuilder.anOrder().build()));
+            }
+        }
+
+        Assertions.assertThat(files(".snap")).isNotEmpty();
+
+        try (OrderJournal journal = open(4096, 2)) {
+            assertSameOrders(journal.replay(), orders);
+        }
+    }
+
+    @Test
+    void givenCorruptedRecordShouldStopReadingTheSegment() throws IOException {
+        try (OrderJournal journal = open(1 << 20, 4)) {
+            write(journal, OrderTestDataBuilder.anOrder().build());
+        }
+
+        Path segment = files(".log").getFirst();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 42), Integer.BYTES);
+        }
+
+        try (OrderJournal journal = open(1 << 20, 4)) {
+            Assertions.assertThat(journal.replay()).isEmpty();
+        }
+    }
+
+    @Test
+    void givenConcurrentWritersShouldCompleteEveryFuture() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            orders.add(OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build());
+        }
+
+        try (OrderJournal journal = open(1 << 16, 4)) {
+            CompletableFuture.allOf(orders.parallelStream()
+                    .map(order -> journal.on(order.pullDomainEvents()))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        try (OrderJournal journal = open(1 << 16, 4)) {
+            assertSameOrders(journal.replay(), orders);
+        }
+    }
+
+    @Test
+    void givenEventThatDoesNotFitInASegmentShouldFailTheSaveWithoutWritingAnyOfItsEvents() {
+        Order order = Order.draft(new CustomerId());
+        order.addItem(new ProductId(), new ProductName("x".repeat(1024)), new Money("10"), new Quantity(1));
+
+        try (OrderJournal journal = open(512, 4)) {
+            Assertions.assertThatThrownBy(() -> journal.on(order.pullDomainEvents()).join())
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+
+        try (OrderJournal journal = open(512, 4)) {
+            Assertions.assertThat(journal.replay()).isEmpty();
+        }
+    }
+
+    @Test
+    void givenClosedJournalShouldFailNewSaves() {
+        OrderJournal journal = open(1 << 20, 4);
+        journal.close();
+
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        Assertions.assertThat(journal.on(order.pullDomainEvents())).isCompletedExceptionally();
+        Assertions.assertThat(journal.compact()).isCompletedExceptionally();
+    }
+
+    private OrderJournal open(int segmentBytes, int compactAfterSegments) {
+        return new OrderJournal(directory, segmentBytes, 64, 1024, compactAfterSegments, 3);
+    }
+
+    private static Order write(OrderJournal journal, Order order) {
+        journal.on(order.pullDomainEvents()).join();
+        return order;
+    }
+
+    private static Order anEditedCart() {
+        Order order = Order.draft(new CustomerId());
+        ProductId kept = new ProductId();
+        ProductId removed = new ProductId();
+
+        order.addItem(kept, new ProductName("Keyboard"), new Money("250.50"), new Quantity(1));
+        order.addItem(removed, new ProductName("Mouse"), new Money("80"), new Quantity(3));
+        order.addItem(kept, new ProductName("Keyboard"), new Money("250.50"), new Quantity(2));
+        order.removeItem(removed);
+
+        return order;
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    // O journal grava instantes com precisão de microssegundos
+    private static OffsetDateTime inMicros(OffsetDateTime value) {
+        return value == null ? null : value.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static void assertSameOrders(List<Order> replayed, List<Order> expected) {
+        Map<Object, Order> byId = replayed.stream().collect(Collectors.toMap(Order::id, Function.identity()));
+        Assertions.assertThat(byId).hasSize(expected.size());
+
+        for (Order order : expected) {
+            Order actual = byId.get(order.id());
+
+            Assertions.assertThat(actual).isNotNull();
+            Assertions.assertThat(actual.customerId()).isEqualTo(order.customerId());
+            Assertions.assertThat(actual.orderStatus()).isEqualTo(order.orderStatus());
+            Assertions.assertThat(actual.totalAmount()).isEqualTo(order.totalAmount());
+            Assertions.assertThat(actual.totalItems()).isEqualTo(order.totalItems());
+            Assertions.assertThat(actual.placedAt()).isEqualTo(inMicros(order.placedAt()));
+            Assertions.assertThat(actual.paidAt()).isEqualTo(inMicros(order.paidAt()));
+            Assertions.assertThat(actual.readyAt()).isEqualTo(inMicros(order.readyAt()));
+            Assertions.assertThat(actual.canceledAt()).isEqualTo(inMicros(order.canceledAt()));
+            Assertions.assertThat(actual.shipping()).isEqualTo(order.shipping());
+            Assertions.assertThat(actual.billing()).isEqualTo(order.billing());
+            Assertions.assertThat(actual.paymentMethod()).isEqualTo(order.paymentMethod());
+            Assertions.assertThat(actual.shippingCost()).isEqualTo(order.shippingCost());
+            Assertions.assertThat(actual.expectedDeliveryDate()).isEqualTo(order.expectedDeliveryDate());
+            Assertions.assertThat(actual.items())
+                    .extracting(OrderItem::id, OrderItem::productId, OrderItem::price, OrderItem::quantity)
+                    .containsExactlyInAnyOrderElementsOf(order.items().stream()
+                            .map(item -> Assertions.tuple(item.id(), item.productId(), item.price(), item.quantity()))
+                            .toList());
+        }
+    }
+}
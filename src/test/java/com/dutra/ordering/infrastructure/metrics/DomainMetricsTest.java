@@ -0,0 +1,113 @@
+package com.dutra.ordering.infrastructure.metrics;
+
+import com.dutra.ordering.application.catalog.ProductCatalog;
+import com.dutra.ordering.application.idempotency.IdempotencyStore;
+import com.dutra.ordering.application.model.OrderItemInput;
+import com.dutra.ordering.application.service.CustomerApplicationService;
+import com.dutra.ordering.application.service.OrderApplicationService;
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.builder.CustomerTestDataBuilder;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.exceptions.CustomerArchivedException;
+import com.dutra.ordering.domain.exceptions.OrderStatusCannotBeChangedException;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryCustomerRepository;
+import com.dutra.ordering.infrastructure.persistence.memory.InMemoryOrderRepository;
+import com.dutra.ordering.infrastructure.shipping.StubCarrierShippingQuoteService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class DomainMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DomainMetrics metrics = new DomainMetrics(registry);
+    private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+    private final InMemoryOrderRepository orderRepository =
+            new InMemoryOrderRepository(List.of(new OrderMetricsListener(registry)));
+    private final OrderApplicationService orderService =
+            new OrderApplicationService(orderRepository, customerRepository,
+                    new StubCarrierShippingQuoteService(), ProductCatalog.EMPTY,
+                    new IdempotencyStore(100, Duration.ofMinutes(1), 1), metrics);
+    private final CustomerApplicationService customerService =
+            new CustomerApplicationService(customerRepository, metrics);
+
+    @Test
+    void givenPlacedOrderShouldCountTransitionAndRecordCartSizeAndValue() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        orderRepository.save(order);
+
+        orderService.addItem(order.id(), new OrderItemInput(UUID.randomUUID(), "Mouse", new BigDecimal("10"), 1));
+        orderService.place(order.id());
+
+        Assertions.assertThat(registry.get("ordering.order.drafted").counter().count()).isEqualTo(1);
+        Assertions.assertThat(transitions("DRAFT", "PLACED")).isEqualTo(1);
+        Assertions.assertThat(transitions("PLACED", "CANCELED")).isZero();
+
+        DistributionSummary cartSize = registry.get("ordering.order.cart.size").summary();
+        DistributionSummary orderValue = registry.get("ordering.order.value").summary();
+        Assertions.assertThat(cartSize.count()).isEqualTo(1);
+        Assertions.assertThat(cartSize.totalAmount()).isEqualTo(4);
+        Assertions.assertThat(orderValue.totalAmount()).isEqualTo(3260);
+    }
+
+    @Test
+    void givenOrderOperationsShouldTimeEachOne() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        orderRepository.save(order);
+
+        orderService.addItem(order.id(), new OrderItemInput(UUID.randomUUID(), "Mouse", new BigDecimal("10"), 1));
+        orderService.addItem(order.id(), new OrderItemInput(UUID.randomUUID(), "Teclado", new BigDecimal("20"), 1));
+        orderService.place(order.id());
+
+        Assertions.assertThat(operations("addItem")).isEqualTo(2);
+        Assertions.assertThat(operations("place")).isEqualTo(1);
+        Assertions.assertThat(operations("cancel")).isZero();
+    }
+
+    @Test
+    void givenInvalidTransitionShouldCountException() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        orderRepository.save(order);
+        orderService.cancel(order.id());
+
+        Assertions.assertThatExceptionOfType(OrderStatusCannotBeChangedException.class)
+                .isThrownBy(() -> orderService.place(order.id()));
+
+        Assertions.assertThat(transitions("DRAFT", "CANCELED")).isEqualTo(1);
+        Assertions.assertThat(exceptions("OrderStatusCannotBeChangedException")).isEqualTo(1);
+    }
+
+    @Test
+    void givenArchivedCustomerShouldCountException() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().build();
+        customerRepository.save(customer);
+        customerService.archive(customer.id());
+
+        Assertions.assertThatExceptionOfType(CustomerArchivedException.class)
+                .isThrownBy(() -> customerService.archive(customer.id()));
+        customerService.tryArchive(customer.id(), OffsetDateTime.now());
+
+        Assertions.assertThat(exceptions("CustomerArchivedException")).isEqualTo(2);
+    }
+
+    // Métodos Auxiliares
+    private double transitions(String from, String to) {
+        return registry.get("ordering.order.transitions").tag("from", from).tag("to", to).counter().count();
+    }
+
+    private long operations(String operation) {
+        return registry.get(DomainMetrics.OPERATION_TIMER).tag("operation", operation).timer().count();
+    }
+
+    private double exceptions(String exception) {
+        return registry.get(DomainMetrics.EXCEPTION_COUNTER).tag("exception", exception).counter().count();
+    }
+}
@@ -0,0 +1,71 @@
+package com.dutra.ordering.infrastructure.persistence.memory;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.entity.builder.CustomerTestDataBuilder;
+import com.dutra.ordering.domain.valueobjects.Email;
+import com.dutra.ordering.domain.valueobjects.LoyaltyPoints;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class InMemoryCustomerRepositoryTest {
+
+    private final InMemoryCustomerRepository repository = new InMemoryCustomerRepository();
+
+    @Test
+    void shouldSaveAndFindByIdAndEmail() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().build();
+
+        repository.save(customer);
+
+        Assertions.assertThat(repository.findById(customer.id())).containsSame(customer);
+        Assertions.assertThat(repository.findByEmail(new Email("joao@email.com"))).containsSame(customer);
+        Assertions.assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenChangedEmailShouldReindex() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().build();
+        repository.save(customer);
+
+        customer.changeEmail(new Email("novo@email.com"));
+        repository.save(customer);
+
+        Assertions.assertThat(repository.findByEmail(new Email("joao@email.com"))).isEmpty();
+        Assertions.assertThat(repository.findByEmail(new Email("novo@email.com"))).containsSame(customer);
+    }
+
+    @Test
+    void givenArchivedCustomerShouldNotBeFoundByEmail() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().build();
+        repository.save(customer);
+
+        customer.archive();
+        repository.save(customer);
+
+        Assertions.assertThat(repository.findByEmail(new Email("joao@email.com"))).isEmpty();
+        Assertions.assertThat(repository.findByEmail(customer.email())).isEmpty();
+        Assertions.assertThat(repository.findById(customer.id())).containsSame(customer);
+    }
+
+    @Test
+    void givenConcurrentUpdatesShouldApplyEveryOne() {
+        Customer customer = CustomerTestDataBuilder.aCustomer().build();
+        repository.save(customer);
+
+        IntStream.range(0, 4_000).parallel()
+                .forEach(i -> repository.update(customer.id(), current -> current.addLoyaltyPoints(LoyaltyPoints.of(1))));
+
+        Customer saved = repository.findById(customer.id()).orElseThrow();
+        Assertions.assertThat(saved.loyaltyPoints().points()).isEqualTo(4_000);
+        Assertions.assertThat(saved.version()).isEqualTo(4_001);
+        Assertions.assertThat(customer.loyaltyPoints()).isEqualTo(LoyaltyPoints.ZERO);
+    }
+
+    @Test
+    void givenUnknownCustomerShouldNotUpdate() {
+        Assertions.assertThat(repository.update(new CustomerId(), Customer::archive)).isEmpty();
+    }
+}
@@ -0,0 +1,273 @@
+package com.dutra.ordering.infrastructure.persistence.memory;
+
+import com.dutra.ordering.domain.entity.Order;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.entity.enums.OrderStatus;
+import com.dutra.ordering.domain.event.OrderEvent;
+import com.dutra.ordering.domain.event.OrderEventListener;
+import com.dutra.ordering.domain.exceptions.OrderStatusCannotBeChangedException;
+import com.dutra.ordering.domain.utility.DomainClock;
+import com.dutra.ordering.domain.valueobjects.id.CustomerId;
+import com.dutra.ordering.domain.valueobjects.id.OrderId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class InMemoryOrderRepositoryTest {
+
+    private final InMemoryOrderRepository repository = new InMemoryOrderRepository();
+
+    @Test
+    void shouldSaveAndFindById() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        repository.save(order);
+
+        Assertions.assertThat(repository.findById(order.id())).containsSame(order);
+        Assertions.assertThat(repository.existsById(order.id())).isTrue();
+        Assertions.assertThat(repository.findById(new OrderId())).isEmpty();
+        Assertions.assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIndexByCustomer() {
+        CustomerId customerId = new CustomerId();
+        Order first = OrderTestDataBuilder.anOrder().setCustomerId(customerId).build();
+        Order second = OrderTestDataBuilder.anOrder().setCustomerId(customerId).build();
+        Order other = OrderTestDataBuilder.anOrder().build();
+
+        repository.save(first);
+        repository.save(second);
+        repository.save(other);
+
+        Assertions.assertThat(repository.findByCustomerId(customerId)).containsExactlyInAnyOrder(first, second);
+        Assertions.assertThat(repository.findByCustomerId(new CustomerId())).isEmpty();
+    }
+
+    @Test
+    void shouldMoveBetweenStatusIndexesOnSave() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        repository.save(order);
+
+        Assertions.assertThat(repository.findByStatus(OrderStatus.DRAFT)).containsExactly(order);
+
+        order.place();
+        repository.save(order);
+
+        Assertions.assertThat(repository.findByStatus(OrderStatus.DRAFT)).isEmpty();
+        Assertions.assertThat(repository.findByStatus(OrderStatus.PLACED)).containsExactly(order);
+        Assertions.assertThat(repository.countByStatus(OrderStatus.DRAFT)).isZero();
+        Assertions.assertThat(repository.countByStatus(OrderStatus.PLACED)).isEqualTo(1);
+    }
+
+    @Test
+    void givenCursorShouldPageInCreationOrderWithoutRepeating() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Order order = OrderTestDataBuilder.anOrder().build();
+            orders.add(order);
+        }
+        // Gravados fora de ordem: a página segue o id, não a gravação
+        orders.reversed().forEach(repository::save);
+
+        List<Order> first = repository.findAfter(null, null, 3);
+        List<Order> second = repository.findAfter(null, first.getLast().id(), 3);
+        List<Order> third = repository.findAfter(null, second.getLast().id(), 3);
+
+        Assertions.assertThat(first).containsExactlyElementsOf(orders.subList(0, 3));
+        Assertions.assertThat(second).containsExactlyElementsOf(orders.subList(3, 6));
+        Assertions.assertThat(third).containsExactly(orders.get(6));
+        Assertions.assertThat(repository.findBefore(null, null, 2)).containsExactly(orders.get(6), orders.get(5));
+        Assertions.assertThat(repository.findBefore(null, orders.get(2).id(), 10))
+                .containsExactly(orders.get(1), orders.get(0));
+    }
+
+    @Test
+    void givenStatusShouldPageOnlyOrdersWithIt() {
+        Order draft = OrderTestDataBuilder.anOrder().build();
+        Order placed = OrderTestDataBuilder.anOrder().build();
+        Order newerDraft = OrderTestDataBuilder.anOrder().build();
+        repository.save(draft);
+        repository.save(placed);
+        repository.save(newerDraft);
+
+        placed.place();
+        repository.save(placed);
+
+        Assertions.assertThat(repository.findBefore(OrderStatus.DRAFT, null, 10)).containsExactly(newerDraft, draft);
+        Assertions.assertThat(repository.findAfter(OrderStatus.PLACED, null, 10)).containsExactly(placed);
+        Assertions.assertThat(repository.findAfter(OrderStatus.PLACED, placed.id(), 10)).isEmpty();
+    }
+
+    @Test
+    void givenTimeRangeShouldFindPlacedAndPaidOrdersInIt() throws Exception {
+        Order before = OrderTestDataBuilder.anOrder().build();
+        before.place();
+        repository.save(before);
+        Thread.sleep(5);
+
+        OffsetDateTime from = DomainClock.now();
+        Order placed = OrderTestDataBuilder.anOrder().build();
+        Order paid = OrderTestDataBuilder.anOrder().build();
+        placed.place();
+        paid.place();
+        paid.markAsPaid();
+        repository.save(placed);
+        repository.save(paid);
+        Thread.sleep(5);
+        OffsetDateTime to = DomainClock.now();
+
+        Assertions.assertThat(repository.findPlacedBetween(from, to, 10)).containsExactlyInAnyOrder(placed, paid);
+        Assertions.assertThat(repository.findPlacedBetween(from, to, 1)).hasSize(1);
+        Assertions.assertThat(repository.findPaidBetween(from, to, 10)).containsExactly(paid);
+        Assertions.assertThat(repository.findPaidBetween(to, from, 10)).isEmpty();
+    }
+
+    @Test
+    void givenConcurrentWritersShouldKeepIndexesConsistent() throws Exception {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            orders.add(OrderTestDataBuilder.anOrder().build());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < 8; worker++) {
+                int offset = worker;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < orders.size(); i += 8) {
+                        Order order = orders.get(i);
+                        repository.save(order);
+                        order.place();
+                        repository.save(order);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertThat(repository.count()).isEqualTo(2_000);
+        Assertions.assertThat(repository.countByStatus(OrderStatus.PLACED)).isEqualTo(2_000);
+        Assertions.assertThat(repository.countByStatus(OrderStatus.DRAFT)).isZero();
+    }
+
+    @Test
+    void givenListenerShouldPublishPendingEventsOnSave() {
+        List<OrderEvent> published = new ArrayList<>();
+        InMemoryOrderRepository publishing = new InMemoryOrderRepository(List.<OrderEventListener>of(events -> {
+            published.addAll(events);
+            return CompletableFuture.completedFuture(null);
+        }));
+        Order order = OrderTestDataBuilder.anOrder().build();
+
+        publishing.save(order);
+        publishing.save(order);
+
+        Assertions.assertThat(published).hasSize(6);
+        Assertions.assertThat(order.domainEvents()).isEmpty();
+    }
+
+    @Test
+    void givenFailingDurableListenerShouldNotPublishTheChange() {
+        List<OrderEvent> published = new ArrayList<>();
+        FailingJournal journal = new FailingJournal();
+        InMemoryOrderRepository publishing = new InMemoryOrderRepository(List.of(events -> {
+            published.addAll(events);
+            return CompletableFuture.completedFuture(null);
+        }, journal));
+        Order order = OrderTestDataBuilder.anOrder().build();
+        publishing.save(order);
+        published.clear();
+
+        Order changed = order.copy();
+        changed.place();
+        journal.failing = true;
+
+        Assertions.assertThatThrownBy(() -> publishing.compareAndSave(changed))
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        Assertions.assertThat(publishing.findById(order.id())).containsSame(order);
+        Assertions.assertThat(publishing.findByStatus(OrderStatus.PLACED)).isEmpty();
+        Assertions.assertThat(changed.version()).isEqualTo(order.version());
+        Assertions.assertThat(changed.domainEvents()).isNotEmpty();
+        Assertions.assertThat(published).isEmpty();
+
+        journal.failing = false;
+        Assertions.assertThat(publishing.compareAndSave(changed)).isTrue();
+        Assertions.assertThat(publishing.findByStatus(OrderStatus.PLACED)).containsExactly(changed);
+    }
+
+    @Test
+    void givenStaleCopyShouldRejectCompareAndSave() {
+        Order order = OrderTestDataBuilder.anOrder().build();
+        repository.save(order);
+
+        Order first = order.copy();
+        Order second = order.copy();
+        first.place();
+        second.cancel();
+
+        Assertions.assertThat(repository.compareAndSave(first)).isTrue();
+        Assertions.assertThat(repository.compareAndSave(second)).isFalse();
+        Assertions.assertThat(repository.findById(order.id())).containsSame(first);
+        Assertions.assertThat(first.version()).isEqualTo(2);
+        Assertions.assertThat(second.domainEvents()).isNotEmpty();
+        Assertions.assertThat(order.orderStatus()).isEqualTo(OrderStatus.DRAFT);
+    }
+
+    @Test
+    void givenRacingPaymentAndCancellationShouldNotLoseEitherUpdate() throws Exception {
+        Order order = OrderTestDataBuilder.anOrder().setOrderStatus(OrderStatus.PLACED).build();
+        repository.save(order);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<?> payment;
+        try {
+            payment = executor.submit(() -> repository.update(order.id(), Order::markAsPaid));
+            executor.submit(() -> repository.update(order.id(), Order::cancel)).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        Order saved = repository.findById(order.id()).orElseThrow();
+        Assertions.assertThat(saved.orderStatus()).isEqualTo(OrderStatus.CANCELED);
+        Assertions.assertThat(repository.findByStatus(OrderStatus.CANCELED)).containsExactly(saved);
+
+        // Ou o pagamento entrou antes do cancelamento, ou foi reavaliado já cancelado e recusado
+        if (saved.paidAt() != null) {
+            payment.get();
+            Assertions.assertThat(saved.version()).isEqualTo(3);
+        } else {
+            Assertions.assertThatThrownBy(payment::get).hasCauseInstanceOf(OrderStatusCannotBeChangedException.class);
+            Assertions.assertThat(saved.version()).isEqualTo(2);
+        }
+    }
+
+    private static final class FailingJournal implements OrderEventListener {
+
+        private volatile boolean failing;
+
+        @Override
+        public CompletableFuture<Void> on(List<OrderEvent> events) {
+            return failing ? CompletableFuture.failedFuture(new IllegalStateException("Disk full."))
+                    : CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public boolean isDurable() {
+            return true;
+        }
+    }
+}
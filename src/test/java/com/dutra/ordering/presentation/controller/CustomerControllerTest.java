@@ -0,0 +1,115 @@
+package com.dutra.ordering.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CustomerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void givenCustomerShouldCreateFindUpdateAndArchive() throws Exception {
+        String id = create(uniqueEmail());
+        String newEmail = uniqueEmail();
+
+        mockMvc.perform(get("/customers/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("João"))
+                .andExpect(jsonPath("$.loyaltyPoints").value(0));
+
+        mockMvc.perform(patch("/customers/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lastName": "Souza", "email": "%s", "promotionNotificationsAllowed": false}
+                                """.formatted(newEmail)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("João"))
+                .andExpect(jsonPath("$.lastName").value("Souza"))
+                .andExpect(jsonPath("$.email").value(newEmail))
+                .andExpect(jsonPath("$.promotionNotificationsAllowed").value(false));
+
+        mockMvc.perform(delete("/customers/{id}", id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/customers/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived").value(true));
+
+        mockMvc.perform(patch("/customers/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"phone": "48988888888"}
+                                """))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void givenEmailInUseShouldReturnConflict() throws Exception {
+        String email = uniqueEmail();
+        create(email);
+
+        mockMvc.perform(post("/customers").contentType(MediaType.APPLICATION_JSON).content(aCustomer(email)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void givenIdsShouldReturnCustomers() throws Exception {
+        String first = create(uniqueEmail());
+        String second = create(uniqueEmail());
+
+        mockMvc.perform(get("/customers").param("ids", first, second, UUID.randomUUID().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(first))
+                .andExpect(jsonPath("$[1].id").value(second));
+    }
+
+    @Test
+    void givenInvalidInputShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/customers").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"firstName": "João"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/customers").contentType(MediaType.APPLICATION_JSON).content(aCustomer("not-an-email")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String create(String email) throws Exception {
+        String body = mockMvc.perform(post("/customers").contentType(MediaType.APPLICATION_JSON)
+                        .content(aCustomer(email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body).get("id").asText();
+    }
+
+    private static String uniqueEmail() {
+        return "customer-" + UUID.randomUUID() + "@email.com";
+    }
+
+    private static String aCustomer(String email) {
+        return """
+                {"firstName": "João", "lastName": "da Silva", "birthDate": "1990-05-20", "email": "%s",
+                 "phone": "48999999999", "document": "12345678900", "promotionNotificationsAllowed": true,
+                 "address": {"street": "Rua de Teste", "number": "100", "neighborhood": "Centro",
+                             "city": "Florianópolis", "state": "SC", "zipCode": "88000000"}}
+                """.formatted(email);
+    }
+}
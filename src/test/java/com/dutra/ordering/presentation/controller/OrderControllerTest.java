@@ -0,0 +1,330 @@
+package com.dutra.ordering.presentation.controller;
+
+import com.dutra.ordering.domain.entity.Customer;
+import com.dutra.ordering.domain.entity.builder.CustomerTestDataBuilder;
+import com.dutra.ordering.domain.entity.builder.OrderTestDataBuilder;
+import com.dutra.ordering.domain.repository.CustomerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = CustomerTestDataBuilder.aCustomer().build();
+        customerRepository.save(customer);
+    }
+
+    @Test
+    void givenCheckoutFlowShouldPlaceAndPayOrder() throws Exception {
+        String orderId = draft();
+        UUID productId = UUID.randomUUID();
+
+        mockMvc.perform(post("/orders/{id}/items", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": "%s", "productName": "Notebook", "price": 4500.00, "quantity": 2}
+                                """.formatted(productId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems").value(2))
+                .andExpect(jsonPath("$.items[0].productId").value(productId.toString()));
+
+        mockMvc.perform(put("/orders/{id}/shipping", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"recipient": %s, "cost": 25.00, "expectedDeliveryDate": "%s"}
+                                """.formatted(aContact(), OrderTestDataBuilder.aValidDeliveryDate())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shippingCost").value(25.0));
+
+        mockMvc.perform(put("/orders/{id}/billing", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content(aContact()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/orders/{id}/payment-method", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"paymentMethod": "CREDIT_CARD"}
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/orders/{id}/place", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PLACED"));
+
+        mockMvc.perform(post("/orders/{id}/pay", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"))
+                .andExpect(jsonPath("$.paidAt").isNotEmpty());
+    }
+
+    @Test
+    void givenShippingWithoutCostShouldUseQuote() throws Exception {
+        String orderId = draft();
+
+        mockMvc.perform(post("/orders/{id}/items", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": "%s", "productName": "Notebook", "price": 4500.00, "quantity": 2}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isOk());
+
+        String quote = mockMvc.perform(get("/orders/{id}/shipping-quote", orderId).param("zipCode", "88000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cost").isNumber())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode expected = objectMapper.readTree(quote);
+
+        mockMvc.perform(put("/orders/{id}/shipping", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"recipient": %s}
+                                """.formatted(aContact())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shippingCost").value(expected.get("cost").decimalValue()))
+                .andExpect(jsonPath("$.expectedDeliveryDate").value(expected.get("expectedDeliveryDate").asText()));
+    }
+
+    @Test
+    void givenShippingCostAboveItemsAmountShouldStillQuote() throws Exception {
+        String orderId = draft();
+
+        mockMvc.perform(post("/orders/{id}/items", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": "%s", "productName": "Caneta", "price": 5.00, "quantity": 1}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isOk());
+
+        String before = mockMvc.perform(get("/orders/{id}/shipping-quote", orderId).param("zipCode", "88000000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(put("/orders/{id}/shipping", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"recipient": %s, "cost": 50.00, "expectedDeliveryDate": "%s"}
+                                """.formatted(aContact(), OrderTestDataBuilder.aValidDeliveryDate())))
+                .andExpect(status().isOk());
+
+        // O frete já definido não entra na faixa de valor do carrinho
+        mockMvc.perform(get("/orders/{id}/shipping-quote", orderId).param("zipCode", "88000000"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(before));
+    }
+
+    @Test
+    void givenShippingWithCostButNoDateShouldReturnBadRequest() throws Exception {
+        String orderId = draft();
+
+        mockMvc.perform(put("/orders/{id}/shipping", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"recipient": %s, "cost": 25.00}
+                                """.formatted(aContact())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenItemWithoutNameAndPriceAndUnknownProductShouldReturnUnprocessable() throws Exception {
+        String orderId = draft();
+
+        mockMvc.perform(post("/orders/{id}/items", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": "%s", "quantity": 1}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void givenItemWithNameButNoPriceShouldReturnBadRequest() throws Exception {
+        String orderId = draft();
+
+        mockMvc.perform(post("/orders/{id}/items", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": "%s", "productName": "Notebook", "quantity": 1}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenRetriedPlaceWithSameIdempotencyKeyShouldReturnFirstResponse() throws Exception {
+        String orderId = draft();
+        checkout(orderId);
+        String key = UUID.randomUUID().toString();
+
+        String first = mockMvc.perform(post("/orders/{id}/place", orderId).header("Idempotency-Key", key))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/orders/{id}/place", orderId).header("Idempotency-Key", key))
+                .andExpect(status().isOk())
+                .andExpect(content().json(first));
+        mockMvc.perform(post("/orders/{id}/place", orderId))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/orders/{id}/pay", orderId).header("Idempotency-Key", key))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void givenRetriedDraftWithSameIdempotencyKeyShouldNotDuplicateOrder() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = """
+                {"customerId": "%s"}
+                """.formatted(customer.id());
+
+        String first = mockMvc.perform(post("/orders").header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/orders").header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(objectMapper.readTree(first).get("id").asText()));
+    }
+
+    @Test
+    void givenIdsShouldReturnOrdersInRequestedOrder() throws Exception {
+        String first = draft();
+        String second = draft();
+
+        mockMvc.perform(get("/orders").param("ids", second + "," + first + "," + second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(second))
+                .andExpect(jsonPath("$[1].id").value(first));
+
+        mockMvc.perform(get("/orders").param("customerId", customer.id().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void givenCursorShouldListRecentOrdersPageByPage() throws Exception {
+        String older = draft();
+        String newer = draft();
+
+        mockMvc.perform(get("/orders/page").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id").value(newer))
+                .andExpect(jsonPath("$.next").value(newer));
+
+        mockMvc.perform(get("/orders/page").param("before", newer).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id").value(older))
+                .andExpect(jsonPath("$.next").value(older));
+
+        mockMvc.perform(get("/orders/page").param("after", older).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id").value(newer));
+    }
+
+    @Test
+    void givenPageLimitAboveMaximumShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/orders/page").param("limit", String.valueOf(OrderController.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenTooManyIdsShouldReturnBadRequest() throws Exception {
+        String ids = String.join(",", Collections.nCopies(OrderController.MAX_IDS_PER_REQUEST + 1, draft()));
+
+        mockMvc.perform(get("/orders").param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenUnknownOrderShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/orders/{id}", "0AAAAAAAAAAAA"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").isNotEmpty());
+    }
+
+    @Test
+    void givenInvalidTransitionShouldReturnConflict() throws Exception {
+        String orderId = draft();
+
+        mockMvc.perform(post("/orders/{id}/pay", orderId))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void givenDraftWithoutCheckoutDataWhenPlacedShouldReturnUnprocessableEntity() throws Exception {
+        String orderId = draft();
+
+        mockMvc.perform(post("/orders/{id}/place", orderId))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void givenUnknownCustomerShouldNotDraft() throws Exception {
+        mockMvc.perform(post("/orders").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"customerId": "%s"}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isNotFound());
+    }
+
+    private String draft() throws Exception {
+        String body = mockMvc.perform(post("/orders").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"customerId": "%s"}
+                                """.formatted(customer.id())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("DRAFT"))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode order = objectMapper.readTree(body);
+        return order.get("id").asText();
+    }
+
+    private void checkout(String orderId) throws Exception {
+        mockMvc.perform(post("/orders/{id}/items", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"productId": "%s", "productName": "Notebook", "price": 4500.00, "quantity": 1}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/orders/{id}/shipping", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"recipient": %s, "cost": 25.00, "expectedDeliveryDate": "%s"}
+                                """.formatted(aContact(), OrderTestDataBuilder.aValidDeliveryDate())))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/orders/{id}/billing", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content(aContact()))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/orders/{id}/payment-method", orderId).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"paymentMethod": "CREDIT_CARD"}
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    private static String aContact() {
+        return """
+                {"firstName": "Fulano", "lastName": "de Tal", "document": "12345678900", "phone": "48999999999",
+                 "address": {"street": "Rua de Teste", "number": "100", "neighborhood": "Centro",
+                             "city": "Florianópolis", "state": "SC", "zipCode": "88000000"}}
+                """;
+    }
+}